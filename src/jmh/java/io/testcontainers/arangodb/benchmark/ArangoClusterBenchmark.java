@@ -0,0 +1,103 @@
+package io.testcontainers.arangodb.benchmark;
+
+import io.testcontainers.arangodb.cluster.ArangoCluster;
+import io.testcontainers.arangodb.cluster.ArangoClusterBuilder;
+import io.testcontainers.arangodb.containers.ArangoMemoryProfile;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Cluster start (until cluster is healthy) and stop latency for different topologies.
+ * <p>
+ * Topology is specified as {@code agents-dbservers-coordinators}, memory is per node budget.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArangoClusterBenchmark {
+
+    @Param({ "arangodb:3.12.4" })
+    public String image;
+
+    @Param({ "1-1-1", "1-2-2", "3-2-2", "3-3-3" })
+    public String topology;
+
+    @Param({ "false", "true" })
+    public boolean password;
+
+    /**
+     * Per node memory budget in MB, 0 means no limits
+     */
+    @Param({ "0", "512" })
+    public int memory;
+
+    private ArangoCluster createCluster() {
+        final String[] nodes = topology.split("-");
+        final ArangoClusterBuilder builder = ArangoCluster.builder(image)
+                .withAgentNodes(Integer.parseInt(nodes[0]))
+                .withDatabaseNodes(Integer.parseInt(nodes[1]))
+                .withCoordinatorNodes(Integer.parseInt(nodes[2]));
+        if (memory > 0) {
+            builder.withMemoryProfile(ArangoMemoryProfile.of(memory * 1024L * 1024L, 1.0));
+        }
+
+        return (password)
+                ? builder.withPassword("benchmark").build()
+                : builder.withoutAuth().build();
+    }
+
+    /**
+     * Created but not started fixture, used by {@link #start(Created)} only
+     */
+    @State(Scope.Thread)
+    public static class Created {
+
+        ArangoCluster cluster;
+
+        @Setup(Level.Invocation)
+        public void setup(ArangoClusterBenchmark benchmark) {
+            cluster = benchmark.createCluster();
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            cluster.stop();
+        }
+    }
+
+    /**
+     * Started fixture, used by {@link #stop(Started)} only
+     */
+    @State(Scope.Thread)
+    public static class Started {
+
+        ArangoCluster cluster;
+
+        @Setup(Level.Invocation)
+        public void setup(ArangoClusterBenchmark benchmark) {
+            cluster = benchmark.createCluster();
+            cluster.start();
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            // no-op when benchmark stopped fixture, cleans up when it failed
+            cluster.stop();
+        }
+    }
+
+    @Benchmark
+    public ArangoCluster start(Created created) {
+        created.cluster.start();
+        return created.cluster;
+    }
+
+    @Benchmark
+    public ArangoCluster stop(Started started) {
+        started.cluster.stop();
+        return started.cluster;
+    }
+}
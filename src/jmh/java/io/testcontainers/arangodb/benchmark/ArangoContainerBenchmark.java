@@ -0,0 +1,90 @@
+package io.testcontainers.arangodb.benchmark;
+
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Single container start-to-ready and teardown latency for every authentication mode.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArangoContainerBenchmark {
+
+    public enum Auth {
+        NO_AUTH,
+        PASSWORD,
+        RANDOM_PASSWORD
+    }
+
+    @Param({ "arangodb:3.12.4" })
+    public String image;
+
+    @Param({ "NO_AUTH", "PASSWORD", "RANDOM_PASSWORD" })
+    public Auth auth;
+
+    private ArangoContainer createContainer() {
+        final ArangoContainer arangoContainer = new ArangoContainer(image);
+        return switch (auth) {
+            case NO_AUTH -> arangoContainer.withoutAuth();
+            case PASSWORD -> arangoContainer.withPassword("benchmark");
+            case RANDOM_PASSWORD -> arangoContainer.withRandomPassword();
+        };
+    }
+
+    /**
+     * Created but not started fixture, used by {@link #startToReady(Created)} only
+     */
+    @State(Scope.Thread)
+    public static class Created {
+
+        ArangoContainer container;
+
+        @Setup(Level.Invocation)
+        public void setup(ArangoContainerBenchmark benchmark) {
+            container = benchmark.createContainer();
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            container.stop();
+        }
+    }
+
+    /**
+     * Started fixture, used by {@link #stop(Started)} only
+     */
+    @State(Scope.Thread)
+    public static class Started {
+
+        ArangoContainer container;
+
+        @Setup(Level.Invocation)
+        public void setup(ArangoContainerBenchmark benchmark) {
+            container = benchmark.createContainer();
+            container.start();
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            // no-op when benchmark stopped fixture, cleans up when it failed
+            container.stop();
+        }
+    }
+
+    @Benchmark
+    public ArangoContainer startToReady(Created created) {
+        created.container.start();
+        return created.container;
+    }
+
+    @Benchmark
+    public ArangoContainer stop(Started started) {
+        started.container.stop();
+        return started.container;
+    }
+}
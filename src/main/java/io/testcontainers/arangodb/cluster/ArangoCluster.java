@@ -1,72 +1,66 @@
 package io.testcontainers.arangodb.cluster;
 
 import io.testcontainers.arangodb.cluster.ArangoClusterContainer.NodeType;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.containers.ArangoDeployment;
+import io.testcontainers.arangodb.containers.ArangoStartupEvent;
+import io.testcontainers.arangodb.containers.StartupReport;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import io.testcontainers.arangodb.util.ArangoExecutors;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.Network;
 import org.testcontainers.lifecycle.Startable;
 import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.TestcontainersConfiguration;
 
 /**
  * @author Anton Kurako (GoodforGod)
  * @see ArangoClusterBuilder
  * @since 14.11.2020
  */
-public class ArangoCluster implements Startable {
+public class ArangoCluster implements Startable, ArangoDeployment {
 
-    public static final class HostAndPort {
-
-        private final String host;
-        private final int port;
-
-        private HostAndPort(String host, int port) {
-            this.host = host;
-            this.port = port;
-        }
-
-        public String host() {
-            return host;
-        }
-
-        public int port() {
-            return port;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o)
-                return true;
-            if (o == null || getClass() != o.getClass())
-                return false;
-            HostAndPort that = (HostAndPort) o;
-            return port == that.port && Objects.equals(host, that.host);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(host, port);
-        }
-
-        @Override
-        public String toString() {
-            return "[host=" + host + ", port=" + port + ']';
-        }
-    }
+    private static final Logger logger = LoggerFactory.getLogger(ArangoCluster.class);
 
     private static final String DEFAULT_USER = "root";
+    private static final Duration NODES_TIMEOUT = Duration.ofMinutes(15);
+    private static final String NODE_TYPE = "CLUSTER";
 
     private final ArangoClusterContainer agentLeader;
     private final List<ArangoClusterContainer> coordinators;
     private final List<ArangoClusterContainer> agents;
     private final List<ArangoClusterContainer> databases;
 
+    private final String clusterId;
     private final String password;
-
-    ArangoCluster(List<ArangoClusterContainer> containers, String password) {
+    private final Duration healthTimeout;
+    private final ArangoClusterScheduler<ArangoClusterContainer> scheduler;
+    private final Executor executor;
+    private final Network ownNetwork;
+    private final boolean reusable;
+
+    private volatile StartupReport startupReport;
+
+    ArangoCluster(String clusterId,
+                  List<ArangoClusterContainer> containers,
+                  Map<ArangoClusterContainer, List<ArangoClusterContainer>> dependencies,
+                  String password,
+                  Duration healthTimeout,
+                  @Nullable Executor executor,
+                  @Nullable Network ownNetwork,
+                  boolean reusable) {
         this.coordinators = containers.stream()
                 .filter(c -> c.getType().equals(NodeType.COORDINATOR))
                 .toList();
@@ -82,7 +76,13 @@ public String toString() {
         this.databases = containers.stream()
                 .filter(c -> c.getType().equals(NodeType.DBSERVER))
                 .toList();
+        this.clusterId = clusterId;
         this.password = password;
+        this.healthTimeout = healthTimeout;
+        this.scheduler = new ArangoClusterScheduler<>(dependencies, ArangoClusterContainer::getAlias);
+        this.executor = executor;
+        this.ownNetwork = ownNetwork;
+        this.reusable = reusable;
     }
 
     public static ArangoClusterBuilder builder(String imageVersion) {
@@ -129,10 +129,44 @@ public ArangoClusterContainer getAgentLeader() {
         return this.agentLeader;
     }
 
+    /**
+     * @return identifier that is part of every cluster node alias
+     */
+    public String getClusterId() {
+        return clusterId;
+    }
+
+    @Override
     public String getPassword() {
         return password;
     }
 
+    /**
+     * @return true if cluster is created with password, false when created without authentication
+     */
+    @Override
+    public boolean isAuthenticationEnabled() {
+        return password != null;
+    }
+
+    /**
+     * @return true if cluster is created with reuse, it is left running on {@link #stop()} when
+     *             Testcontainers reuse is enabled in environment
+     * @see ArangoClusterBuilder#withReuse()
+     */
+    public boolean isReusable() {
+        return reusable;
+    }
+
+    /**
+     * @return true if last {@link #start()} adopted already running cluster instead of starting new
+     *             one
+     */
+    public boolean isReused() {
+        return getContainers().stream().allMatch(ArangoContainer::isReused);
+    }
+
+    @Override
     public String getUser() {
         return DEFAULT_USER;
     }
@@ -145,56 +179,124 @@ public Integer getPort() {
         return getCoordinator(0).getPort();
     }
 
+    @Override
     public List<HostAndPort> getHostsAndPorts() {
         return getCoordinators().stream()
                 .map(c -> new HostAndPort(c.getHost(), c.getPort()))
                 .toList();
     }
 
+    /**
+     * @return cluster startup phases timings with reports of every node for last successful
+     *             {@link #start()} or null if cluster was never started
+     */
+    public @Nullable StartupReport getStartupReport() {
+        return startupReport;
+    }
+
     @Override
     public void start() {
+        final ExecutorService ownExecutor = (executor == null)
+                ? ArangoExecutors.newThreadPerTaskExecutor("arangodb-cluster-start")
+                : null;
         try {
-            agentLeader.start();
-
-            final CompletableFuture[] agentFutures = agents.stream()
-                    .map(c -> CompletableFuture.runAsync(c::start))
-                    .toArray(CompletableFuture[]::new);
-            CompletableFuture.allOf(agentFutures).get(15, TimeUnit.MINUTES);
-
-            final CompletableFuture[] otherFutures = Stream.concat(databases.stream(), coordinators.stream())
-                    .map(c -> CompletableFuture.runAsync(c::start))
-                    .toArray(CompletableFuture[]::new);
-            CompletableFuture.allOf(otherFutures).get(15, TimeUnit.MINUTES);
+            final long started = System.nanoTime();
+            final ArangoStartupEvent nodesEvent = ArangoStartupEvent.begin(StartupReport.Phase.NODES_START);
+            scheduler.start(Objects.requireNonNullElse(executor, ownExecutor), NODES_TIMEOUT, ArangoClusterContainer::start);
+            nodesEvent.end();
+            final Duration nodesDuration = Duration.ofNanos(System.nanoTime() - started);
+            if (isReused()) {
+                logger.info("Adopted running ArangoDB cluster {}", clusterId);
+            }
+
+            final ArangoStartupEvent healthEvent = ArangoStartupEvent.begin(StartupReport.Phase.CLUSTER_HEALTH);
+            final Duration healthDuration = new ArangoClusterHealthCheck(ArangoHttpClient.of(this), agents.size() + 1,
+                    databases.size(), coordinators.size())
+                    .waitUntilHealthy(healthTimeout);
+            healthEvent.end();
+
+            nodesEvent.commit(clusterId, NODE_TYPE);
+            healthEvent.commit(clusterId, NODE_TYPE);
+
+            final Map<StartupReport.Phase, Duration> phases = new EnumMap<>(StartupReport.Phase.class);
+            phases.put(StartupReport.Phase.NODES_START, nodesDuration);
+            phases.put(StartupReport.Phase.CLUSTER_HEALTH, healthDuration);
+            final List<StartupReport> nodeReports = getContainers().stream()
+                    .map(ArangoContainer::getStartupReport)
+                    .filter(Objects::nonNull)
+                    .toList();
+            this.startupReport = StartupReport.of(clusterId, NODE_TYPE, phases, Duration.ofNanos(System.nanoTime() - started),
+                    nodeReports);
         } catch (InterruptedException e) {
-            // do nothing
+            // clear interrupt so nodes that did start can be stopped
+            Thread.interrupted();
+            stopAfterFailure(e);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Cluster start interrupted", e);
+        } catch (RuntimeException e) {
+            stopAfterFailure(e);
+            throw e;
         } catch (Exception e) {
-            throw new IllegalStateException(e);
+            stopAfterFailure(e);
+            throw new IllegalStateException("Cluster start failed", e);
+        } finally {
+            if (ownExecutor != null) {
+                ownExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Nodes that did start (or adopted) before failure are stopped with network, so failed start
+     * leaks no containers
+     */
+    private void stopAfterFailure(Exception failure) {
+        try {
+            stopNodes();
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
         }
     }
 
+    /**
+     * Stops cluster nodes, reusable cluster is left running only when Testcontainers reuse is
+     * enabled in environment, otherwise its nodes would not be adopted by next run anyway
+     */
     @Override
     public void stop() {
+        if (reusable && TestcontainersConfiguration.getInstance().environmentSupportsReuse()) {
+            logger.info("ArangoDB cluster {} is reusable and is left running", clusterId);
+            return;
+        }
+
+        stopNodes();
+    }
+
+    /**
+     * Stops and removes cluster nodes even if cluster is reusable, persistent network of reusable
+     * cluster is removed as well.
+     */
+    void stopNodes() {
+        final ExecutorService ownExecutor = (executor == null)
+                ? ArangoExecutors.newThreadPerTaskExecutor("arangodb-cluster-stop")
+                : null;
         try {
-            final CompletableFuture[] coordinatorsFutures = coordinators.stream()
-                    .map(c -> CompletableFuture.runAsync(c::stop))
-                    .toArray(CompletableFuture[]::new);
-            CompletableFuture.allOf(coordinatorsFutures).get(15, TimeUnit.MINUTES);
-
-            final CompletableFuture[] dbFutures = databases.stream()
-                    .map(c -> CompletableFuture.runAsync(c::stop))
-                    .toArray(CompletableFuture[]::new);
-            CompletableFuture.allOf(dbFutures).get(15, TimeUnit.MINUTES);
-
-            final CompletableFuture[] agentFutures = agents.stream()
-                    .map(c -> CompletableFuture.runAsync(c::stop))
-                    .toArray(CompletableFuture[]::new);
-            CompletableFuture.allOf(agentFutures).get(15, TimeUnit.MINUTES);
-
-            agentLeader.stop();
+            try {
+                scheduler.stop(Objects.requireNonNullElse(executor, ownExecutor), NODES_TIMEOUT, ArangoClusterContainer::stop);
+            } finally {
+                if (ownNetwork != null) {
+                    ownNetwork.close();
+                } else if (agentLeader.getNetwork() instanceof ArangoClusterNetwork clusterNetwork) {
+                    clusterNetwork.remove();
+                }
+            }
         } catch (InterruptedException e) {
-            // do nothing
-        } catch (Exception e) {
-            throw new IllegalStateException(e);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Cluster stop interrupted", e);
+        } finally {
+            if (ownExecutor != null) {
+                ownExecutor.shutdown();
+            }
         }
     }
 }
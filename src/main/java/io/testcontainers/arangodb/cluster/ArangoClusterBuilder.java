@@ -4,8 +4,14 @@
 
 import io.testcontainers.arangodb.cluster.ArangoClusterContainer.NodeType;
 import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.containers.ArangoMemoryProfile;
+import io.testcontainers.arangodb.containers.ArangoServerOptions;
+import io.testcontainers.arangodb.logs.ArangoLogs;
+import io.testcontainers.arangodb.util.ArangoSnapshotImages;
+import java.time.Duration;
 import java.util.*;
-import java.util.stream.Stream;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import org.jetbrains.annotations.Nullable;
 import org.testcontainers.containers.Network;
 import org.testcontainers.utility.DockerImageName;
@@ -26,6 +32,7 @@ public class ArangoClusterBuilder {
     private static final int AGENCY_NODES_DEFAULT = 3;
     private static final int DBSERVER_NODES_DEFAULT = 2;
     private static final int COORDINATOR_NODES_DEFAULT = 2;
+    private static final Duration HEALTH_TIMEOUT_DEFAULT = Duration.ofMinutes(2);
 
     private int agentNodes = AGENCY_NODES_DEFAULT;
     private int databaseNodes = DBSERVER_NODES_DEFAULT;
@@ -35,6 +42,16 @@ public class ArangoClusterBuilder {
 
     private String password = null;
     private Boolean noAuth = null;
+    private Duration healthTimeout = HEALTH_TIMEOUT_DEFAULT;
+    private Executor executor = null;
+    private boolean fastStorage = false;
+    private String snapshotRepository = null;
+    private boolean reuse = false;
+    private String identitySalt = null;
+    private ArangoMemoryProfile memoryProfile = null;
+    private ArangoLogs logs = null;
+    private ArangoServerOptions serverOptions = ArangoServerOptions.empty();
+    private final Map<NodeType, ArangoServerOptions> nodeServerOptions = new EnumMap<>(NodeType.class);
 
     ArangoClusterBuilder(DockerImageName image) {
         this.image = image;
@@ -96,66 +113,339 @@ public ArangoClusterBuilder withoutAuth() {
         return this;
     }
 
+    /**
+     * Cluster is considered started when coordinator reports all nodes as GOOD via
+     * {@code /_admin/cluster/health}.
+     *
+     * @param healthTimeout to wait for all cluster nodes to become healthy after they are started
+     * @return self
+     */
+    public ArangoClusterBuilder withHealthTimeout(Duration healthTimeout) {
+        this.healthTimeout = Objects.requireNonNull(healthTimeout);
+        return this;
+    }
+
+    /**
+     * Nodes are started and stopped on specified executor, by default new virtual thread (when
+     * available) per node is used.
+     *
+     * @param executor to start and stop cluster nodes on
+     * @return self
+     */
+    public ArangoClusterBuilder withExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    /**
+     * Setup every cluster node to keep data on tmpfs with relaxed durability, all data is lost when
+     * cluster stops.
+     *
+     * @return self
+     * @see ArangoContainer#withFastStorage()
+     */
+    public ArangoClusterBuilder withFastStorage() {
+        this.fastStorage = true;
+        return this;
+    }
+
+    /**
+     * Every node container is limited to profile budget with ArangoDB caches and threads sized
+     * accordingly, so several clusters can be packed onto one host.
+     *
+     * @param memoryProfile per node budget
+     * @return self
+     * @see ArangoContainer#withMemoryProfile(ArangoMemoryProfile)
+     */
+    public ArangoClusterBuilder withMemoryProfile(ArangoMemoryProfile memoryProfile) {
+        this.memoryProfile = Objects.requireNonNull(memoryProfile);
+        return this;
+    }
+
+    /**
+     * Nodes log via SLF4J from background thread by default.
+     *
+     * @param logs pipeline configuration of every node
+     * @return self
+     * @see ArangoContainer#withLogs(ArangoLogs)
+     */
+    public ArangoClusterBuilder withLogs(ArangoLogs logs) {
+        this.logs = Objects.requireNonNull(logs);
+        return this;
+    }
+
+    /**
+     * @param serverOptions to start every node with, merged with options specified earlier
+     * @return self
+     * @throws IllegalArgumentException if options define node place in cluster, such as
+     *                                      {@code agency.*} or {@code cluster.*}
+     */
+    public ArangoClusterBuilder withServerOptions(ArangoServerOptions serverOptions) {
+        ArangoClusterContainer.requireNotManaged(serverOptions);
+        this.serverOptions = this.serverOptions.merge(serverOptions);
+        return this;
+    }
+
+    /**
+     * Options of node type replace options with same names specified for all nodes,
+     * {@link NodeType#AGENT} options apply to agent leader as well.
+     *
+     * @param type          of nodes to start with options
+     * @param serverOptions to start nodes with, merged with options specified earlier for same type
+     * @return self
+     * @throws IllegalArgumentException if options define node place in cluster, such as
+     *                                      {@code agency.*} or {@code cluster.*}
+     */
+    public ArangoClusterBuilder withServerOptions(NodeType type, ArangoServerOptions serverOptions) {
+        ArangoClusterContainer.requireNotManaged(serverOptions);
+        this.nodeServerOptions.merge(type, serverOptions, ArangoServerOptions::merge);
+        return this;
+    }
+
+    /**
+     * Cluster nodes are started from per node images of already bootstrapped cluster with same
+     * topology, image and authentication, so agency election, dbservers registration and system
+     * collections creation are skipped.
+     * <p>
+     * When snapshot is not cached yet, {@link #build()} bootstraps cluster from base image once and
+     * captures its nodes, which takes about as long as usual cluster start. Cluster identifier is
+     * derived from topology hash instead of being random, so each cluster gets its own network
+     * unless network is specified explicitly.
+     *
+     * @return self
+     */
+    public ArangoClusterBuilder withSnapshot() {
+        return withSnapshot(ArangoClusterSnapshot.REPOSITORY_DEFAULT);
+    }
+
+    /**
+     * @param repository of node snapshot images
+     * @return self
+     * @see #withSnapshot()
+     */
+    public ArangoClusterBuilder withSnapshot(String repository) {
+        this.snapshotRepository = Objects.requireNonNull(repository);
+        return this;
+    }
+
+    /**
+     * Cluster identifier is derived from topology hash instead of being random and every node is
+     * created with Testcontainers reuse enabled on persistent {@code arangodb-cluster-<id>} network
+     * (unless network is specified explicitly), so {@link ArangoCluster#start()} adopts already
+     * running healthy cluster left by previous run instead of starting new one.
+     * <p>
+     * Reusable cluster is left running on {@link ArangoCluster#stop()} and keeps its data between
+     * runs. Reuse must be enabled with {@code testcontainers.reuse.enable=true} in
+     * {@code ~/.testcontainers.properties}, otherwise new cluster is started every time.
+     *
+     * @return self
+     */
+    public ArangoClusterBuilder withReuse() {
+        this.reuse = true;
+        return this;
+    }
+
+    /**
+     * @param identitySalt part of topology hash, so clusters of same topology get different identity
+     * @return self
+     */
+    ArangoClusterBuilder withIdentitySalt(@Nullable String identitySalt) {
+        this.identitySalt = identitySalt;
+        return this;
+    }
+
+    /**
+     * @return independent builder with same configuration
+     */
+    ArangoClusterBuilder copy() {
+        final ArangoClusterBuilder copy = new ArangoClusterBuilder(image);
+        copy.agentNodes = agentNodes;
+        copy.databaseNodes = databaseNodes;
+        copy.coordinatorNodes = coordinatorNodes;
+        copy.password = password;
+        copy.noAuth = noAuth;
+        copy.healthTimeout = healthTimeout;
+        copy.executor = executor;
+        copy.fastStorage = fastStorage;
+        copy.snapshotRepository = snapshotRepository;
+        copy.reuse = reuse;
+        copy.identitySalt = identitySalt;
+        copy.memoryProfile = memoryProfile;
+        copy.logs = logs;
+        copy.serverOptions = serverOptions;
+        copy.nodeServerOptions.putAll(nodeServerOptions);
+        return copy;
+    }
+
     public ArangoCluster build() {
         return build(null);
     }
 
     public ArangoCluster build(@Nullable Network network) {
-        return new ArangoCluster(buildContainers(network), password);
+        validate();
+        final String clusterId = (snapshotRepository != null || reuse)
+                ? topologyHash().substring(0, 8)
+                : UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+
+        Function<String, DockerImageName> images = alias -> image;
+        if (snapshotRepository != null) {
+            final ArangoClusterSnapshot snapshot = new ArangoClusterSnapshot(snapshotRepository, image);
+            if (!snapshot.isCached(aliases(clusterId))) {
+                snapshot.capture(buildCluster(clusterId, Network.newNetwork(), true, false, images));
+            }
+            images = snapshot::image;
+        }
+
+        if (network != null) {
+            return buildCluster(clusterId, network, false, reuse, images);
+        } else if (reuse) {
+            return buildCluster(clusterId, new ArangoClusterNetwork("arangodb-cluster-" + clusterId), false, true, images);
+        } else if (snapshotRepository != null) {
+            // same aliases on shared network would clash between clusters restored from same snapshot
+            return buildCluster(clusterId, Network.newNetwork(), true, false, images);
+        } else {
+            return buildCluster(clusterId, Network.SHARED, false, false, images);
+        }
     }
 
-    private List<ArangoClusterContainer> buildContainers(@Nullable Network network) {
+    private ArangoCluster buildCluster(String clusterId,
+                                       Network network,
+                                       boolean ownNetwork,
+                                       boolean reusable,
+                                       Function<String, DockerImageName> images) {
+        final Map<ArangoClusterContainer, List<ArangoClusterContainer>> dependencies = buildContainers(clusterId, network,
+                reusable, images);
+        final List<ArangoClusterContainer> containers = dependencies.keySet().stream()
+                .sorted(Comparator.comparing(ArangoClusterContainer::getType))
+                .toList();
+        return new ArangoCluster(clusterId, containers, dependencies, password, healthTimeout, executor,
+                (ownNetwork) ? network : null, reusable);
+    }
+
+    private ArangoServerOptions getServerOptions(NodeType type) {
+        final ArangoServerOptions empty = ArangoServerOptions.empty();
+        ArangoServerOptions options = serverOptions;
+        if (type == AGENT_LEADER) {
+            options = options.merge(nodeServerOptions.getOrDefault(AGENT, empty));
+        }
+        return options.merge(nodeServerOptions.getOrDefault(type, empty));
+    }
+
+    private List<String> aliases(String clusterId) {
+        final List<String> aliases = new ArrayList<>();
+        aliases.add(AGENT_LEADER.alias(clusterId));
+        for (int i = 2; i <= agentNodes; i++) {
+            aliases.add(AGENT.alias(clusterId, i));
+        }
+        for (int i = 1; i <= databaseNodes; i++) {
+            aliases.add(DBSERVER.alias(clusterId, i));
+        }
+        for (int i = 1; i <= coordinatorNodes; i++) {
+            aliases.add(COORDINATOR.alias(clusterId, i));
+        }
+        return aliases;
+    }
+
+    /**
+     * @return hash of everything that defines cluster bootstrapped state
+     */
+    String topologyHash() {
+        final ArangoSnapshotImages.Hasher hasher = ArangoSnapshotImages.hasher()
+                .put(image.asCanonicalNameString())
+                .put("agents:" + agentNodes)
+                .put("dbservers:" + databaseNodes)
+                .put("coordinators:" + coordinatorNodes)
+                .put((password == null)
+                        ? "no-auth"
+                        : "password:" + password)
+                .put("fast-storage:" + fastStorage)
+                .put("memory:" + memoryProfile)
+                .put("options:" + serverOptions + nodeServerOptions);
+        if (identitySalt != null) {
+            hasher.put("salt:" + identitySalt);
+        }
+        return hasher.hash();
+    }
+
+    private void validate() {
         if (image == null)
             throw new UnsupportedOperationException("Image version can not be empty!");
         if (agentNodes % 2 != 1)
             throw new UnsupportedOperationException("Agent nodes must be odd number!");
-        if (databaseNodes < 2)
-            throw new IllegalArgumentException("Database nodes can not be less 2");
-        if (coordinatorNodes < 2)
-            throw new IllegalArgumentException("Coordinator nodes can not be less 2");
+        if (databaseNodes < 1)
+            throw new IllegalArgumentException("Database nodes can not be less 1");
+        if (coordinatorNodes < 1)
+            throw new IllegalArgumentException("Coordinator nodes can not be less 1");
+        if (fastStorage && snapshotRepository != null)
+            throw new IllegalArgumentException("Fast storage keeps data on tmpfs and can not be used with snapshot");
+    }
+
+    /**
+     * Every node depends only on agent leader cause it is the only agency endpoint nodes are
+     * configured with, other agents, dbservers and coordinators wait for agency to form themselves.
+     *
+     * @param images node image by node alias
+     * @return cluster nodes with nodes they depend on to start
+     */
+    private Map<ArangoClusterContainer, List<ArangoClusterContainer>> buildContainers(String clusterId,
+                                                                                      Network network,
+                                                                                      boolean reusable,
+                                                                                      Function<String, DockerImageName> images) {
 
         final List<ArangoClusterContainer> agents = new ArrayList<>(agentNodes);
         final List<ArangoClusterContainer> databases = new ArrayList<>(databaseNodes);
         final List<ArangoClusterContainer> coordinators = new ArrayList<>(coordinatorNodes);
 
-        final String clusterId = UUID.randomUUID().toString().replace("-", "").substring(0, 8);
-
-        final ArangoClusterContainer leader = ArangoClusterContainer.agent(image, clusterId, 0, agentNodes, true);
+        final ArangoClusterContainer leader = ArangoClusterContainer.agent(images.apply(AGENT_LEADER.alias(clusterId)),
+                clusterId, 0, agentNodes, true);
         agents.add(leader);
 
         // Build agencies
         for (int i = 2; i <= agentNodes; i++) {
-            // Add agency dependency and endpoint of leader agency
-            final ArangoClusterContainer agent = (ArangoClusterContainer) ArangoClusterContainer
-                    .agent(image, clusterId, i, agentNodes, false)
-                    .dependsOn(leader);
-            agents.add(agent);
+            agents.add(ArangoClusterContainer.agent(images.apply(AGENT.alias(clusterId, i)), clusterId, i, agentNodes, false));
         }
 
-        // Build agencies
+        // Build databases
         for (int i = 1; i <= databaseNodes; i++) {
-            final ArangoClusterContainer database = (ArangoClusterContainer) ArangoClusterContainer.dbserver(image, clusterId, i)
-                    .dependsOn(agents);
-            databases.add(database);
+            databases.add(ArangoClusterContainer.dbserver(images.apply(DBSERVER.alias(clusterId, i)), clusterId, i));
         }
 
-        // Build agencies
+        // Build coordinators
         for (int i = 1; i <= coordinatorNodes; i++) {
-            final ArangoClusterContainer coordinator = (ArangoClusterContainer) ArangoClusterContainer
-                    .coordinator(image, clusterId, i)
-                    .dependsOn(agents);
-            coordinators.add(coordinator);
+            coordinators.add(ArangoClusterContainer.coordinator(images.apply(COORDINATOR.alias(clusterId, i)), clusterId, i));
         }
 
-        return Stream.of(agents, databases, coordinators)
-                .flatMap(Collection::stream)
-                .map(c -> {
-                    c.withNetwork(Objects.requireNonNullElse(network, Network.SHARED));
-                    return (password != null && c.getType() == COORDINATOR)
-                            ? c.withPassword(password)
-                            : c.withoutAuth();
-                })
-                .sorted(Comparator.comparing(ArangoClusterContainer::getType))
-                .toList();
+        // Dependencies are scheduled by ArangoCluster instead of container dependsOn,
+        // so nodes are not started again serially inside each other start
+        final Map<ArangoClusterContainer, List<ArangoClusterContainer>> dependencies = new LinkedHashMap<>();
+        for (List<ArangoClusterContainer> nodes : List.of(agents, databases, coordinators)) {
+            for (ArangoClusterContainer node : nodes) {
+                node.withNetwork(network);
+                if (reusable) {
+                    node.withReuse(true);
+                }
+                if (fastStorage) {
+                    node.withFastStorage();
+                }
+                if (memoryProfile != null) {
+                    node.withMemoryProfile(memoryProfile);
+                }
+                if (logs != null) {
+                    node.withLogs(logs);
+                }
+                node.withServerOptions(getServerOptions(node.getType()));
+                if (password != null && node.getType() == COORDINATOR) {
+                    node.withPassword(password);
+                } else {
+                    node.withoutAuth();
+                }
+
+                dependencies.put(node, (node == leader)
+                        ? List.of()
+                        : List.of(leader));
+            }
+        }
+
+        return dependencies;
     }
 }
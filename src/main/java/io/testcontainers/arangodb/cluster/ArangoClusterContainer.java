@@ -1,11 +1,11 @@
 package io.testcontainers.arangodb.cluster;
 
 import io.testcontainers.arangodb.containers.ArangoContainer;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import org.slf4j.LoggerFactory;
-import org.testcontainers.containers.output.Slf4jLogConsumer;
+import io.testcontainers.arangodb.containers.ArangoMemoryProfile;
+import io.testcontainers.arangodb.containers.ArangoServerOptions;
+import io.testcontainers.arangodb.containers.ArangoWaitStrategy;
+import io.testcontainers.arangodb.logs.ArangoLogs;
+import java.util.Set;
 import org.testcontainers.utility.DockerImageName;
 
 /**
@@ -41,6 +41,8 @@ public String alias(String clusterId, int number) {
         }
     }
 
+    private static final Set<String> MANAGED_OPTIONS = Set.of("server.endpoint", "database.directory");
+
     private final NodeType type;
     private final String alias;
 
@@ -48,14 +50,33 @@ private ArangoClusterContainer(DockerImageName dockerImageName, NodeType type, S
         super(dockerImageName);
         this.type = type;
         this.alias = alias;
-        withLogConsumer(new Slf4jLogConsumer(
-                LoggerFactory.getLogger(ArangoClusterContainer.class.getCanonicalName() + " [" + alias + "]")));
+        // cluster availability is checked by ArangoCluster itself
+        waitingFor(new ArangoWaitStrategy().withAvailabilityCheck(false));
+        // logged from background thread, so Docker stream threads are not blocked by logging
+        withLogs(ArangoLogs.slf4j(ArangoClusterContainer.class));
     }
 
     public NodeType getType() {
         return type;
     }
 
+    /**
+     * @return node network alias inside cluster network
+     */
+    public String getAlias() {
+        return alias;
+    }
+
+    @Override
+    protected String getNodeName() {
+        return alias;
+    }
+
+    @Override
+    protected String getNodeType() {
+        return type.name();
+    }
+
     static ArangoClusterContainer agent(DockerImageName image,
                                         String clusterId,
                                         int nodeNumber,
@@ -66,98 +87,107 @@ static ArangoClusterContainer agent(DockerImageName image,
                 ? aliasLeader
                 : NodeType.AGENT.alias(clusterId, nodeNumber);
 
-        final String endpoint = getEndpoint(alias);
-        final List<String> cmd = getCommonCommand(alias);
-        cmd.add("--agency.my-address");
-        cmd.add(endpoint);
-        cmd.add("--agency.activate");
-        cmd.add("true");
-        cmd.add("--agency.size");
-        cmd.add(String.valueOf(totalAgentNodes));
-        cmd.add("--agency.supervision");
-        cmd.add("true");
-        cmd.add("--database.directory");
-        cmd.add("agent");
-        cmd.add("--agency.endpoint");
-        cmd.add(getEndpoint(aliasLeader));
+        final ArangoServerOptions options = getCommonOptions()
+                .with("agency.my-address", getEndpoint(alias))
+                .with("agency.activate", true)
+                .with("agency.size", totalAgentNodes)
+                .with("agency.supervision", true)
+                .with("database.directory", ArangoContainer.DATA_DIRECTORY + "/agent")
+                .with("agency.endpoint", getEndpoint(aliasLeader));
 
         final NodeType type = (leader)
                 ? NodeType.AGENT_LEADER
                 : NodeType.AGENT;
-        return (ArangoClusterContainer) new ArangoClusterContainer(image, type, alias)
-                .withNetworkAliases(alias)
-                .withCommand(cmd.toArray(new String[0]));
+        return create(image, type, alias, options);
     }
 
     static ArangoClusterContainer dbserver(DockerImageName image,
                                            String clusterId,
                                            int nodeNumber) {
         final String alias = NodeType.DBSERVER.alias(clusterId, nodeNumber);
-        final String aliasLeader = NodeType.AGENT_LEADER.alias(clusterId);
-
-        final String endpoint = getEndpoint(alias);
-        final List<String> cmd = getCommonCommand(alias);
-        cmd.add("--cluster.my-local-info");
-        cmd.add(alias);
-        cmd.add("--cluster.my-role");
-        cmd.add("DBSERVER");
-        cmd.add("--cluster.my-address");
-        cmd.add(endpoint);
-        cmd.add("--database.directory");
-        cmd.add("dbserver");
-        cmd.add("--cluster.agency-endpoint");
-        cmd.add(getEndpoint(aliasLeader));
-
-        return (ArangoClusterContainer) new ArangoClusterContainer(image, NodeType.DBSERVER, alias)
-                .withNetworkAliases(alias)
-                .withCommand(cmd.toArray(new String[0]));
+        final ArangoServerOptions options = getClusterOptions(clusterId, alias, "DBSERVER")
+                .with("database.directory", ArangoContainer.DATA_DIRECTORY + "/dbserver");
+        return create(image, NodeType.DBSERVER, alias, options);
     }
 
     static ArangoClusterContainer coordinator(DockerImageName image,
                                               String clusterId,
                                               int nodeNumber) {
         final String alias = NodeType.COORDINATOR.alias(clusterId, nodeNumber);
-        final String aliasLeader = NodeType.AGENT_LEADER.alias(clusterId);
+        final ArangoServerOptions options = getClusterOptions(clusterId, alias, "COORDINATOR")
+                .with("database.directory", ArangoContainer.DATA_DIRECTORY + "/coordinator");
+        return create(image, NodeType.COORDINATOR, alias, options);
+    }
 
-        final String endpoint = getEndpoint(alias);
-        final List<String> cmd = getCommonCommand(alias);
-        cmd.add("--cluster.my-local-info");
-        cmd.add(alias);
-        cmd.add("--cluster.my-role");
-        cmd.add("COORDINATOR");
-        cmd.add("--cluster.my-address");
-        cmd.add(endpoint);
-        cmd.add("--database.directory");
-        cmd.add("coordinator");
-        cmd.add("--cluster.agency-endpoint");
-        cmd.add(getEndpoint(aliasLeader));
-
-        return (ArangoClusterContainer) new ArangoClusterContainer(image, NodeType.COORDINATOR, alias)
+    private static ArangoClusterContainer create(DockerImageName image,
+                                                 NodeType type,
+                                                 String alias,
+                                                 ArangoServerOptions options) {
+        return (ArangoClusterContainer) new ArangoClusterContainer(image, type, alias)
                 .withNetworkAliases(alias)
-                .withCommand(cmd.toArray(new String[0]));
+                .withCommand("arangod")
+                .withServerOptions(options);
     }
 
-    private static List<String> getCommonCommand(String alias) {
-        final List<String> cmd = new ArrayList<>();
-        cmd.add("arangod");
-        cmd.add("--server.endpoint");
-        cmd.add("tcp://0.0.0.0:" + ArangoContainer.PORT);
-        return cmd;
+    private static ArangoServerOptions getCommonOptions() {
+        return ArangoServerOptions.empty()
+                .with("server.endpoint", "tcp://0.0.0.0:" + ArangoContainer.PORT);
+    }
+
+    private static ArangoServerOptions getClusterOptions(String clusterId, String alias, String role) {
+        return getCommonOptions()
+                .with("cluster.my-local-info", alias)
+                .with("cluster.my-role", role)
+                .with("cluster.my-address", getEndpoint(alias))
+                .with("cluster.agency-endpoint", getEndpoint(NodeType.AGENT_LEADER.alias(clusterId)));
     }
 
     private static String getEndpoint(String alias) {
         return "tcp://" + alias + ":" + ArangoContainer.PORT;
     }
 
+    /**
+     * @param options to check
+     * @throws IllegalArgumentException if options contain options that define node place in cluster
+     */
+    static void requireNotManaged(ArangoServerOptions options) {
+        final boolean managed = options.asMap().keySet().stream()
+                .anyMatch(name -> MANAGED_OPTIONS.contains(name) || name.startsWith("agency.") || name.startsWith("cluster."));
+        if (managed)
+            throw new IllegalArgumentException("Options " + MANAGED_OPTIONS + ", agency.* and cluster.* are managed by cluster");
+    }
+
     @Override
     public ArangoClusterContainer withoutAuth() {
-        final List<String> cmd = new ArrayList<>(Arrays.asList(this.getCommandParts()));
-        cmd.add("--server.authentication=false");
-        this.setCommand(cmd.toArray(new String[0]));
-
+        withServerOption("server.authentication", false);
         return (ArangoClusterContainer) super.withoutAuth();
     }
 
+    @Override
+    public ArangoClusterContainer withServerOptions(ArangoServerOptions serverOptions) {
+        return (ArangoClusterContainer) super.withServerOptions(serverOptions);
+    }
+
+    @Override
+    public ArangoClusterContainer withServerOption(String name, Object value) {
+        return (ArangoClusterContainer) super.withServerOption(name, value);
+    }
+
+    @Override
+    public ArangoClusterContainer withLogs(ArangoLogs logs) {
+        return (ArangoClusterContainer) super.withLogs(logs);
+    }
+
+    @Override
+    public ArangoClusterContainer withFastStorage() {
+        return (ArangoClusterContainer) super.withFastStorage();
+    }
+
+    @Override
+    public ArangoClusterContainer withMemoryProfile(ArangoMemoryProfile memoryProfile) {
+        return (ArangoClusterContainer) super.withMemoryProfile(memoryProfile);
+    }
+
     @Override
     public ArangoClusterContainer withPassword(String password) {
         return (ArangoClusterContainer) super.withPassword(password);
@@ -168,11 +198,6 @@ public ArangoClusterContainer withRandomPassword() {
         return (ArangoClusterContainer) super.withRandomPassword();
     }
 
-    @Override
-    public String getPassword() {
-        throw new UnsupportedOperationException();
-    }
-
     @Override
     public String getContainerName() {
         return super.getContainerName() + "[" + alias + "]";
@@ -0,0 +1,134 @@
+package io.testcontainers.arangodb.cluster;
+
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waits until coordinator reports every cluster node as GOOD via <a href=
+ * "https://docs.arangodb.com/stable/develop/http-api/cluster/#get-the-cluster-health">/_admin/cluster/health</a>.
+ * <p>
+ * Nodes only become GOOD once they are registered in agency and send heartbeats, which is earliest
+ * moment when coordinators do not answer 503 anymore.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class ArangoClusterHealthCheck {
+
+    private enum Role {
+        AGENT,
+        DBSERVER,
+        COORDINATOR
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoClusterHealthCheck.class);
+
+    private static final long BACKOFF_INITIAL_MILLIS = 50;
+    private static final long BACKOFF_MAX_MILLIS = 1000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final String ROLE_AGENT = "Agent";
+    private static final String ROLE_DBSERVER = "DBServer";
+    private static final String ROLE_COORDINATOR = "Coordinator";
+    private static final String STATUS_GOOD = "GOOD";
+
+    private final ArangoHttpClient client;
+    private final int agents;
+    private final int databases;
+    private final int coordinators;
+
+    ArangoClusterHealthCheck(ArangoHttpClient client, int agents, int databases, int coordinators) {
+        this.client = client.withTimeout(REQUEST_TIMEOUT);
+        this.agents = agents;
+        this.databases = databases;
+        this.coordinators = coordinators;
+    }
+
+    /**
+     * @param timeout to wait for cluster to become healthy
+     * @return time it took for cluster to become healthy
+     * @throws IllegalStateException when cluster is not healthy after timeout
+     */
+    Duration waitUntilHealthy(Duration timeout) {
+        final long started = System.nanoTime();
+        final long deadline = started + timeout.toNanos();
+
+        long backoff = BACKOFF_INITIAL_MILLIS;
+        String lastState = "no response";
+        while (true) {
+            try {
+                final ArangoHttpClient.Response response = client.get("/_admin/cluster/health");
+                if (response.status() == 200) {
+                    final Map<Role, Integer> good = countGood(response.json());
+                    if (good.get(Role.AGENT) >= agents
+                            && good.get(Role.DBSERVER) >= databases
+                            && good.get(Role.COORDINATOR) >= coordinators) {
+                        final Duration took = Duration.ofNanos(System.nanoTime() - started);
+                        logger.info("ArangoDB cluster is healthy in {} millis", took.toMillis());
+                        return took;
+                    }
+                    lastState = "GOOD nodes " + good;
+                } else {
+                    lastState = "status " + response.status();
+                }
+            } catch (UncheckedIOException e) {
+                lastState = e.getMessage();
+            }
+
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("ArangoDB cluster is not healthy after " + timeout.toMillis()
+                        + " millis, expected agents=" + agents + ", dbservers=" + databases + ", coordinators=" + coordinators
+                        + ", last state: " + lastState);
+            }
+
+            logger.debug("Waiting for ArangoDB cluster to become healthy, last state: {}", lastState);
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for ArangoDB cluster to become healthy", e);
+            }
+            backoff = Math.min(backoff * 3 / 2, BACKOFF_MAX_MILLIS);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Role, Integer> countGood(Map<String, Object> json) {
+        final Map<Role, Integer> good = new EnumMap<>(Role.class);
+        for (Role role : Role.values()) {
+            good.put(role, 0);
+        }
+
+        final Object health = json.get("Health");
+        if (!(health instanceof Map)) {
+            return good;
+        }
+
+        for (Object value : ((Map<String, Object>) health).values()) {
+            if (!(value instanceof Map)) {
+                continue;
+            }
+
+            final Map<String, Object> node = (Map<String, Object>) value;
+            if (!STATUS_GOOD.equals(node.get("Status"))) {
+                continue;
+            }
+
+            final Object nodeRole = node.get("Role");
+            if (ROLE_AGENT.equals(nodeRole)) {
+                good.merge(Role.AGENT, 1, Integer::sum);
+            } else if (ROLE_DBSERVER.equals(nodeRole)) {
+                good.merge(Role.DBSERVER, 1, Integer::sum);
+            } else if (ROLE_COORDINATOR.equals(nodeRole)) {
+                good.merge(Role.COORDINATOR, 1, Integer::sum);
+            }
+        }
+
+        return good;
+    }
+}
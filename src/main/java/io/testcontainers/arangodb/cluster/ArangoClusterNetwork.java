@@ -0,0 +1,87 @@
+package io.testcontainers.arangodb.cluster;
+
+import com.github.dockerjava.api.DockerClient;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.Network;
+
+/**
+ * Named network that outlives JVM, found by name or created when missing, so reusable cluster nodes
+ * are attached to same network id on every run and match their reused containers.
+ * <p>
+ * Network is not removed on {@link #close()}, same as reusable containers are not removed.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class ArangoClusterNetwork implements Network {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoClusterNetwork.class);
+
+    private static final String LABEL = "io.testcontainers.arangodb.cluster";
+
+    private final String name;
+    private volatile String id;
+
+    ArangoClusterNetwork(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    @Override
+    public String getId() {
+        if (id == null) {
+            synchronized (this) {
+                if (id == null) {
+                    id = findOrCreate();
+                }
+            }
+        }
+        return id;
+    }
+
+    private String findOrCreate() {
+        final DockerClient client = DockerClientFactory.instance().client();
+        synchronized (ArangoClusterNetwork.class) {
+            // name filter matches by substring
+            final String existing = client.listNetworksCmd().withNameFilter(name).exec().stream()
+                    .filter(network -> name.equals(network.getName()))
+                    .map(com.github.dockerjava.api.model.Network::getId)
+                    .findFirst()
+                    .orElse(null);
+            if (existing != null) {
+                logger.debug("Reusing ArangoDB cluster network {}", name);
+                return existing;
+            }
+
+            logger.debug("Creating ArangoDB cluster network {}", name);
+            return client.createNetworkCmd()
+                    .withName(name)
+                    .withCheckDuplicate(true)
+                    .withLabels(Map.of(LABEL, name))
+                    .exec()
+                    .getId();
+        }
+    }
+
+    /**
+     * Removes network, all containers must be removed from it first
+     */
+    void remove() {
+        final String networkId = id;
+        if (networkId != null) {
+            DockerClientFactory.instance().client().removeNetworkCmd(networkId).exec();
+            id = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        // network is kept for next run
+    }
+}
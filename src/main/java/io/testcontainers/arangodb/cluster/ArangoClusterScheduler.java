@@ -0,0 +1,185 @@
+package io.testcontainers.arangodb.cluster;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Starts cluster nodes following their dependency graph, each node is started as soon as all nodes
+ * it depends on are started, instead of waiting for whole stage to finish.
+ * <p>
+ * Nodes are stopped in reverse order, node is stopped after all nodes that depend on it are stopped
+ * or failed to stop. Stop is best-effort: failure of one node does not prevent others from stopping,
+ * nodes not reached within timeout are stopped regardless of order, failures are aggregated.
+ *
+ * @param <N> cluster node
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class ArangoClusterScheduler<N> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoClusterScheduler.class);
+
+    private final Map<N, List<N>> dependencies;
+    private final Map<N, List<N>> dependents;
+    private final Function<N, String> names;
+
+    /**
+     * @param dependencies node to nodes it depends on, every node must be present as key
+     * @param names        node name used in logs and exceptions
+     */
+    ArangoClusterScheduler(Map<N, List<N>> dependencies, Function<N, String> names) {
+        this.dependencies = Collections.unmodifiableMap(new LinkedHashMap<>(dependencies));
+        this.names = names;
+
+        final Map<N, List<N>> reversed = new LinkedHashMap<>();
+        dependencies.keySet().forEach(node -> reversed.put(node, new ArrayList<>()));
+        dependencies.forEach((node, nodeDependencies) -> nodeDependencies.forEach(dependency -> {
+            final List<N> nodeDependents = reversed.get(dependency);
+            if (nodeDependents == null) {
+                throw new IllegalArgumentException("Dependency " + names.apply(dependency) + " is not part of the cluster");
+            }
+            nodeDependents.add(node);
+        }));
+        this.dependents = reversed;
+    }
+
+    /**
+     * Nodes that are not started yet when any node fails or timeout is reached are not started
+     *
+     * @return start duration of every node
+     */
+    Map<N, Duration> start(Executor executor, Duration timeout, Consumer<N> action) throws InterruptedException, TimeoutException {
+        final Map<N, Duration> durations = new ConcurrentHashMap<>();
+        final Map<N, CompletableFuture<Void>> futures = new HashMap<>();
+        for (N node : dependencies.keySet()) {
+            schedule(node, dependencies, futures, new LinkedList<>(), (scheduled, dependencyFutures) -> CompletableFuture.allOf(dependencyFutures)
+                    .thenRunAsync(() -> {
+                        final long started = System.nanoTime();
+                        action.accept(scheduled);
+                        durations.put(scheduled, Duration.ofNanos(System.nanoTime() - started));
+                    }, executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            cancel(futures);
+            final Throwable cause = (e.getCause() != null)
+                    ? e.getCause()
+                    : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException | InterruptedException e) {
+            cancel(futures);
+            throw e;
+        }
+
+        durations.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .ifPresent(slowest -> logger.info("ArangoDB cluster nodes started, slowest node {} in {} millis",
+                        names.apply(slowest.getKey()), slowest.getValue().toMillis()));
+        return durations;
+    }
+
+    /**
+     * @throws IllegalStateException with failures of every node as suppressed exceptions when any
+     *                                   node failed or did not stop within timeout
+     */
+    void stop(Executor executor, Duration timeout, Consumer<N> action) throws InterruptedException {
+        final Set<N> claimed = ConcurrentHashMap.newKeySet();
+        final ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final Consumer<N> bestEffort = node -> {
+            if (claimed.add(node)) {
+                try {
+                    action.accept(node);
+                } catch (RuntimeException e) {
+                    failures.add(new IllegalStateException("Failed to stop " + names.apply(node), e));
+                }
+            }
+        };
+
+        final Map<N, CompletableFuture<Void>> futures = new HashMap<>();
+        for (N node : dependents.keySet()) {
+            // node is stopped when its dependents are done, whether they stopped or failed
+            schedule(node, dependents, futures, new LinkedList<>(), (scheduled, dependencyFutures) -> CompletableFuture.allOf(dependencyFutures)
+                    .handleAsync((result, e) -> {
+                        bestEffort.accept(scheduled);
+                        return null;
+                    }, executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            failures.add(e.getCause());
+        } catch (TimeoutException e) {
+            futures.forEach((node, future) -> {
+                if (claimed.contains(node) && !future.isDone()) {
+                    failures.add(new TimeoutException("Timed out stopping " + names.apply(node) + " after " + timeout.toMillis()
+                            + " millis"));
+                }
+            });
+            cancel(futures);
+            // nodes blocked behind stuck dependents are stopped regardless of order
+            dependents.keySet().forEach(bestEffort);
+        }
+
+        if (!failures.isEmpty()) {
+            final IllegalStateException exception = new IllegalStateException("Failed to stop " + failures.size()
+                    + " cluster nodes");
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    private static void cancel(Map<?, CompletableFuture<Void>> futures) {
+        futures.values().forEach(future -> future.cancel(true));
+    }
+
+    private CompletableFuture<Void> schedule(N node,
+                                             Map<N, List<N>> graph,
+                                             Map<N, CompletableFuture<Void>> futures,
+                                             LinkedList<N> visiting,
+                                             BiFunction<N, CompletableFuture<?>[], CompletableFuture<Void>> task) {
+        final CompletableFuture<Void> existing = futures.get(node);
+        if (existing != null) {
+            return existing;
+        }
+        if (visiting.contains(node)) {
+            throw new IllegalArgumentException("Cluster node dependency cycle detected for " + names.apply(node));
+        }
+
+        visiting.push(node);
+        final CompletableFuture<?>[] nodeDependencies = graph.get(node).stream()
+                .map(dependency -> schedule(dependency, graph, futures, visiting, task))
+                .toArray(CompletableFuture[]::new);
+        visiting.pop();
+
+        final CompletableFuture<Void> future = task.apply(node, nodeDependencies);
+        futures.put(node, future);
+        return future;
+    }
+}
@@ -0,0 +1,113 @@
+package io.testcontainers.arangodb.cluster;
+
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.util.ArangoExecutors;
+import io.testcontainers.arangodb.util.ArangoFileLock;
+import io.testcontainers.arangodb.util.ArangoSnapshotImages;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Per node images of fully bootstrapped cluster, agency is elected, dbservers are registered and
+ * system collections are created.
+ * <p>
+ * Agency persists nodes by their endpoints, so cluster restored from snapshot must have same
+ * cluster identifier (and so same aliases) as cluster snapshot was captured from. Each node image
+ * is tagged with node alias.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class ArangoClusterSnapshot {
+
+    static final String REPOSITORY_DEFAULT = "arangodb-cluster-snapshot";
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoClusterSnapshot.class);
+
+    private static final DockerImageName IMAGE = DockerImageName.parse("arangodb");
+
+    private final String repository;
+    private final DockerImageName baseImage;
+
+    ArangoClusterSnapshot(String repository, DockerImageName baseImage) {
+        this.repository = repository;
+        this.baseImage = baseImage;
+    }
+
+    DockerImageName image(String alias) {
+        return DockerImageName.parse(repository + ":" + alias).asCompatibleSubstituteFor(IMAGE);
+    }
+
+    boolean isCached(Collection<String> aliases) {
+        return aliases.stream().allMatch(alias -> ArangoSnapshotImages.exists(repository + ":" + alias));
+    }
+
+    /**
+     * Starts cluster, waits until it is healthy and captures every node into its own image, cluster
+     * is stopped afterwards. Nodes are stopped in reverse dependency order before capture, so agency
+     * sees graceful shutdown of every node. Capture is guarded by file lock, so concurrent JVMs on
+     * same host capture snapshot only once.
+     *
+     * @param cluster not started cluster built from base image
+     */
+    void capture(ArangoCluster cluster) {
+        final List<String> aliases = cluster.getContainers().stream()
+                .map(ArangoClusterContainer::getAlias)
+                .toList();
+        final ArangoSnapshotImages.Hasher lockHasher = ArangoSnapshotImages.hasher().put(repository);
+        aliases.forEach(lockHasher::put);
+        final Path lockFile = ArangoFileLock.DEFAULT_DIRECTORY.resolve("cluster-snapshot-" + lockHasher.hash() + ".lock");
+        try (ArangoFileLock ignored = ArangoFileLock.lock(lockFile)) {
+            if (isCached(aliases)) {
+                return;
+            }
+
+            logger.info("ArangoDB cluster snapshot {} is not cached, bootstrapping cluster from {}",
+                    cluster.getClusterId(), baseImage.asCanonicalNameString());
+            final ExecutorService executor = ArangoExecutors.newThreadPerTaskExecutor("arangodb-cluster-snapshot");
+            try {
+                cluster.start();
+                for (List<ArangoClusterContainer> nodes : List.of(cluster.getCoordinators(), cluster.getDatabases(),
+                        cluster.getAgents())) {
+                    runAll(nodes, ArangoSnapshotImages::stopGracefully, executor);
+                }
+
+                runAll(cluster.getContainers(), node -> ArangoSnapshotImages.capture(node, baseImage.asCanonicalNameString(),
+                        repository + ":" + node.getAlias(), cluster.getClusterId(), List.of(ArangoContainer.DATA_DIRECTORY,
+                                ArangoContainer.APPS_DIRECTORY)),
+                        executor);
+            } finally {
+                executor.shutdown();
+                cluster.stop();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't lock cluster snapshot " + cluster.getClusterId(), e);
+        }
+    }
+
+    private static void runAll(List<ArangoClusterContainer> nodes,
+                               Consumer<ArangoClusterContainer> action,
+                               ExecutorService executor) {
+        final CompletableFuture<?>[] futures = nodes.stream()
+                .map(node -> CompletableFuture.runAsync(() -> action.accept(node), executor))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package io.testcontainers.arangodb.cluster;
+
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.containers.ArangoMemoryProfile;
+import io.testcontainers.arangodb.containers.ArangoServerOptions;
+import io.testcontainers.arangodb.containers.ArangoWaitStrategy;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * ArangoDB cluster running inside single container via <a href=
+ * "https://docs.arangodb.com/stable/components/tools/arangodb-starter/">ArangoDB Starter</a> local
+ * mode, 3 agents, 3 dbservers and 3 coordinators are started as processes of one container.
+ * <p>
+ * Keeps sharding semantics of {@link ArangoCluster} with startup time, memory and Docker API calls
+ * of single container, nodes themselves are not accessible as containers, only coordinators are
+ * exposed.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see ArangoCluster
+ * @since 17.10.2026
+ */
+public class ArangoLocalCluster extends ArangoContainer {
+
+    /**
+     * Starter local mode starts 3 starters on ports 8528, 8538, 8548, each starts coordinator on next
+     * port
+     */
+    public static final List<Integer> COORDINATOR_PORTS = List.of(8529, 8539, 8549);
+
+    private static final int AGENTS = 3;
+    private static final int DBSERVERS = 3;
+    private static final String STARTER_DIRECTORY = DATA_DIRECTORY + "/starter";
+    private static final String JWT_SECRET_FILE = DATA_DIRECTORY + "/jwt-secret";
+    private static final Duration HEALTH_TIMEOUT = Duration.ofMinutes(2);
+
+    private ArangoServerOptions nodeOptions = ArangoServerOptions.empty();
+    private boolean noAuth = false;
+    private String password;
+
+    public ArangoLocalCluster(String dockerImageName) {
+        this(DockerImageName.parse(dockerImageName));
+    }
+
+    public ArangoLocalCluster(DockerImageName imageName) {
+        super(imageName);
+        withExposedPorts(COORDINATOR_PORTS.toArray(new Integer[0]));
+        waitingFor(new ArangoWaitStrategy()
+                .withPorts(COORDINATOR_PORTS.stream().mapToInt(Integer::intValue).toArray()));
+        withStartupTimeout(Duration.ofMinutes(3));
+    }
+
+    @Override
+    protected void configure() {
+        super.configure();
+
+        final List<String> starter = new ArrayList<>();
+        starter.add("arangodb");
+        starter.add("--starter.local");
+        starter.add("--starter.mode=cluster");
+        starter.add("--starter.address=127.0.0.1");
+        starter.add("--starter.data-dir=" + STARTER_DIRECTORY);
+        if (!noAuth) {
+            // starter enables authentication for all nodes only when JWT secret is specified
+            starter.add("--auth.jwt-secret=" + JWT_SECRET_FILE);
+        }
+        // server options are passed through starter to every node
+        nodeOptions.asMap().forEach((name, value) -> starter.add("--all." + name + "=" + value));
+
+        final String secret = UUID.randomUUID().toString().replace("-", "");
+        final String script = "mkdir -p " + STARTER_DIRECTORY
+                + " && printf '%s' " + secret + " > " + JWT_SECRET_FILE
+                + " && exec " + String.join(" ", starter);
+        setCommand("sh", "-c", script);
+
+        // root password is set only after cluster is up, so readiness is probed without it
+        if (getWaitStrategy() instanceof ArangoWaitStrategy strategy) {
+            strategy.withCredentials(getUser(), null);
+        }
+    }
+
+    @Override
+    protected void applyServerOptions(ArangoServerOptions options) {
+        this.nodeOptions = options;
+    }
+
+    @Override
+    protected void containerIsStarted(InspectContainerResponse containerInfo) {
+        final ArangoHttpClient bootstrapClient = ArangoHttpClient.of(getHostsAndPorts(), getUser(), (noAuth)
+                ? null
+                : "");
+        new ArangoClusterHealthCheck(bootstrapClient, AGENTS, DBSERVERS, COORDINATOR_PORTS.size())
+                .waitUntilHealthy(HEALTH_TIMEOUT);
+        if (password != null) {
+            bootstrapClient.patch("/_api/user/" + ArangoHttpClient.encode(getUser()), Map.of("passwd", password))
+                    .requireSuccess("Root password setup");
+        }
+
+        super.containerIsStarted(containerInfo);
+    }
+
+    @Override
+    protected int getServerProcesses() {
+        return AGENTS + DBSERVERS + COORDINATOR_PORTS.size();
+    }
+
+    @Override
+    protected String getNodeType() {
+        return "LOCAL_CLUSTER";
+    }
+
+    /**
+     * Setup desired password for root user, password is set after cluster is started.
+     *
+     * @param password to set on startup
+     * @return container itself
+     */
+    @Override
+    public ArangoLocalCluster withPassword(String password) {
+        if (noAuth)
+            throw new IllegalArgumentException("Password can't be set when without authentication is enable");
+        this.password = Objects.requireNonNull(password);
+        return this;
+    }
+
+    @Override
+    public ArangoLocalCluster withoutAuth() {
+        if (password != null)
+            throw new IllegalArgumentException("Without authentication can't be enabled when password is set");
+        this.noAuth = true;
+        return this;
+    }
+
+    @Override
+    public ArangoLocalCluster withRandomPassword() {
+        throw new UnsupportedOperationException("Random password is not supported by local cluster");
+    }
+
+    @Override
+    public ArangoLocalCluster withServerOptions(ArangoServerOptions serverOptions) {
+        return (ArangoLocalCluster) super.withServerOptions(serverOptions);
+    }
+
+    @Override
+    public ArangoLocalCluster withServerOption(String name, Object value) {
+        return (ArangoLocalCluster) super.withServerOption(name, value);
+    }
+
+    @Override
+    public ArangoLocalCluster withFastStorage() {
+        return (ArangoLocalCluster) super.withFastStorage();
+    }
+
+    /**
+     * Profile budget is shared by all 9 nodes of local cluster, so each node is sized by ninth of it.
+     *
+     * @param memoryProfile to apply
+     * @return container itself
+     */
+    @Override
+    public ArangoLocalCluster withMemoryProfile(ArangoMemoryProfile memoryProfile) {
+        return (ArangoLocalCluster) super.withMemoryProfile(memoryProfile);
+    }
+
+    /**
+     * @return root password or empty password when authentication is enabled without password, null
+     *             when authentication is disabled
+     */
+    @Override
+    public String getPassword() {
+        if (noAuth) {
+            return null;
+        }
+        return Objects.requireNonNullElse(password, "");
+    }
+
+    @Override
+    public boolean isAuthenticationEnabled() {
+        return !noAuth;
+    }
+
+    public List<Integer> getCoordinatorPorts() {
+        return COORDINATOR_PORTS.stream()
+                .map(this::getMappedPort)
+                .toList();
+    }
+
+    /**
+     * @return local cluster coordinators
+     */
+    @Override
+    public List<HostAndPort> getHostsAndPorts() {
+        return getCoordinatorPorts().stream()
+                .map(port -> new HostAndPort(getHost(), port))
+                .toList();
+    }
+}
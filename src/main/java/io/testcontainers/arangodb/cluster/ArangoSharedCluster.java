@@ -0,0 +1,309 @@
+package io.testcontainers.arangodb.cluster;
+
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import io.testcontainers.arangodb.util.ArangoFileLock;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+/**
+ * Shares reusable {@link ArangoCluster} (or fixed set of them) between several JVMs on same host,
+ * such as Gradle test forks with {@code maxParallelForks > 1}.
+ * <p>
+ * Every {@link #acquire()} writes lease file into registry directory under file lock and hands out
+ * its own isolated database, lease is assigned to cluster with fewest active leases. First lease
+ * of cluster starts it (or adopts one that is already running via Testcontainers reuse), last
+ * released lease stops and removes it. Leases of JVMs that died without releasing them are pruned
+ * by next acquire or release, leases that are not released are released on JVM shutdown.
+ * <p>
+ * Requires Testcontainers reuse to be enabled with {@code testcontainers.reuse.enable=true} in
+ * {@code ~/.testcontainers.properties}.
+ *
+ * <pre>
+ * {@code
+ * private static final ArangoSharedCluster SHARED = ArangoSharedCluster.builder(ArangoCluster.builder("arangodb:3.12.4"))
+ *         .withClusters(2)
+ *         .build();
+ *
+ * try (ArangoSharedCluster.Lease lease = SHARED.acquire()) {
+ *     lease.getClient().post("/_api/collection", Map.of("name", "users"));
+ * }
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoSharedCluster {
+
+    public static final class Builder {
+
+        private final ArangoClusterBuilder clusterBuilder;
+        private int clusters = 1;
+        private Path registryDirectory = ArangoFileLock.DEFAULT_DIRECTORY;
+
+        private Builder(ArangoClusterBuilder clusterBuilder) {
+            this.clusterBuilder = clusterBuilder;
+        }
+
+        /**
+         * @param clusters amount of clusters leases are spread across, 1 by default
+         * @return self
+         */
+        public Builder withClusters(int clusters) {
+            if (clusters < 1)
+                throw new IllegalArgumentException("Shared clusters can not be less 1");
+            this.clusters = clusters;
+            return this;
+        }
+
+        /**
+         * @param registryDirectory directory for lock and lease files, must be same for all JVMs,
+         *                              {@code java.io.tmpdir/arangodb-testcontainers} by default
+         * @return self
+         */
+        public Builder withRegistryDirectory(Path registryDirectory) {
+            this.registryDirectory = Objects.requireNonNull(registryDirectory);
+            return this;
+        }
+
+        public ArangoSharedCluster build() {
+            if (!TestcontainersConfiguration.getInstance().environmentSupportsReuse()) {
+                throw new IllegalStateException("Shared cluster requires Testcontainers reuse, "
+                        + "please set testcontainers.reuse.enable=true in ~/.testcontainers.properties");
+            }
+
+            // caller builder is not modified and its later changes do not affect shared clusters
+            final ArangoClusterBuilder sharedBuilder = clusterBuilder.copy()
+                    .withReuse()
+                    .withIdentitySalt(null);
+            final Path registry = registryDirectory.resolve("shared-" + sharedBuilder.topologyHash());
+            final List<Supplier<ArangoCluster>> factories = IntStream.range(0, clusters)
+                    .<Supplier<ArangoCluster>>mapToObj(slot -> () -> sharedBuilder.copy()
+                            .withIdentitySalt("shared-" + slot)
+                            .build())
+                    .toList();
+            return new ArangoSharedCluster(registry, factories);
+        }
+    }
+
+    public static final class Lease implements AutoCloseable {
+
+        private final ArangoSharedCluster shared;
+        private final int slot;
+        private final Path file;
+        private final ArangoCluster cluster;
+        private final String database;
+        private final ArangoHttpClient client;
+        private volatile boolean released = false;
+
+        private Lease(ArangoSharedCluster shared, int slot, Path file, ArangoCluster cluster, String database) {
+            this.shared = shared;
+            this.slot = slot;
+            this.file = file;
+            this.cluster = cluster;
+            this.database = database;
+            this.client = ArangoHttpClient.of(cluster).withDatabase(database);
+        }
+
+        /**
+         * @return shared cluster, must not be stopped by lease holder
+         */
+        public ArangoCluster getCluster() {
+            return cluster;
+        }
+
+        /**
+         * @return database created for this lease only
+         */
+        public String getDatabase() {
+            return database;
+        }
+
+        /**
+         * @return client for {@link #getDatabase()}
+         */
+        public ArangoHttpClient getClient() {
+            return client;
+        }
+
+        /**
+         * Drops lease database, cluster is stopped if it was last lease
+         */
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                shared.release(this);
+            }
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoSharedCluster.class);
+
+    private static final String LOCK_FILE = "registry.lock";
+    private static final String LEASE_SUFFIX = ".lease";
+    private static final long PID = ProcessHandle.current().pid();
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    private final Path registry;
+    private final List<Supplier<ArangoCluster>> factories;
+    private final Map<Integer, ArangoCluster> clusters = new ConcurrentHashMap<>();
+    private final Set<Lease> leases = ConcurrentHashMap.newKeySet();
+
+    private ArangoSharedCluster(Path registry, List<Supplier<ArangoCluster>> factories) {
+        this.registry = registry;
+        this.factories = factories;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> List.copyOf(leases).forEach(Lease::close),
+                "arangodb-shared-cluster-release"));
+    }
+
+    public static Builder builder(ArangoClusterBuilder clusterBuilder) {
+        return new Builder(clusterBuilder);
+    }
+
+    /**
+     * @return lease with its own database on one of shared clusters, cluster is started if it is not
+     *             running yet
+     */
+    public Lease acquire() {
+        final int slot;
+        final Path file;
+        final String database = "fork_" + PID + "_" + COUNTER.incrementAndGet();
+
+        // lease file is written before cluster is started, so concurrent release does not stop it
+        try (ArangoFileLock ignored = lock(registry)) {
+            pruneDeadLeases();
+            slot = IntStream.range(0, factories.size())
+                    .boxed()
+                    .min(Comparator.comparingInt(s -> leaseFiles(slotDirectory(s)).size()))
+                    .orElse(0);
+            file = slotDirectory(slot).resolve(database + LEASE_SUFFIX);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, Long.toString(PID), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't register shared cluster lease in " + registry, e);
+        }
+
+        try (ArangoFileLock ignored = lock(slotDirectory(slot))) {
+            // cluster is in map only while it is started and held by lease of this JVM
+            ArangoCluster cluster = clusters.get(slot);
+            if (cluster == null) {
+                cluster = factories.get(slot).get();
+                cluster.start();
+                clusters.put(slot, cluster);
+            }
+            ArangoHttpClient.of(cluster).post("/_api/database", Map.of("name", database))
+                    .requireSuccess("Database '" + database + "' creation");
+
+            final Lease lease = new Lease(this, slot, file, cluster, database);
+            leases.add(lease);
+            logger.debug("Leased database {} on shared ArangoDB cluster {}", database, cluster.getClusterId());
+            return lease;
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException("Can't lock shared cluster slot in " + registry, e);
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private void release(Lease lease) {
+        leases.remove(lease);
+        try (ArangoFileLock ignored = lock(slotDirectory(lease.slot))) {
+            try {
+                final ArangoHttpClient.Response response = ArangoHttpClient.of(lease.cluster)
+                        .delete("/_api/database/" + ArangoHttpClient.encode(lease.database));
+                if (!response.isSuccess() && response.status() != 404) {
+                    logger.warn("Database {} drop failed: {}", lease.database, response);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Database {} drop failed", lease.database, e);
+            } finally {
+                Files.deleteIfExists(lease.file);
+            }
+
+            pruneDeadLeases(slotDirectory(lease.slot));
+            if (leaseFiles(slotDirectory(lease.slot)).isEmpty()) {
+                logger.info("Last lease released, stopping shared ArangoDB cluster {}", lease.cluster.getClusterId());
+                lease.cluster.stopNodes();
+                clusters.remove(lease.slot, lease.cluster);
+            } else if (leases.stream().noneMatch(l -> l.slot == lease.slot)) {
+                // other JVM may stop cluster later, so next lease of this JVM adopts or starts it again
+                clusters.remove(lease.slot, lease.cluster);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't release shared cluster lease in " + registry, e);
+        }
+    }
+
+    private Path slotDirectory(int slot) {
+        return registry.resolve("cluster-" + slot);
+    }
+
+    private void pruneDeadLeases() {
+        for (int slot = 0; slot < factories.size(); slot++) {
+            pruneDeadLeases(slotDirectory(slot));
+        }
+    }
+
+    /**
+     * Deletes lease files of processes that are not alive anymore, their databases are left and are
+     * removed together with cluster
+     */
+    private static void pruneDeadLeases(Path slotDirectory) {
+        for (Path file : leaseFiles(slotDirectory)) {
+            try {
+                final long pid = Long.parseLong(Files.readString(file, StandardCharsets.UTF_8).trim());
+                final boolean alive = ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false);
+                if (!alive) {
+                    logger.debug("Pruning lease {} of dead process {}", file.getFileName(), pid);
+                    Files.deleteIfExists(file);
+                }
+            } catch (IOException | NumberFormatException e) {
+                logger.debug("Can't read lease {}", file, e);
+            }
+        }
+    }
+
+    private static List<Path> leaseFiles(Path slotDirectory) {
+        if (!Files.isDirectory(slotDirectory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(slotDirectory)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(LEASE_SUFFIX))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't list leases in " + slotDirectory, e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Can't delete {}", file, e);
+        }
+    }
+
+    private static ArangoFileLock lock(Path directory) throws IOException {
+        return ArangoFileLock.lock(directory.resolve(LOCK_FILE));
+    }
+}
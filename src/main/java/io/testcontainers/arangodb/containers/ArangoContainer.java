@@ -1,8 +1,17 @@
 package io.testcontainers.arangodb.containers;
 
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import io.testcontainers.arangodb.logs.ArangoLogCapture;
+import io.testcontainers.arangodb.logs.ArangoLogPipeline;
+import io.testcontainers.arangodb.logs.ArangoLogs;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
 import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.utility.DockerImageName;
 
 /**
@@ -11,9 +20,11 @@
  * @author Anton Kurako (GoodforGod)
  * @since 2.3.2020
  */
-public class ArangoContainer extends GenericContainer<ArangoContainer> {
+public class ArangoContainer extends GenericContainer<ArangoContainer> implements ArangoDeployment {
 
     public static final Integer PORT = 8529;
+    public static final String DATA_DIRECTORY = "/var/lib/arangodb3";
+    public static final String APPS_DIRECTORY = "/var/lib/arangodb3-apps";
 
     private static final String DEFAULT_USER = "root";
     private static final String IMAGE_NAME = "arangodb";
@@ -23,7 +34,16 @@ public class ArangoContainer extends GenericContainer<ArangoContainer> {
     private static final String ARANGO_ROOT_PASSWORD = "ARANGO_ROOT_PASSWORD";
     private static final String ARANGO_RANDOM_ROOT_PASSWORD = "ARANGO_RANDOM_ROOT_PASSWORD";
 
+    private final StartupRecorder startupRecorder = new StartupRecorder();
+
     private String password;
+    private boolean fastStorage = false;
+    private ArangoMemoryProfile memoryProfile;
+    private ArangoServerOptions serverOptions = ArangoServerOptions.empty();
+    private ArangoLogs logs;
+    private volatile ArangoLogPipeline logPipeline;
+    private volatile StartupReport startupReport;
+    private volatile boolean reused = false;
 
     public ArangoContainer(String dockerImageName) {
         this(DockerImageName.parse(dockerImageName));
@@ -33,10 +53,82 @@ public ArangoContainer(DockerImageName imageName) {
         super(imageName);
         imageName.assertCompatibleWith(IMAGE);
         addExposedPort(PORT);
-        waitingFor(Wait.forLogMessage(".*is ready for business. Have fun.*", 1));
+        waitingFor(new ArangoWaitStrategy());
         withStartupTimeout(Duration.ofSeconds(60));
     }
 
+    @Override
+    public void start() {
+        if (getContainerId() != null) {
+            // already started, recording would leave phase open that is never completed
+            return;
+        }
+
+        startupRecorder.begin();
+        super.start();
+    }
+
+    @Override
+    public String getDockerImageName() {
+        // first resolution during start completes image resolution phase
+        final String imageName = super.getDockerImageName();
+        startupRecorder.advance(StartupReport.Phase.IMAGE_RESOLUTION, StartupReport.Phase.CONTAINER_CREATION);
+        return imageName;
+    }
+
+    @Override
+    protected void containerIsCreated(String containerId) {
+        super.containerIsCreated(containerId);
+        startupRecorder.advance(StartupReport.Phase.CONTAINER_CREATION, StartupReport.Phase.PROCESS_BOOT);
+    }
+
+    @Override
+    protected void containerIsStarting(InspectContainerResponse containerInfo, boolean reused) {
+        this.reused = reused;
+        if (reused) {
+            // reused container is not created, so creation phase ends here
+            startupRecorder.advance(StartupReport.Phase.CONTAINER_CREATION, StartupReport.Phase.PROCESS_BOOT);
+        }
+        super.containerIsStarting(containerInfo, reused);
+    }
+
+    @Override
+    protected void containerIsStarting(InspectContainerResponse containerInfo) {
+        super.containerIsStarting(containerInfo);
+        startupRecorder.advance(StartupReport.Phase.PROCESS_BOOT, StartupReport.Phase.READINESS);
+    }
+
+    @Override
+    protected void containerIsStarted(InspectContainerResponse containerInfo) {
+        super.containerIsStarted(containerInfo);
+        final StartupReport report = startupRecorder.finish(StartupReport.Phase.READINESS, getNodeName(), getNodeType());
+        if (report != null) {
+            this.startupReport = report;
+            logger().debug("Startup report: {}", report);
+        }
+    }
+
+    /**
+     * @return name used in {@link StartupReport}
+     */
+    protected String getNodeName() {
+        return getContainerName();
+    }
+
+    /**
+     * @return node type used in {@link StartupReport}
+     */
+    protected String getNodeType() {
+        return "SINGLE";
+    }
+
+    /**
+     * @return amount of ArangoDB server processes running inside container
+     */
+    protected int getServerProcesses() {
+        return 1;
+    }
+
     @Override
     protected void configure() {
         if (getEnvMap().containsKey(ARANGO_ROOT_PASSWORD)) {
@@ -57,6 +149,38 @@ protected void configure() {
             }
         }
 
+        // presets go first, so explicitly specified options replace them
+        ArangoServerOptions effectiveOptions = ArangoServerOptions.empty();
+        if (fastStorage) {
+            withTmpfs(Map.of(DATA_DIRECTORY, "rw", APPS_DIRECTORY, "rw"));
+            effectiveOptions = effectiveOptions.merge(ArangoServerOptions.fastStorage());
+        }
+
+        if (memoryProfile != null) {
+            final ArangoMemoryProfile serverProfile = memoryProfile.perServer(getServerProcesses());
+            withEnv(serverProfile.environment());
+            effectiveOptions = effectiveOptions.merge(serverProfile.serverOptions());
+        }
+
+        if (logs != null) {
+            if (logs.isJsonFormat()) {
+                effectiveOptions = effectiveOptions.with("log.use-json-format", true);
+            }
+            if (logPipeline == null) {
+                final String nodeName = getNodeName();
+                logPipeline = logs.pipeline((nodeName == null) ? IMAGE_NAME : nodeName);
+                if (logPipeline != null) {
+                    withLogConsumer(logPipeline);
+                }
+            }
+        }
+
+        applyServerOptions(effectiveOptions.merge(serverOptions));
+
+        if (getWaitStrategy() instanceof ArangoWaitStrategy strategy) {
+            strategy.withCredentials(DEFAULT_USER, getKnownPassword());
+        }
+
         super.configure();
     }
 
@@ -89,18 +213,170 @@ public ArangoContainer withRandomPassword() {
         return withEnv(ARANGO_RANDOM_ROOT_PASSWORD, "1");
     }
 
+    /**
+     * Setup ArangoDB to keep {@link #DATA_DIRECTORY} on tmpfs and to start with relaxed durability
+     * (no background WAL syncs, no wait for sync), without statistics gathering and Foxx queues.
+     * <p>
+     * All data is lost when container stops, intended for write-heavy tests only.
+     *
+     * @return container itself
+     */
+    public ArangoContainer withFastStorage() {
+        this.fastStorage = true;
+        return self();
+    }
+
+    /**
+     * Limits container memory and CPU to profile budget and sizes ArangoDB caches and scheduler
+     * threads accordingly instead of by host resources.
+     *
+     * @param memoryProfile to apply
+     * @return container itself
+     */
+    public ArangoContainer withMemoryProfile(ArangoMemoryProfile memoryProfile) {
+        final boolean modifierRegistered = this.memoryProfile != null;
+        this.memoryProfile = Objects.requireNonNull(memoryProfile);
+        if (!modifierRegistered) {
+            // registered once and reads latest profile, as configure() runs on every start
+            withCreateContainerCmdModifier(cmd -> cmd.getHostConfig()
+                    .withMemory(this.memoryProfile.memory())
+                    .withMemorySwap(this.memoryProfile.memory())
+                    .withNanoCPUs((long) (this.memoryProfile.cpus() * 1_000_000_000L)));
+        }
+        return self();
+    }
+
+    /**
+     * Server options are merged with options specified earlier, option with same name is replaced.
+     *
+     * @param serverOptions to start server with
+     * @return container itself
+     */
+    public ArangoContainer withServerOptions(ArangoServerOptions serverOptions) {
+        this.serverOptions = this.serverOptions.merge(serverOptions);
+        return self();
+    }
+
+    /**
+     * @param name  option name without leading dashes, such as {@code query.cache-mode}
+     * @param value option value
+     * @return container itself
+     * @see ArangoServerOptions#with(String, Object)
+     */
+    public ArangoContainer withServerOption(String name, Object value) {
+        this.serverOptions = this.serverOptions.with(name, value);
+        return self();
+    }
+
+    /**
+     * Log lines are filtered by level on Docker stream thread and then either captured or logged
+     * from background thread, see {@link ArangoLogs}. Container logs are not consumed by default.
+     *
+     * @param logs pipeline configuration
+     * @return container itself
+     */
+    public ArangoContainer withLogs(ArangoLogs logs) {
+        this.logs = Objects.requireNonNull(logs);
+        return self();
+    }
+
+    /**
+     * @return captured log lines when container is started with {@link ArangoLogs#capture(int)}
+     */
+    public @Nullable ArangoLogCapture getLogCapture() {
+        final ArangoLogPipeline pipeline = logPipeline;
+        return (pipeline == null)
+                ? null
+                : pipeline.getCapture();
+    }
+
+    /**
+     * @return server options specified for container, without presets applied on start
+     */
+    public ArangoServerOptions getServerOptions() {
+        return serverOptions;
+    }
+
+    /**
+     * Appends server options to container command, options which names are already present in
+     * command are skipped
+     *
+     * @param options to apply
+     */
+    protected void applyServerOptions(ArangoServerOptions options) {
+        final String[] commandParts = getCommandParts();
+        final List<String> command = (commandParts == null)
+                ? new ArrayList<>()
+                : new ArrayList<>(Arrays.asList(commandParts));
+        for (Map.Entry<String, String> option : options.asMap().entrySet()) {
+            final String argument = "--" + option.getKey();
+            final boolean present = command.stream()
+                    .anyMatch(part -> part.equals(argument) || part.startsWith(argument + "="));
+            if (!present) {
+                command.add(argument + "=" + option.getValue());
+            }
+        }
+        setCommand(command.toArray(new String[0]));
+    }
+
+    /**
+     * @return password set via {@link #withPassword(String)} or via {@code ARANGO_ROOT_PASSWORD}
+     *             environment variable, null when password is random or authentication is off
+     */
+    @Override
     public String getPassword() {
-        return password;
+        return getKnownPassword();
     }
 
+    private @Nullable String getKnownPassword() {
+        final String envPassword = getEnvMap().get(ARANGO_ROOT_PASSWORD);
+        return (envPassword != null)
+                ? envPassword
+                : password;
+    }
+
+    @Override
     public String getUser() {
         return DEFAULT_USER;
     }
 
+    /**
+     * @return false if container is started without authentication via {@link #withoutAuth()} or
+     *             {@code server.authentication} option
+     */
+    @Override
+    public boolean isAuthenticationEnabled() {
+        return !getEnvMap().containsKey(ARANGO_NO_AUTH)
+                && !"false".equals(serverOptions.asMap().get("server.authentication"));
+    }
+
     public Integer getPort() {
         return getMappedPort(PORT);
     }
 
+    /**
+     * @return container itself
+     */
+    @Override
+    public List<HostAndPort> getHostsAndPorts() {
+        return List.of(new HostAndPort(getHost(), getPort()));
+    }
+
+    /**
+     * @return true if last start adopted already running container via Testcontainers reuse
+     *             instead of creating new one
+     */
+    public boolean isReused() {
+        return reused;
+    }
+
+    /**
+     * @return startup phases timings of last successful start or null if container was never started
+     */
+    public @Nullable StartupReport getStartupReport() {
+        return startupReport;
+    }
+
     private void throwAuthException() {
         throw new IllegalArgumentException(
                 "Random or without authentication is enable, please review your configuration");
@@ -0,0 +1,77 @@
+package io.testcontainers.arangodb.containers;
+
+import java.util.List;
+import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * ArangoDB deployment accessible over HTTP, single server {@link ArangoContainer} or cluster that
+ * is accessed via its coordinators, such as
+ * {@link io.testcontainers.arangodb.cluster.ArangoCluster} and
+ * {@link io.testcontainers.arangodb.cluster.ArangoLocalCluster}.
+ * <p>
+ * Helpers that only talk HTTP to deployment accept this type instead of overload per deployment.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public interface ArangoDeployment {
+
+    final class HostAndPort {
+
+        private final String host;
+        private final int port;
+
+        public HostAndPort(String host, int port) {
+            this.host = Objects.requireNonNull(host);
+            this.port = port;
+        }
+
+        public String host() {
+            return host;
+        }
+
+        public int port() {
+            return port;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            HostAndPort that = (HostAndPort) o;
+            return port == that.port && Objects.equals(host, that.host);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(host, port);
+        }
+
+        @Override
+        public String toString() {
+            return "[host=" + host + ", port=" + port + ']';
+        }
+    }
+
+    /**
+     * @return endpoints requests are balanced across, server itself for single server and
+     *             coordinators for cluster
+     */
+    List<HostAndPort> getHostsAndPorts();
+
+    String getUser();
+
+    /**
+     * @return root password, null when authentication is disabled or password is not known
+     */
+    @Nullable
+    String getPassword();
+
+    /**
+     * @return true if requests must be authenticated
+     */
+    boolean isAuthenticationEnabled();
+}
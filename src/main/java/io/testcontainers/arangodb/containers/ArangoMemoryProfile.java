@@ -0,0 +1,99 @@
+package io.testcontainers.arangodb.containers;
+
+import java.util.Map;
+
+/**
+ * Memory and CPU budget of single ArangoDB server (or cluster node) container.
+ * <p>
+ * Container is limited to budget and ArangoDB is told about it, by default ArangoDB sizes its
+ * caches and scheduler by host memory and cores it detects, which makes several servers on one host
+ * overcommit memory. Caches are sized from budget: RocksDB block cache and write buffers 1/8 of
+ * memory each, in-memory cache 1/16 of memory, scheduler threads 4 per CPU.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoMemoryProfile {
+
+    private static final long MB = 1024L * 1024L;
+
+    /**
+     * Smallest reasonable budget for test server or cluster node
+     */
+    public static final ArangoMemoryProfile TINY = of(256 * MB, 0.5);
+    public static final ArangoMemoryProfile SMALL = of(512 * MB, 1.0);
+    public static final ArangoMemoryProfile MEDIUM = of(1024 * MB, 2.0);
+
+    private static final long MIN_MEMORY = 128 * MB;
+    private static final int MIN_THREADS = 4;
+
+    private final long memory;
+    private final double cpus;
+
+    private ArangoMemoryProfile(long memory, double cpus) {
+        this.memory = memory;
+        this.cpus = cpus;
+    }
+
+    /**
+     * @param memory container memory limit in bytes, swap is disabled
+     * @param cpus   container CPU limit, fractions are allowed
+     * @return memory profile
+     */
+    public static ArangoMemoryProfile of(long memory, double cpus) {
+        if (memory < MIN_MEMORY)
+            throw new IllegalArgumentException("Memory can not be less " + MIN_MEMORY + " bytes");
+        if (cpus <= 0)
+            throw new IllegalArgumentException("CPUs must be positive");
+        return new ArangoMemoryProfile(memory, cpus);
+    }
+
+    /**
+     * @param servers amount of ArangoDB servers that share budget
+     * @return budget of single server
+     */
+    public ArangoMemoryProfile perServer(int servers) {
+        if (servers < 1)
+            throw new IllegalArgumentException("Servers can not be less 1");
+        return (servers == 1)
+                ? this
+                : new ArangoMemoryProfile(memory / servers, cpus / servers);
+    }
+
+    public long memory() {
+        return memory;
+    }
+
+    public double cpus() {
+        return cpus;
+    }
+
+    /**
+     * @return environment that overrides memory and cores ArangoDB detects
+     */
+    public Map<String, String> environment() {
+        return Map.of(
+                "ARANGODB_OVERRIDE_DETECTED_TOTAL_MEMORY", String.valueOf(memory),
+                "ARANGODB_OVERRIDE_DETECTED_NUMBER_OF_CORES", String.valueOf(cores()));
+    }
+
+    /**
+     * @return server options that size caches and scheduler by budget
+     */
+    public ArangoServerOptions serverOptions() {
+        return ArangoServerOptions.empty()
+                .withRocksDbBlockCacheSize(memory / 8)
+                .withRocksDbTotalWriteBufferSize(memory / 8)
+                .withCacheSize(memory / 16)
+                .with("server.maximal-threads", Math.max(MIN_THREADS, cores() * 4));
+    }
+
+    private int cores() {
+        return Math.max(1, (int) Math.ceil(cpus));
+    }
+
+    @Override
+    public String toString() {
+        return "[memory=" + (memory / MB) + "MB, cpus=" + cpus + ']';
+    }
+}
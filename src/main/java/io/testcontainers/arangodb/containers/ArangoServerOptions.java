@@ -0,0 +1,268 @@
+package io.testcontainers.arangodb.containers;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable set of validated {@code arangod} server options, each option is present at most once
+ * and later value replaces earlier one.
+ * <p>
+ * Presets are starting points to reproduce production tuning in tests, they can be merged and
+ * refined with typed methods or with raw {@link #with(String, Object)}.
+ *
+ * <pre>
+ * {@code
+ * ArangoServerOptions options = ArangoServerOptions.throughput()
+ *         .withQueryCacheMode(ArangoServerOptions.QueryCacheMode.ON)
+ *         .with("log.level", "queries=warning");
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoServerOptions {
+
+    public enum QueryCacheMode {
+
+        OFF("off"),
+        ON("on"),
+        /**
+         * Only queries with {@code cache: true} option are cached
+         */
+        DEMAND("demand");
+
+        private final String value;
+
+        QueryCacheMode(String value) {
+            this.value = value;
+        }
+
+        public String value() {
+            return value;
+        }
+    }
+
+    private static final Pattern NAME = Pattern.compile("[a-z][a-z0-9-]*(\\.[a-z0-9][a-z0-9-]*)+");
+    private static final long MB = 1024L * 1024L;
+
+    private static final ArangoServerOptions EMPTY = new ArangoServerOptions(Map.of());
+
+    private final Map<String, String> options;
+
+    private ArangoServerOptions(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static ArangoServerOptions empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Relaxed durability for data that is thrown away with container: no background WAL syncs, no
+     * wait for sync, no statistics gathering and Foxx queues.
+     *
+     * @return preset options
+     */
+    public static ArangoServerOptions fastStorage() {
+        return empty()
+                .with("rocksdb.sync-interval", 0)
+                .with("database.wait-for-sync", false)
+                .with("server.statistics", false)
+                .with("foxx.queues", false);
+    }
+
+    /**
+     * Smallest footprint for functional tests: few scheduler threads, small RocksDB buffers and
+     * caches, short request queue, query cache off.
+     *
+     * @return preset options
+     */
+    public static ArangoServerOptions minimal() {
+        return empty()
+                .withQueryCacheMode(QueryCacheMode.OFF)
+                .withSchedulerThreads(2, 4)
+                .withRocksDbWriteBuffers(16 * MB, 2)
+                .withRocksDbBlockCacheSize(64 * MB)
+                .withRequestQueueSize(512);
+    }
+
+    /**
+     * Typical production like tuning for load and performance tests: more scheduler threads, larger
+     * RocksDB buffers and block cache, long request queue, query cache on demand.
+     *
+     * @return preset options
+     */
+    public static ArangoServerOptions throughput() {
+        return empty()
+                .withQueryCacheMode(QueryCacheMode.DEMAND)
+                .withSchedulerThreads(8, 64)
+                .withRocksDbWriteBuffers(64 * MB, 4)
+                .withRocksDbBlockCacheSize(512 * MB)
+                .withRequestQueueSize(8192);
+    }
+
+    /**
+     * @param name  option name without leading dashes, such as {@code query.cache-mode}
+     * @param value option value, booleans and numbers are converted to string
+     * @return new options with option set
+     * @throws IllegalArgumentException if name or value is not valid
+     */
+    public ArangoServerOptions with(String name, Object value) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(value);
+        if (!NAME.matcher(name).matches())
+            throw new IllegalArgumentException("Server option name '" + name + "' must look like 'section.option'");
+
+        final String stringValue = String.valueOf(value);
+        if (stringValue.isEmpty() || stringValue.chars().anyMatch(Character::isWhitespace))
+            throw new IllegalArgumentException("Server option '" + name + "' value can not be empty or contain whitespace");
+
+        final Map<String, String> copy = new LinkedHashMap<>(options);
+        copy.remove(name);
+        copy.put(name, stringValue);
+        return new ArangoServerOptions(Collections.unmodifiableMap(copy));
+    }
+
+    public ArangoServerOptions withQueryCacheMode(QueryCacheMode mode) {
+        return with("query.cache-mode", mode.value());
+    }
+
+    /**
+     * @param entries maximum amount of cached query results per database
+     * @return new options
+     */
+    public ArangoServerOptions withQueryCacheEntries(int entries) {
+        return with("query.cache-entries", requirePositive("Query cache entries", entries));
+    }
+
+    /**
+     * @param minimal scheduler threads that are always running
+     * @param maximal scheduler threads that can be started under load
+     * @return new options
+     */
+    public ArangoServerOptions withSchedulerThreads(int minimal, int maximal) {
+        requirePositive("Minimal threads", minimal);
+        if (maximal < minimal)
+            throw new IllegalArgumentException("Maximal threads can not be less minimal threads");
+        return with("server.minimal-threads", minimal)
+                .with("server.maximal-threads", maximal);
+    }
+
+    /**
+     * @param size  of single RocksDB write buffer (memtable) in bytes
+     * @param count maximal amount of write buffers per column family
+     * @return new options
+     */
+    public ArangoServerOptions withRocksDbWriteBuffers(long size, int count) {
+        return with("rocksdb.write-buffer-size", requirePositive("Write buffer size", size))
+                .with("rocksdb.max-write-buffer-number", requirePositive("Write buffer number", count));
+    }
+
+    /**
+     * @param size total size of all RocksDB write buffers in bytes
+     * @return new options
+     */
+    public ArangoServerOptions withRocksDbTotalWriteBufferSize(long size) {
+        return with("rocksdb.total-write-buffer-size", requirePositive("Total write buffer size", size));
+    }
+
+    /**
+     * @param size RocksDB block cache size in bytes
+     * @return new options
+     */
+    public ArangoServerOptions withRocksDbBlockCacheSize(long size) {
+        return with("rocksdb.block-cache-size", requirePositive("Block cache size", size));
+    }
+
+    /**
+     * @param size in-memory cache (edge and hash index caches) size in bytes
+     * @return new options
+     */
+    public ArangoServerOptions withCacheSize(long size) {
+        return with("cache.size", requirePositive("Cache size", size));
+    }
+
+    /**
+     * @param size maximal amount of queued requests, further requests are rejected with 503
+     * @return new options
+     */
+    public ArangoServerOptions withRequestQueueSize(int size) {
+        return with("server.maximal-queue-size", requirePositive("Request queue size", size));
+    }
+
+    /**
+     * @param other options that replace options with same names
+     * @return new options
+     */
+    public ArangoServerOptions merge(ArangoServerOptions other) {
+        if (other.options.isEmpty()) {
+            return this;
+        }
+
+        ArangoServerOptions merged = this;
+        for (Map.Entry<String, String> option : other.options.entrySet()) {
+            merged = merged.with(option.getKey(), option.getValue());
+        }
+        return merged;
+    }
+
+    /**
+     * @param prefix such as {@code agency.}
+     * @return true if any option starts with prefix
+     */
+    public boolean hasPrefix(String prefix) {
+        return options.keySet().stream().anyMatch(name -> name.startsWith(prefix));
+    }
+
+    public Optional<String> get(String name) {
+        return Optional.ofNullable(options.get(name));
+    }
+
+    public Map<String, String> asMap() {
+        return options;
+    }
+
+    public boolean isEmpty() {
+        return options.isEmpty();
+    }
+
+    /**
+     * @return options as {@code --name=value} command arguments
+     */
+    public List<String> toArguments() {
+        return options.entrySet().stream()
+                .map(option -> "--" + option.getKey() + "=" + option.getValue())
+                .toList();
+    }
+
+    private static long requirePositive(String name, long value) {
+        if (value <= 0)
+            throw new IllegalArgumentException(name + " must be positive");
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        return options.equals(((ArangoServerOptions) o).options);
+    }
+
+    @Override
+    public int hashCode() {
+        return options.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", toArguments());
+    }
+}
@@ -0,0 +1,211 @@
+package io.testcontainers.arangodb.containers;
+
+import io.testcontainers.arangodb.util.ArangoFileLock;
+import io.testcontainers.arangodb.util.ArangoSnapshotImages;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Snapshot of seeded {@link ArangoContainer} data directory cached as local docker image.
+ * <p>
+ * Image is tagged with content hash of base image, authentication and seed inputs (seed files
+ * content and seed keys), seeder is executed only when image for current hash is not present
+ * locally, otherwise containers start directly from cached image with all data already in place.
+ * Seeder code itself is not hashed, change seed key when seeder changes.
+ *
+ * <pre>
+ * {@code
+ * ArangoSnapshot snapshot = ArangoSnapshot.builder("arangodb:3.12.4")
+ *         .withSeedFile(Path.of("src/test/resources/fixtures"))
+ *         .withSeedKey("schema-v3")
+ *         .withSeeder(container -> ...)
+ *         .build();
+ *
+ * ArangoContainer container = snapshot.createContainer();
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoSnapshot {
+
+    public static final class Builder {
+
+        private final DockerImageName baseImage;
+        private final List<Path> seedFiles = new ArrayList<>();
+        private final List<String> seedKeys = new ArrayList<>();
+        private String repository = "arangodb-snapshot";
+        private String password;
+        private Consumer<ArangoContainer> seeder;
+
+        private Builder(DockerImageName baseImage) {
+            baseImage.assertCompatibleWith(IMAGE);
+            this.baseImage = baseImage;
+        }
+
+        /**
+         * @param repository of snapshot image, {@code arangodb-snapshot} by default
+         * @return self
+         */
+        public Builder withRepository(String repository) {
+            this.repository = Objects.requireNonNull(repository);
+            return this;
+        }
+
+        /**
+         * @param password for root user, snapshot is started without authentication by default
+         * @return self
+         */
+        public Builder withPassword(String password) {
+            this.password = Objects.requireNonNull(password);
+            return this;
+        }
+
+        /**
+         * @param seedFile file or directory which content is part of snapshot hash
+         * @return self
+         */
+        public Builder withSeedFile(Path seedFile) {
+            this.seedFiles.add(Objects.requireNonNull(seedFile));
+            return this;
+        }
+
+        /**
+         * @param seedKey arbitrary value that is part of snapshot hash, such as schema version
+         * @return self
+         */
+        public Builder withSeedKey(String seedKey) {
+            this.seedKeys.add(Objects.requireNonNull(seedKey));
+            return this;
+        }
+
+        /**
+         * @param seeder populates started container, executed only when snapshot is (re)built
+         * @return self
+         */
+        public Builder withSeeder(Consumer<ArangoContainer> seeder) {
+            this.seeder = Objects.requireNonNull(seeder);
+            return this;
+        }
+
+        public ArangoSnapshot build() {
+            if (seeder == null)
+                throw new IllegalArgumentException("Snapshot seeder is required");
+
+            final ArangoSnapshotImages.Hasher hasher = ArangoSnapshotImages.hasher()
+                    .put(baseImage.asCanonicalNameString())
+                    .put((password == null)
+                            ? "no-auth"
+                            : "password:" + password);
+            seedKeys.forEach(hasher::put);
+            seedFiles.forEach(hasher::put);
+            return new ArangoSnapshot(baseImage, repository, hasher.hash(), password, seeder);
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoSnapshot.class);
+
+    private static final DockerImageName IMAGE = DockerImageName.parse("arangodb");
+
+    private final DockerImageName baseImage;
+    private final String hash;
+    private final String imageName;
+    private final String password;
+    private final Consumer<ArangoContainer> seeder;
+
+    private ArangoSnapshot(DockerImageName baseImage,
+                           String repository,
+                           String hash,
+                           String password,
+                           Consumer<ArangoContainer> seeder) {
+        this.baseImage = baseImage;
+        this.hash = hash;
+        this.imageName = repository + ":" + hash;
+        this.password = password;
+        this.seeder = seeder;
+    }
+
+    public static Builder builder(String baseImage) {
+        return new Builder(DockerImageName.parse(baseImage));
+    }
+
+    public static Builder builder(DockerImageName baseImage) {
+        return new Builder(baseImage);
+    }
+
+    /**
+     * @return content hash of base image, authentication and seed inputs
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * @return snapshot image name tagged with content hash
+     */
+    public String getImageName() {
+        return imageName;
+    }
+
+    /**
+     * @return true if snapshot image for current seed inputs is present locally
+     */
+    public boolean isCached() {
+        return ArangoSnapshotImages.exists(imageName);
+    }
+
+    /**
+     * Builds snapshot image if it is not cached yet, build is guarded by file lock, so concurrent JVMs
+     * on same host build image only once.
+     *
+     * @return snapshot image compatible with {@link ArangoContainer}
+     */
+    public DockerImageName resolve() {
+        try (ArangoFileLock ignored = ArangoFileLock.lock(ArangoFileLock.DEFAULT_DIRECTORY.resolve("snapshot-" + hash + ".lock"))) {
+            if (isCached()) {
+                logger.debug("ArangoDB snapshot image {} is cached", imageName);
+            } else {
+                logger.info("ArangoDB snapshot image {} is not cached, seeding from {}", imageName,
+                        baseImage.asCanonicalNameString());
+                final ArangoContainer container = configure(new ArangoContainer(baseImage));
+                try {
+                    container.start();
+                    seeder.accept(container);
+                } catch (RuntimeException e) {
+                    container.stop();
+                    throw e;
+                }
+
+                ArangoSnapshotImages.capture(container, baseImage.asCanonicalNameString(), imageName, hash,
+                        List.of(ArangoContainer.DATA_DIRECTORY, ArangoContainer.APPS_DIRECTORY));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't lock snapshot image " + imageName, e);
+        }
+
+        return DockerImageName.parse(imageName).asCompatibleSubstituteFor(IMAGE);
+    }
+
+    /**
+     * @return new not started container from snapshot image with snapshot authentication, snapshot
+     *             is built first if it is not cached yet
+     */
+    public ArangoContainer createContainer() {
+        return configure(new ArangoContainer(resolve()));
+    }
+
+    private ArangoContainer configure(ArangoContainer container) {
+        return (password == null)
+                ? container.withoutAuth()
+                : container.withPassword(password);
+    }
+}
@@ -0,0 +1,62 @@
+package io.testcontainers.arangodb.containers;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event emitted for every {@link StartupReport.Phase} of container or cluster
+ * startup, event duration is phase duration.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Name("io.testcontainers.arangodb.StartupPhase")
+@Label("ArangoDB Startup Phase")
+@Category({ "Testcontainers", "ArangoDB" })
+@Description("Duration of ArangoDB container or cluster startup phase")
+@StackTrace(false)
+public final class ArangoStartupEvent extends jdk.jfr.Event {
+
+    @Label("Name")
+    @Description("Container name or cluster node alias")
+    String name;
+
+    @Label("Node Type")
+    @Description("SINGLE, CLUSTER or cluster node type")
+    String nodeType;
+
+    @Label("Phase")
+    String phase;
+
+    ArangoStartupEvent() {}
+
+    /**
+     * @param phase started phase
+     * @return event with started timer, must be ended via {@link #end()} and committed via
+     *             {@link #commit(String, String)}
+     */
+    public static ArangoStartupEvent begin(StartupReport.Phase phase) {
+        final ArangoStartupEvent event = new ArangoStartupEvent();
+        event.phase = phase.name();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits ended event if recording is enabled, name is set only on commit cause it may be unknown
+     * when phase begins (container name is assigned on creation)
+     *
+     * @param name     container name or cluster node alias
+     * @param nodeType SINGLE, CLUSTER or cluster node type
+     */
+    public void commit(String name, String nodeType) {
+        if (shouldCommit()) {
+            this.name = name;
+            this.nodeType = nodeType;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.testcontainers.arangodb.containers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+
+/**
+ * ArangoDB readiness strategy that probes HTTP API instead of scanning container logs.
+ * <p>
+ * Polls <a href=
+ * "https://docs.arangodb.com/stable/develop/http-api/administration/#get-the-server-availability">/_admin/server/availability</a>
+ * and <a href=
+ * "https://docs.arangodb.com/stable/develop/http-api/administration/#get-the-server-version">/_api/version</a>
+ * with short backoff that grows while server is unreachable and resets as soon as server responds.
+ * <p>
+ * When credentials are known version endpoint must answer 200, otherwise (random password) 401 also
+ * means that server is ready to process authenticated requests.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public class ArangoWaitStrategy extends AbstractWaitStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoWaitStrategy.class);
+
+    private static final long BACKOFF_INITIAL_MILLIS = 25;
+    private static final long BACKOFF_MAX_MILLIS = 500;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(2);
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+
+    private enum Probe {
+        UNREACHABLE,
+        RESPONDING,
+        READY
+    }
+
+    private int[] ports = { ArangoContainer.PORT };
+    private boolean availabilityCheck = true;
+    private String authorization;
+
+    private volatile Duration readyDuration;
+
+    /**
+     * @param user     to authenticate probe requests with
+     * @param password to authenticate probe requests with, if null then probe requests are sent
+     *                 without authentication
+     * @return self
+     */
+    public ArangoWaitStrategy withCredentials(String user, @Nullable String password) {
+        this.authorization = (password == null)
+                ? null
+                : "Basic " + Base64.getEncoder().encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+        return this;
+    }
+
+    /**
+     * @param availabilityCheck whether to probe {@code /_admin/server/availability}, cluster nodes
+     *                              other than coordinators do not report availability
+     * @return self
+     */
+    public ArangoWaitStrategy withAvailabilityCheck(boolean availabilityCheck) {
+        this.availabilityCheck = availabilityCheck;
+        return this;
+    }
+
+    /**
+     * @param ports container (not mapped) ports that all must be ready, {@link ArangoContainer#PORT} by
+     *                  default
+     * @return self
+     */
+    public ArangoWaitStrategy withPorts(int... ports) {
+        if (ports.length == 0)
+            throw new IllegalArgumentException("At least one port is required");
+        this.ports = ports.clone();
+        return this;
+    }
+
+    /**
+     * @return time it took for server to become ready during last wait or null if it never was
+     */
+    public @Nullable Duration getReadyDuration() {
+        return readyDuration;
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        final long started = System.nanoTime();
+        final long deadline = started + startupTimeout.toNanos();
+
+        final String host = waitStrategyTarget.getHost();
+        final List<URI> endpoints = new ArrayList<>(ports.length);
+        for (int port : ports) {
+            endpoints.add(URI.create("http://" + host + ":" + waitStrategyTarget.getMappedPort(port)));
+        }
+
+        long backoff = BACKOFF_INITIAL_MILLIS;
+        while (true) {
+            final Probe probe = probe(endpoints);
+            if (probe == Probe.READY) {
+                this.readyDuration = Duration.ofNanos(System.nanoTime() - started);
+                logger.info("ArangoDB {} is ready in {} millis", endpoints, readyDuration.toMillis());
+                return;
+            }
+
+            if (System.nanoTime() - deadline > 0) {
+                throw new ContainerLaunchException("Timed out waiting for ArangoDB " + endpoints
+                        + " to become ready, last probe result " + probe + " after " + startupTimeout.toMillis() + " millis");
+            }
+
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ContainerLaunchException("Interrupted while waiting for ArangoDB to become ready", e);
+            }
+
+            // server is about to be ready when it responds, so poll again quickly
+            backoff = (probe == Probe.RESPONDING)
+                    ? BACKOFF_INITIAL_MILLIS
+                    : Math.min(backoff * 3 / 2, BACKOFF_MAX_MILLIS);
+        }
+    }
+
+    private Probe probe(List<URI> endpoints) {
+        Probe result = Probe.READY;
+        for (URI endpoint : endpoints) {
+            final Probe probe = probe(endpoint);
+            if (probe.compareTo(result) < 0) {
+                result = probe;
+            }
+        }
+        return result;
+    }
+
+    private Probe probe(URI endpoint) {
+        try {
+            if (availabilityCheck) {
+                final int availability = send(endpoint.resolve("/_admin/server/availability"), null);
+                if (availability != 200) {
+                    return Probe.RESPONDING;
+                }
+            }
+
+            final int version = send(endpoint.resolve("/_api/version"), authorization);
+            if (version == 200 || (version == 401 && authorization == null)) {
+                return Probe.READY;
+            }
+
+            return Probe.RESPONDING;
+        } catch (IOException e) {
+            logger.trace("ArangoDB {} is not reachable yet: {}", endpoint, e.getMessage());
+            return Probe.UNREACHABLE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted while waiting for ArangoDB to become ready", e);
+        }
+    }
+
+    private static int send(URI uri, @Nullable String authorization) throws IOException, InterruptedException {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .GET()
+                .timeout(REQUEST_TIMEOUT);
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+
+        return HTTP_CLIENT.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,78 @@
+package io.testcontainers.arangodb.containers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records {@link StartupReport.Phase} timings of single container start, phases are expected to
+ * follow each other.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class StartupRecorder {
+
+    private final Map<StartupReport.Phase, Duration> phases = new EnumMap<>(StartupReport.Phase.class);
+    private final List<ArangoStartupEvent> events = new ArrayList<>();
+
+    private StartupReport.Phase current;
+    private ArangoStartupEvent currentEvent;
+    private long started;
+    private long phaseStarted;
+
+    synchronized void begin() {
+        phases.clear();
+        events.clear();
+        started = System.nanoTime();
+        current = null;
+        next(StartupReport.Phase.IMAGE_RESOLUTION);
+    }
+
+    /**
+     * Ends current phase and starts next phase, if current phase is not expected phase then does
+     * nothing
+     *
+     * @param expected phase to end
+     * @param next     phase to start
+     */
+    synchronized void advance(StartupReport.Phase expected, StartupReport.Phase next) {
+        if (current == expected) {
+            endCurrent();
+            next(next);
+        }
+    }
+
+    /**
+     * @param expected last phase to end
+     * @param name     container name or cluster node alias
+     * @param nodeType SINGLE or cluster node type
+     * @return report or null if recording was not started or last phase is not expected phase
+     */
+    synchronized StartupReport finish(StartupReport.Phase expected, String name, String nodeType) {
+        if (current != expected) {
+            return null;
+        }
+
+        endCurrent();
+        current = null;
+        events.forEach(e -> e.commit(name, nodeType));
+        events.clear();
+        return StartupReport.of(name, nodeType, phases, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private void next(StartupReport.Phase phase) {
+        current = phase;
+        phaseStarted = System.nanoTime();
+        currentEvent = ArangoStartupEvent.begin(phase);
+    }
+
+    private void endCurrent() {
+        phases.put(current, Duration.ofNanos(System.nanoTime() - phaseStarted));
+        currentEvent.end();
+        events.add(currentEvent);
+        currentEvent = null;
+    }
+}
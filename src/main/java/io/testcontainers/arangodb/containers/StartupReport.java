@@ -0,0 +1,133 @@
+package io.testcontainers.arangodb.containers;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Startup timings of {@link ArangoContainer} or whole cluster split by phases.
+ * <p>
+ * Same phases are emitted as {@link ArangoStartupEvent} JDK Flight Recorder events.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class StartupReport {
+
+    public enum Phase {
+
+        /**
+         * Container configuration and image resolution (including pull when image is missing)
+         */
+        IMAGE_RESOLUTION,
+        /**
+         * Container creation in Docker
+         */
+        CONTAINER_CREATION,
+        /**
+         * Container start until container is running and ports are mapped
+         */
+        PROCESS_BOOT,
+        /**
+         * Waiting for server inside container to become ready
+         */
+        READINESS,
+        /**
+         * Cluster only, starting all cluster nodes
+         */
+        NODES_START,
+        /**
+         * Cluster only, waiting for all cluster nodes to become healthy
+         */
+        CLUSTER_HEALTH
+    }
+
+    private final String name;
+    private final String nodeType;
+    private final Map<Phase, Duration> phases;
+    private final Duration total;
+    private final List<StartupReport> nodes;
+
+    private StartupReport(String name, String nodeType, Map<Phase, Duration> phases, Duration total, List<StartupReport> nodes) {
+        this.name = name;
+        this.nodeType = nodeType;
+        this.phases = Collections.unmodifiableMap(new EnumMap<>(phases));
+        this.total = total;
+        this.nodes = List.copyOf(nodes);
+    }
+
+    public static StartupReport of(String name, String nodeType, Map<Phase, Duration> phases, Duration total) {
+        return new StartupReport(name, nodeType, phases, total, List.of());
+    }
+
+    public static StartupReport of(String name,
+                                   String nodeType,
+                                   Map<Phase, Duration> phases,
+                                   Duration total,
+                                   List<StartupReport> nodes) {
+        return new StartupReport(name, nodeType, phases, total, nodes);
+    }
+
+    /**
+     * @return container name or cluster node alias
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return SINGLE, CLUSTER or cluster node type
+     */
+    public String nodeType() {
+        return nodeType;
+    }
+
+    public Map<Phase, Duration> phases() {
+        return phases;
+    }
+
+    public Duration phase(Phase phase) {
+        return phases.getOrDefault(phase, Duration.ZERO);
+    }
+
+    public Duration total() {
+        return total;
+    }
+
+    /**
+     * @return reports of cluster nodes, empty for single container
+     */
+    public List<StartupReport> nodes() {
+        return nodes;
+    }
+
+    /**
+     * @return phase that took the most time
+     */
+    public Optional<Phase> slowestPhase() {
+        return phases.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        append(builder, "");
+        return builder.toString();
+    }
+
+    private void append(StringBuilder builder, String indent) {
+        builder.append(indent).append(nodeType).append(" [").append(name).append("] total ").append(total.toMillis())
+                .append(" millis");
+        phases.forEach((phase, duration) -> builder.append(", ").append(phase).append(' ').append(duration.toMillis())
+                .append(" millis"));
+        for (StartupReport node : nodes) {
+            builder.append('\n');
+            node.append(builder, indent + "  ");
+        }
+    }
+}
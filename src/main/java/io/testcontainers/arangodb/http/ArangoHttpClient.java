@@ -0,0 +1,295 @@
+package io.testcontainers.arangodb.http;
+
+import io.testcontainers.arangodb.containers.ArangoDeployment;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lightweight ArangoDB HTTP API client on top of JDK {@link HttpClient}.
+ * <p>
+ * Requests are balanced round-robin across all endpoints (all coordinators in case of cluster).
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoHttpClient {
+
+    public static final class Response {
+
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        public int status() {
+            return status;
+        }
+
+        public String body() {
+            return body;
+        }
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        public Map<String, Object> json() {
+            return Json.parseObject(body);
+        }
+
+        /**
+         * @param operation description used in exception message
+         * @return self when response is successful
+         * @throws IllegalStateException when response is not successful
+         */
+        public Response requireSuccess(String operation) {
+            if (!isSuccess()) {
+                throw new IllegalStateException(operation + " failed with status " + status + " and body: " + body);
+            }
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "[status=" + status + ", body=" + body + ']';
+        }
+    }
+
+    /**
+     * Reader of response body that is consumed straight from HTTP stream
+     *
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    public interface StreamReader<T> {
+
+        /**
+         * @param status response status
+         * @param body   response body, closed after reader returns
+         * @return result
+         * @throws IOException when body reading fails
+         */
+        T read(int status, BufferedReader body) throws IOException;
+    }
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<URI> endpoints;
+    private final String user;
+    private final String password;
+    private final String authorization;
+    private final Duration timeout;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private ArangoHttpClient(List<URI> endpoints, String user, @Nullable String password, Duration timeout) {
+        if (endpoints.isEmpty())
+            throw new IllegalArgumentException("At least one endpoint is required");
+
+        this.endpoints = List.copyOf(endpoints);
+        this.user = user;
+        this.password = password;
+        this.timeout = timeout;
+        this.authorization = (password == null)
+                ? null
+                : "Basic " + Base64.getEncoder().encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ArangoHttpClient of(String host, int port, String user, @Nullable String password) {
+        return new ArangoHttpClient(List.of(endpoint(host, port)), user, password, DEFAULT_TIMEOUT);
+    }
+
+    public static ArangoHttpClient of(List<ArangoDeployment.HostAndPort> hostsAndPorts, String user, @Nullable String password) {
+        final List<URI> endpoints = hostsAndPorts.stream()
+                .map(hp -> endpoint(hp.host(), hp.port()))
+                .toList();
+        return new ArangoHttpClient(endpoints, user, password, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * @param deployment started container, cluster or single cluster node (only coordinators of
+     *                       cluster with password require credentials)
+     * @return client balancing requests across all deployment endpoints
+     * @throws IllegalStateException when deployment requires authentication, but its password is not
+     *                                   known, such as with random password
+     */
+    public static ArangoHttpClient of(ArangoDeployment deployment) {
+        return of(deployment.getHostsAndPorts(), deployment.getUser(), requirePassword(deployment));
+    }
+
+    /**
+     * @param deployment to take credentials from
+     * @return password or null when authentication is off
+     * @throws IllegalStateException when deployment requires authentication, but its password is not
+     *                                   known, such as with random password
+     */
+    public static @Nullable String requirePassword(ArangoDeployment deployment) {
+        final String password = deployment.getPassword();
+        if (password == null && deployment.isAuthenticationEnabled()) {
+            throw new IllegalStateException("Container requires authentication, but its password is unknown "
+                    + "(random password?), specify it with withPassword() or start container withoutAuth()");
+        }
+        return password;
+    }
+
+    /**
+     * @param value path segment or query parameter value, such as collection or database name
+     * @return value encoded for URL, spaces are encoded as {@code %20} so value is valid in path
+     */
+    public static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static URI endpoint(String host, int port) {
+        return URI.create("http://" + host + ":" + port);
+    }
+
+    /**
+     * @param timeout per request timeout
+     * @return new client with same endpoints and credentials
+     */
+    public ArangoHttpClient withTimeout(Duration timeout) {
+        return new ArangoHttpClient(endpoints, user, password, timeout);
+    }
+
+    /**
+     * @param database to send requests to
+     * @return new client that sends all requests to specified database
+     */
+    public ArangoHttpClient withDatabase(String database) {
+        final List<URI> databaseEndpoints = endpoints.stream()
+                .map(e -> URI.create(e.toString() + "/_db/" + encode(database)))
+                .toList();
+        return new ArangoHttpClient(databaseEndpoints, user, password, timeout);
+    }
+
+    public List<URI> getEndpoints() {
+        return endpoints;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public @Nullable String getPassword() {
+        return password;
+    }
+
+    public Response get(String path) {
+        return send("GET", path, HttpRequest.BodyPublishers.noBody());
+    }
+
+    /**
+     * Sends GET request to next endpoint and reads its body as stream, without buffering it whole
+     *
+     * @param path   path starting with slash, may contain query
+     * @param reader of response status and body
+     * @param <T>    result type
+     * @return result of reader
+     */
+    public <T> T get(String path, StreamReader<T> reader) {
+        final URI endpoint = nextEndpoint();
+        final HttpRequest request = request(endpoint, "GET", path, HttpRequest.BodyPublishers.noBody());
+        try {
+            final HttpResponse<InputStream> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (BufferedReader body = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                return reader.read(response.statusCode(), body);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Request GET " + endpoint + path + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Request GET " + endpoint + path + " interrupted", e);
+        }
+    }
+
+    public Response delete(String path) {
+        return send("DELETE", path, HttpRequest.BodyPublishers.noBody());
+    }
+
+    public Response post(String path, @Nullable Object body) {
+        return send("POST", path, ofJson(body));
+    }
+
+    public Response put(String path, @Nullable Object body) {
+        return send("PUT", path, ofJson(body));
+    }
+
+    public Response patch(String path, @Nullable Object body) {
+        return send("PATCH", path, ofJson(body));
+    }
+
+    /**
+     * Sends request to next endpoint in round-robin order.
+     *
+     * @param method HTTP method
+     * @param path   path starting with slash, may contain query
+     * @param body   request body
+     * @return response
+     */
+    public Response send(String method, String path, HttpRequest.BodyPublisher body) {
+        return send(nextEndpoint(), method, path, body);
+    }
+
+    /**
+     * @param endpoint one of {@link #getEndpoints()}
+     * @param method   HTTP method
+     * @param path     path starting with slash, may contain query
+     * @param body     request body
+     * @return response
+     */
+    public Response send(URI endpoint, String method, String path, HttpRequest.BodyPublisher body) {
+        try {
+            final HttpResponse<String> response = HTTP_CLIENT.send(request(endpoint, method, path, body),
+                    HttpResponse.BodyHandlers.ofString());
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Request " + method + " " + endpoint + path + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Request " + method + " " + endpoint + path + " interrupted", e);
+        }
+    }
+
+    private HttpRequest request(URI endpoint, String method, String path, HttpRequest.BodyPublisher body) {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(endpoint.toString() + path))
+                .method(method, body)
+                .timeout(timeout);
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+        return builder.build();
+    }
+
+    private URI nextEndpoint() {
+        return endpoints.get(Math.floorMod(counter.getAndIncrement(), endpoints.size()));
+    }
+
+    private static HttpRequest.BodyPublisher ofJson(@Nullable Object body) {
+        return (body == null)
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(Json.write(body), StandardCharsets.UTF_8);
+    }
+}
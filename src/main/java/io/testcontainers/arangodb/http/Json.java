@@ -0,0 +1,282 @@
+package io.testcontainers.arangodb.http;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Minimal JSON reader and writer for ArangoDB HTTP API payloads, so module does not require any
+ * JSON library on classpath.
+ * <p>
+ * Objects are read as {@link LinkedHashMap}, arrays as {@link ArrayList}, integral numbers as
+ * {@link Long}, other numbers as {@link Double}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class Json {
+
+    private final String json;
+    private int position;
+
+    private Json(String json) {
+        this.json = json;
+    }
+
+    public static @Nullable Object parse(String json) {
+        final Json parser = new Json(json);
+        parser.skipWhitespace();
+        final Object value = parser.readValue();
+        parser.skipWhitespace();
+        if (parser.position != json.length()) {
+            throw parser.error("Unexpected trailing content");
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> parseObject(String json) {
+        final Object value = parse(json);
+        if (value instanceof Map) {
+            return (Map<String, Object>) value;
+        }
+        throw new IllegalArgumentException("Expected JSON object, but was: " + json);
+    }
+
+    public static String write(@Nullable Object value) {
+        final StringBuilder builder = new StringBuilder();
+        write(builder, value);
+        return builder.toString();
+    }
+
+    public static void write(StringBuilder builder, @Nullable Object value) {
+        if (value == null) {
+            builder.append("null");
+        } else if (value instanceof String s) {
+            writeString(builder, s);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            builder.append(value);
+        } else if (value instanceof Map<?, ?> map) {
+            builder.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                writeString(builder, String.valueOf(entry.getKey()));
+                builder.append(':');
+                write(builder, entry.getValue());
+            }
+            builder.append('}');
+        } else if (value instanceof Collection<?> collection) {
+            builder.append('[');
+            boolean first = true;
+            for (Object element : collection) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                write(builder, element);
+            }
+            builder.append(']');
+        } else {
+            writeString(builder, value.toString());
+        }
+    }
+
+    private static void writeString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                case '\b' -> builder.append("\\b");
+                case '\f' -> builder.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+
+    private Object readValue() {
+        if (position >= json.length()) {
+            throw error("Unexpected end of JSON");
+        }
+
+        final char c = json.charAt(position);
+        return switch (c) {
+            case '{' -> readObject();
+            case '[' -> readArray();
+            case '"' -> readString();
+            case 't' -> readLiteral("true", Boolean.TRUE);
+            case 'f' -> readLiteral("false", Boolean.FALSE);
+            case 'n' -> readLiteral("null", null);
+            default -> readNumber();
+        };
+    }
+
+    private Map<String, Object> readObject() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        position++;
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return map;
+        }
+
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("Expected object key");
+            }
+            final String key = readString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            map.put(key, readValue());
+            skipWhitespace();
+            final char c = next();
+            if (c == '}') {
+                return map;
+            } else if (c != ',') {
+                throw error("Expected ',' or '}'");
+            }
+        }
+    }
+
+    private List<Object> readArray() {
+        final List<Object> list = new ArrayList<>();
+        position++;
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return list;
+        }
+
+        while (true) {
+            skipWhitespace();
+            list.add(readValue());
+            skipWhitespace();
+            final char c = next();
+            if (c == ']') {
+                return list;
+            } else if (c != ',') {
+                throw error("Expected ',' or ']'");
+            }
+        }
+    }
+
+    private String readString() {
+        position++;
+        final StringBuilder builder = new StringBuilder();
+        while (true) {
+            final char c = next();
+            if (c == '"') {
+                return builder.toString();
+            } else if (c == '\\') {
+                final char escaped = next();
+                switch (escaped) {
+                    case '"', '\\', '/' -> builder.append(escaped);
+                    case 'n' -> builder.append('\n');
+                    case 'r' -> builder.append('\r');
+                    case 't' -> builder.append('\t');
+                    case 'b' -> builder.append('\b');
+                    case 'f' -> builder.append('\f');
+                    case 'u' -> {
+                        if (position + 4 > json.length()) {
+                            throw error("Invalid unicode escape");
+                        }
+                        builder.append((char) Integer.parseInt(json, position, position + 4, 16));
+                        position += 4;
+                    }
+                    default -> throw error("Invalid escape character");
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+
+    private Object readLiteral(String literal, @Nullable Object value) {
+        if (!json.startsWith(literal, position)) {
+            throw error("Unexpected literal");
+        }
+        position += literal.length();
+        return value;
+    }
+
+    private Number readNumber() {
+        final int start = position;
+        boolean decimal = false;
+        while (position < json.length()) {
+            final char c = json.charAt(position);
+            if (c == '.' || c == 'e' || c == 'E') {
+                decimal = true;
+            } else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9'))) {
+                break;
+            }
+            position++;
+        }
+
+        if (start == position) {
+            throw error("Unexpected character");
+        }
+
+        final String number = json.substring(start, position);
+        try {
+            if (!decimal) {
+                try {
+                    return Long.parseLong(number);
+                } catch (NumberFormatException e) {
+                    // too large for long
+                }
+            }
+            return Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            throw error("Invalid number '" + number + "'");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+            position++;
+        }
+    }
+
+    private char peek() {
+        if (position >= json.length()) {
+            throw error("Unexpected end of JSON");
+        }
+        return json.charAt(position);
+    }
+
+    private char next() {
+        final char c = peek();
+        position++;
+        return c;
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + position);
+    }
+}
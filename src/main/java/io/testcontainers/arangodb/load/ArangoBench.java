@@ -0,0 +1,267 @@
+package io.testcontainers.arangodb.load;
+
+import io.testcontainers.arangodb.cluster.ArangoCluster;
+import io.testcontainers.arangodb.cluster.ArangoClusterContainer;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.startupcheck.OneShotStartupCheckStrategy;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Runs <a href="https://docs.arangodb.com/stable/components/tools/arangobench/">arangobench</a>
+ * shipped with ArangoDB image and parses its results.
+ * <p>
+ * For single container arangobench runs inside container itself, for cluster it runs in sidecar
+ * container with same image on cluster network against coordinator alias, so benchmark measures
+ * server and not Docker port forwarding.
+ *
+ * <pre>
+ * {@code
+ * ArangoBenchResult result = ArangoBench.builder("document")
+ *         .withRequests(100_000)
+ *         .withConcurrency(16)
+ *         .build()
+ *         .run(cluster);
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoBench {
+
+    public static final class Builder {
+
+        private final String testCase;
+        private int requests = 10_000;
+        private int concurrency = 4;
+        private int complexity = 1;
+        private double[] percentiles;
+        private Duration timeout = Duration.ofMinutes(10);
+        private final Map<String, String> arguments = new LinkedHashMap<>();
+
+        private Builder(String testCase) {
+            this.testCase = testCase;
+        }
+
+        /**
+         * @param requests total amount of requests, 10000 by default
+         * @return self
+         */
+        public Builder withRequests(int requests) {
+            if (requests < 1)
+                throw new IllegalArgumentException("Requests can not be less 1");
+            this.requests = requests;
+            return this;
+        }
+
+        /**
+         * @param concurrency parallel client threads, 4 by default
+         * @return self
+         */
+        public Builder withConcurrency(int concurrency) {
+            if (concurrency < 1)
+                throw new IllegalArgumentException("Concurrency can not be less 1");
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * @param complexity test case specific complexity, such as document size, 1 by default
+         * @return self
+         */
+        public Builder withComplexity(int complexity) {
+            if (complexity < 1)
+                throw new IllegalArgumentException("Complexity can not be less 1");
+            this.complexity = complexity;
+            return this;
+        }
+
+        /**
+         * Requires ArangoDB 3.8+, arangobench defaults are used otherwise
+         *
+         * @param percentiles to report, such as 50, 99, 99.9
+         * @return self
+         */
+        public Builder withPercentiles(double... percentiles) {
+            if (percentiles.length == 0 || Arrays.stream(percentiles).anyMatch(p -> p <= 0 || p >= 100))
+                throw new IllegalArgumentException("Percentiles must be between 0 and 100");
+            this.percentiles = percentiles.clone();
+            return this;
+        }
+
+        /**
+         * @param timeout of whole arangobench run, 10 minutes by default
+         * @return self
+         */
+        public Builder withTimeout(Duration timeout) {
+            this.timeout = Objects.requireNonNull(timeout);
+            return this;
+        }
+
+        /**
+         * @param name  arangobench option without leading dashes, such as {@code keep-alive}
+         * @param value option value
+         * @return self
+         */
+        public Builder withArgument(String name, Object value) {
+            if (!OPTION_NAME.matcher(name).matches() || name.startsWith("server."))
+                throw new IllegalArgumentException("Argument '" + name + "' is managed by runner or is not valid");
+            this.arguments.put(name, String.valueOf(value));
+            return this;
+        }
+
+        public ArangoBench build() {
+            return new ArangoBench(this);
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoBench.class);
+
+    private static final Pattern OPTION_NAME = Pattern.compile("[a-z][a-z0-9-]*(\\.[a-z0-9][a-z0-9-]*)*");
+
+    private final String testCase;
+    private final Duration timeout;
+    private final List<String> options;
+
+    private ArangoBench(Builder builder) {
+        this.testCase = builder.testCase;
+        this.timeout = builder.timeout;
+
+        final Map<String, String> effective = new LinkedHashMap<>();
+        effective.put("test-case", builder.testCase);
+        effective.put("requests", String.valueOf(builder.requests));
+        effective.put("concurrency", String.valueOf(builder.concurrency));
+        effective.put("complexity", String.valueOf(builder.complexity));
+        effective.put("progress", "false");
+        if (builder.percentiles != null) {
+            effective.put("percentiles", Arrays.stream(builder.percentiles)
+                    .mapToObj(p -> (p == Math.rint(p)) ? String.valueOf((long) p) : String.valueOf(p))
+                    .collect(Collectors.joining(",")));
+        }
+        effective.putAll(builder.arguments);
+        this.options = effective.entrySet().stream()
+                .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                .toList();
+    }
+
+    /**
+     * @param testCase arangobench test case, such as {@code version}, {@code document},
+     *                     {@code crud}, {@code aqlinsert}
+     * @return builder
+     */
+    public static Builder builder(String testCase) {
+        if (!OPTION_NAME.matcher(testCase).matches())
+            throw new IllegalArgumentException("Test case '" + testCase + "' is not valid");
+        return new Builder(testCase);
+    }
+
+    /**
+     * Runs arangobench inside container against server in it
+     *
+     * @param container started container
+     * @return parsed results
+     * @throws IllegalStateException when container requires authentication, but its password is not
+     *                                   known, such as with random password
+     */
+    public ArangoBenchResult run(ArangoContainer container) {
+        final String password = ArangoHttpClient.requirePassword(container);
+        if (!container.isRunning())
+            throw new IllegalStateException("Container must be started before arangobench run");
+
+        final String[] command = command("127.0.0.1", container.getUser(), password);
+        try {
+            final Container.ExecResult result = container.execInContainer(command);
+            final String output = result.getStdout() + result.getStderr();
+            if (result.getExitCode() != 0) {
+                throw new IllegalStateException("arangobench " + testCase + " failed with exit code " + result.getExitCode()
+                        + ", output: " + output);
+            }
+            return parse(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException("arangobench " + testCase + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("arangobench " + testCase + " interrupted", e);
+        }
+    }
+
+    /**
+     * Runs arangobench in sidecar container on cluster network against first coordinator
+     *
+     * @param cluster started cluster
+     * @return parsed results
+     */
+    public ArangoBenchResult run(ArangoCluster cluster) {
+        return run(cluster, 0);
+    }
+
+    /**
+     * Runs arangobench in sidecar container on cluster network against given coordinator
+     *
+     * @param cluster     started cluster
+     * @param coordinator coordinator index
+     * @return parsed results
+     * @throws IllegalStateException when cluster requires authentication, but its password is not
+     *                                   known, such as with random password
+     */
+    public ArangoBenchResult run(ArangoCluster cluster, int coordinator) {
+        final String password = ArangoHttpClient.requirePassword(cluster);
+        final ArangoClusterContainer target = cluster.getCoordinator(coordinator);
+        if (!target.isRunning())
+            throw new IllegalStateException("Cluster must be started before arangobench run");
+
+        final String[] command = command(target.getAlias(), cluster.getUser(), password);
+        try (GenericContainer<?> sidecar = new GenericContainer<>(DockerImageName.parse(target.getDockerImageName()))
+                .withNetwork(target.getNetwork())
+                .withCommand(command)
+                .withStartupCheckStrategy(new OneShotStartupCheckStrategy().withTimeout(timeout))) {
+            try {
+                sidecar.start();
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("arangobench " + testCase + " failed against " + target.getAlias()
+                        + ", output: " + sidecar.getLogs(), e);
+            }
+            return parse(sidecar.getLogs());
+        }
+    }
+
+    private ArangoBenchResult parse(String output) {
+        final ArangoBenchResult result = ArangoBenchResult.parse(testCase, output);
+        logger.info("{}", result);
+        return result;
+    }
+
+    /**
+     * @param password null only when authentication is disabled
+     */
+    private String[] command(String host, String user, @Nullable String password) {
+        final List<String> command = new ArrayList<>();
+        command.add("arangobench");
+        command.add("--server.endpoint=tcp://" + host + ":" + ArangoContainer.PORT);
+        if (password == null) {
+            command.add("--server.authentication=false");
+        } else {
+            command.add("--server.username=" + user);
+            command.add("--server.password=" + password);
+        }
+        command.addAll(options);
+        return command.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,141 @@
+package io.testcontainers.arangodb.load;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Results of single {@code arangobench} run parsed from its output.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoBenchResult {
+
+    private static final Pattern OPERATIONS = Pattern.compile("Total number of operations:\\s*(\\d+)");
+    private static final Pattern RATE = Pattern.compile("(?:Operations per second rate|Requests/sec(?:ond)?):\\s*([\\d.]+)");
+    private static final Pattern ELAPSED = Pattern.compile("Elapsed time since start:\\s*([\\d.]+)\\s*s");
+    private static final Pattern FAILURES = Pattern.compile("(\\d+) arangobench request\\(s\\) failed");
+    private static final Pattern PERCENTILE = Pattern
+            .compile("(\\d+(?:\\.\\d+)?)%(?:ile)?\\s*[:=]\\s*(\\d+(?:\\.\\d+)?(?:[eE][-+]?\\d+)?)\\s*(ms|us|\u00b5s|s)?");
+
+    private final String testCase;
+    private final long operations;
+    private final double requestsPerSecond;
+    private final Duration elapsed;
+    private final long failures;
+    private final Map<Double, Duration> percentiles;
+    private final String output;
+
+    private ArangoBenchResult(String testCase,
+                              long operations,
+                              double requestsPerSecond,
+                              Duration elapsed,
+                              long failures,
+                              Map<Double, Duration> percentiles,
+                              String output) {
+        this.testCase = testCase;
+        this.operations = operations;
+        this.requestsPerSecond = requestsPerSecond;
+        this.elapsed = elapsed;
+        this.failures = failures;
+        this.percentiles = Collections.unmodifiableMap(percentiles);
+        this.output = output;
+    }
+
+    /**
+     * @param testCase arangobench test case
+     * @param output   arangobench output
+     * @return parsed result
+     * @throws IllegalArgumentException when output has no request rate
+     */
+    public static ArangoBenchResult parse(String testCase, String output) {
+        final Matcher rate = RATE.matcher(output);
+        if (!rate.find())
+            throw new IllegalArgumentException("arangobench output has no request rate: " + output);
+
+        final Map<Double, Duration> percentiles = new TreeMap<>();
+        final Matcher percentile = PERCENTILE.matcher(output);
+        while (percentile.find()) {
+            percentiles.put(Double.parseDouble(percentile.group(1)),
+                    toDuration(Double.parseDouble(percentile.group(2)), percentile.group(3)));
+        }
+
+        final Matcher elapsed = ELAPSED.matcher(output);
+        return new ArangoBenchResult(testCase,
+                find(OPERATIONS, output),
+                Double.parseDouble(rate.group(1)),
+                (elapsed.find()) ? toDuration(Double.parseDouble(elapsed.group(1)), "s") : Duration.ZERO,
+                find(FAILURES, output),
+                percentiles,
+                output);
+    }
+
+    public String testCase() {
+        return testCase;
+    }
+
+    public long operations() {
+        return operations;
+    }
+
+    public double requestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    /**
+     * @return run duration reported by arangobench, zero when it is not reported
+     */
+    public Duration elapsed() {
+        return elapsed;
+    }
+
+    public long failures() {
+        return failures;
+    }
+
+    /**
+     * @return request latency by percentile (such as 99.0), only percentiles reported by arangobench
+     */
+    public Map<Double, Duration> percentiles() {
+        return percentiles;
+    }
+
+    public Optional<Duration> percentile(double percentile) {
+        return Optional.ofNullable(percentiles.get(percentile));
+    }
+
+    /**
+     * @return raw arangobench output
+     */
+    public String output() {
+        return output;
+    }
+
+    private static long find(Pattern pattern, String output) {
+        final Matcher matcher = pattern.matcher(output);
+        return (matcher.find())
+                ? Long.parseLong(matcher.group(1))
+                : 0;
+    }
+
+    private static Duration toDuration(double value, String unit) {
+        final double nanos = switch ((unit == null) ? "s" : unit) {
+            case "ms" -> value * 1_000_000;
+            case "us", "\u00b5s" -> value * 1_000;
+            default -> value * 1_000_000_000;
+        };
+        return Duration.ofNanos(Math.round(nanos));
+    }
+
+    @Override
+    public String toString() {
+        return "arangobench " + testCase + " [operations=" + operations + ", failures=" + failures + ", requests/s="
+                + String.format(Locale.ROOT, "%.1f", requestsPerSecond) + ", percentiles=" + percentiles + ']';
+    }
+}
@@ -0,0 +1,330 @@
+package io.testcontainers.arangodb.load;
+
+import io.testcontainers.arangodb.containers.ArangoDeployment;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import io.testcontainers.arangodb.util.ArangoExecutors;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Load driver for capacity smoke tests, runs {@link ArangoWorkload} for given duration and reports
+ * throughput and latency percentiles.
+ * <p>
+ * Operations are balanced round-robin across all endpoints of client (all coordinators in case of
+ * cluster) and run on virtual threads when available. Two rate control models are supported:
+ * <ul>
+ * <li>Open loop: operations are started at fixed rate regardless of how fast previous ones
+ * complete, like independent users do</li>
+ * <li>Closed loop: fixed amount of workers run operations one after another, optionally paced at
+ * target rate</li>
+ * </ul>
+ * Response time of every operation is measured from time it was scheduled to start, so operations
+ * delayed by slow ones are not omitted from latency (coordinated omission correction).
+ *
+ * <pre>
+ * {@code
+ * ArangoLoadReport report = ArangoLoadDriver.builder(cluster)
+ *         .withWorkload(ArangoWorkload.aql("FOR u IN users FILTER u.age == @age RETURN u", i -> Map.of("age", i % 100)))
+ *         .withOpenLoop(500)
+ *         .withWarmup(Duration.ofSeconds(5))
+ *         .withDuration(Duration.ofSeconds(30))
+ *         .build()
+ *         .run();
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoLoadDriver {
+
+    public static final class Builder {
+
+        private ArangoHttpClient client;
+        private ArangoWorkload workload;
+        private Duration duration = Duration.ofSeconds(10);
+        private Duration warmup = Duration.ZERO;
+        private boolean openLoop = false;
+        private int concurrency = 16;
+        private double rate = 0;
+
+        private Builder(ArangoHttpClient client) {
+            this.client = client;
+        }
+
+        public Builder withWorkload(ArangoWorkload workload) {
+            this.workload = Objects.requireNonNull(workload);
+            return this;
+        }
+
+        /**
+         * @param database to run workload against, {@code _system} by default
+         * @return self
+         */
+        public Builder withDatabase(String database) {
+            this.client = client.withDatabase(database);
+            return this;
+        }
+
+        /**
+         * @param duration of measurement, 10 seconds by default
+         * @return self
+         */
+        public Builder withDuration(Duration duration) {
+            if (duration.isNegative() || duration.isZero())
+                throw new IllegalArgumentException("Duration must be positive");
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * @param warmup load before measurement that is not reported, none by default
+         * @return self
+         */
+        public Builder withWarmup(Duration warmup) {
+            if (warmup.isNegative())
+                throw new IllegalArgumentException("Warmup can not be negative");
+            this.warmup = warmup;
+            return this;
+        }
+
+        /**
+         * @param concurrency workers running operations back to back as fast as server responds,
+         *                        16 workers by default
+         * @return self
+         */
+        public Builder withClosedLoop(int concurrency) {
+            return withClosedLoop(concurrency, 0);
+        }
+
+        /**
+         * @param concurrency workers running operations one after another
+         * @param rate        target operations per second of all workers together, 0 means not paced
+         * @return self
+         */
+        public Builder withClosedLoop(int concurrency, double rate) {
+            if (concurrency < 1)
+                throw new IllegalArgumentException("Concurrency can not be less 1");
+            if (rate < 0)
+                throw new IllegalArgumentException("Rate can not be negative");
+            this.openLoop = false;
+            this.concurrency = concurrency;
+            this.rate = rate;
+            return this;
+        }
+
+        /**
+         * @param rate operations started per second
+         * @return self
+         */
+        public Builder withOpenLoop(double rate) {
+            return withOpenLoop(rate, 1024);
+        }
+
+        /**
+         * @param rate        operations started per second
+         * @param maxInFlight operations in flight at once, when limit is reached next operations start
+         *                        late and their delay is accounted in response time
+         * @return self
+         */
+        public Builder withOpenLoop(double rate, int maxInFlight) {
+            if (rate <= 0)
+                throw new IllegalArgumentException("Rate must be positive");
+            if (maxInFlight < 1)
+                throw new IllegalArgumentException("Max in flight can not be less 1");
+            this.openLoop = true;
+            this.concurrency = maxInFlight;
+            this.rate = rate;
+            return this;
+        }
+
+        public ArangoLoadDriver build() {
+            if (workload == null)
+                throw new IllegalStateException("Workload is required");
+            return new ArangoLoadDriver(client, workload, duration, warmup, openLoop, concurrency, rate);
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoLoadDriver.class);
+
+    private final ArangoHttpClient client;
+    private final ArangoWorkload workload;
+    private final Duration duration;
+    private final Duration warmup;
+    private final boolean openLoop;
+    private final int concurrency;
+    private final double rate;
+    private final List<URI> endpoints;
+
+    private ArangoLoadDriver(ArangoHttpClient client,
+                             ArangoWorkload workload,
+                             Duration duration,
+                             Duration warmup,
+                             boolean openLoop,
+                             int concurrency,
+                             double rate) {
+        this.client = client;
+        this.workload = workload;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.openLoop = openLoop;
+        this.concurrency = concurrency;
+        this.rate = rate;
+        this.endpoints = client.getEndpoints();
+    }
+
+    public static Builder builder(ArangoDeployment deployment) {
+        return new Builder(ArangoHttpClient.of(deployment));
+    }
+
+    public static Builder builder(ArangoHttpClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Runs warmup and measurement, blocks until all started operations complete
+     *
+     * @return load report
+     */
+    public ArangoLoadReport run() {
+        final Run run = new Run(System.nanoTime());
+        final ExecutorService executor = ArangoExecutors.newThreadPerTaskExecutor("arangodb-load");
+        try {
+            if (openLoop) {
+                runOpenLoop(run, executor);
+            } else {
+                runClosedLoop(run, executor);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load run interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final ArangoLoadReport report = new ArangoLoadReport(run.operations.get(), run.errors.get(), duration,
+                run.responseTime, run.serviceTime);
+        logger.info("{}", report);
+        return report;
+    }
+
+    private void runOpenLoop(Run run, ExecutorService executor) throws InterruptedException {
+        final double interval = 1_000_000_000.0 / rate;
+        final Semaphore inFlight = new Semaphore(concurrency);
+        for (long sequence = 0;; sequence++) {
+            final long intended = run.start + (long) (sequence * interval);
+            if (intended - run.end >= 0) {
+                break;
+            }
+
+            parkUntil(intended);
+            inFlight.acquire();
+            final long operationSequence = sequence;
+            try {
+                executor.execute(() -> {
+                    try {
+                        execute(run, operationSequence, intended);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                inFlight.release();
+                throw e;
+            }
+        }
+        inFlight.acquire(concurrency);
+    }
+
+    private void runClosedLoop(Run run, ExecutorService executor) throws InterruptedException {
+        // each worker is paced at its share of rate, workers are staggered within one interval
+        final double interval = (rate > 0)
+                ? 1_000_000_000.0 * concurrency / rate
+                : 0;
+        final AtomicLong sequence = new AtomicLong();
+        final List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            final long workerStart = run.start + (long) (interval * i / concurrency);
+            workers.add(executor.submit(() -> {
+                for (long k = 0;; k++) {
+                    final long intended = (interval > 0)
+                            ? workerStart + (long) (k * interval)
+                            : System.nanoTime();
+                    if (intended - run.end >= 0) {
+                        return;
+                    }
+
+                    parkUntil(intended);
+                    execute(run, sequence.getAndIncrement(), intended);
+                }
+            }));
+        }
+
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Load worker failed", e.getCause());
+            }
+        }
+    }
+
+    private void execute(Run run, long sequence, long intended) {
+        final URI endpoint = endpoints.get((int) Math.floorMod(run.counter.getAndIncrement(), (long) endpoints.size()));
+        final long sent = System.nanoTime();
+        boolean success;
+        try {
+            success = workload.execute(client, endpoint, sequence).isSuccess();
+        } catch (RuntimeException e) {
+            logger.debug("Load operation {} failed", sequence, e);
+            success = false;
+        }
+        final long completed = System.nanoTime();
+
+        if (intended - run.measureFrom >= 0) {
+            run.operations.incrementAndGet();
+            if (success) {
+                run.responseTime.record(completed - intended);
+                run.serviceTime.record(completed - sent);
+            } else {
+                run.errors.incrementAndGet();
+            }
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private final class Run {
+
+        private final long start;
+        private final long measureFrom;
+        private final long end;
+        private final AtomicLong counter = new AtomicLong();
+        private final AtomicLong operations = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final LatencyHistogram responseTime = new LatencyHistogram();
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+
+        private Run(long start) {
+            this.start = start;
+            this.measureFrom = start + warmup.toNanos();
+            this.end = measureFrom + duration.toNanos();
+        }
+    }
+}
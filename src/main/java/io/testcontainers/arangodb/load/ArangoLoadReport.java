@@ -0,0 +1,89 @@
+package io.testcontainers.arangodb.load;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Result of {@link ArangoLoadDriver#run()}, warmup operations are excluded.
+ * <p>
+ * {@link #responseTime()} is measured from time operation was scheduled to start, so queueing
+ * behind slow operations is accounted (coordinated omission correction), {@link #serviceTime()} is
+ * measured from time operation was actually sent.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoLoadReport {
+
+    private final long operations;
+    private final long errors;
+    private final Duration duration;
+    private final LatencyHistogram responseTime;
+    private final LatencyHistogram serviceTime;
+
+    ArangoLoadReport(long operations, long errors, Duration duration, LatencyHistogram responseTime, LatencyHistogram serviceTime) {
+        this.operations = operations;
+        this.errors = errors;
+        this.duration = duration;
+        this.responseTime = responseTime;
+        this.serviceTime = serviceTime;
+    }
+
+    /**
+     * @return completed operations, including failed ones
+     */
+    public long operations() {
+        return operations;
+    }
+
+    /**
+     * @return operations with unsuccessful response or failed with exception
+     */
+    public long errors() {
+        return errors;
+    }
+
+    /**
+     * @return measured duration, warmup excluded
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    public double throughput() {
+        return operations * 1_000_000_000.0 / Math.max(1, duration.toNanos());
+    }
+
+    /**
+     * @return latency of successful operations corrected for coordinated omission
+     */
+    public LatencyHistogram responseTime() {
+        return responseTime;
+    }
+
+    /**
+     * @return latency of successful operations as seen by sender, not corrected
+     */
+    public LatencyHistogram serviceTime() {
+        return serviceTime;
+    }
+
+    public Duration p50() {
+        return responseTime.p50();
+    }
+
+    public Duration p99() {
+        return responseTime.p99();
+    }
+
+    public Duration p999() {
+        return responseTime.p999();
+    }
+
+    @Override
+    public String toString() {
+        return "Load " + operations + " operations (" + errors + " errors) in " + duration.toMillis() + " millis, "
+                + String.format(Locale.ROOT, "%.1f", throughput()) + " ops/s, response time " + responseTime
+                + ", service time " + serviceTime;
+    }
+}
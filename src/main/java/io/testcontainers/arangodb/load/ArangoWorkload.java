@@ -0,0 +1,90 @@
+package io.testcontainers.arangodb.load;
+
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import io.testcontainers.arangodb.http.Json;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * Single operation of load test executed by {@link ArangoLoadDriver}, operation is successful when
+ * its last response is successful.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@FunctionalInterface
+public interface ArangoWorkload {
+
+    /**
+     * @param client   client to send requests with
+     * @param endpoint coordinator chosen by driver for this operation, all requests of operation
+     *                     must be sent to it via {@link ArangoHttpClient#send(URI, String, String,
+     *                     HttpRequest.BodyPublisher)}
+     * @param sequence operation sequence number starting from 0
+     * @return response of operation
+     */
+    ArangoHttpClient.Response execute(ArangoHttpClient client, URI endpoint, long sequence);
+
+    /**
+     * @param query AQL query without bind parameters
+     * @return workload running query
+     */
+    static ArangoWorkload aql(String query) {
+        return aql(query, sequence -> Map.of());
+    }
+
+    /**
+     * Runs AQL query, cursor that is not exhausted by first batch is deleted right away, so only
+     * first batch of result is transferred.
+     *
+     * @param query    AQL query
+     * @param bindVars bind parameters by operation sequence number
+     * @return workload running query
+     */
+    static ArangoWorkload aql(String query, LongFunction<Map<String, Object>> bindVars) {
+        Objects.requireNonNull(query);
+        return (client, endpoint, sequence) -> {
+            final Map<String, Object> body = new LinkedHashMap<>();
+            body.put("query", query);
+            body.put("bindVars", bindVars.apply(sequence));
+            body.put("batchSize", 1000);
+            final ArangoHttpClient.Response response = client.send(endpoint, "POST", "/_api/cursor", json(body));
+            if (response.isSuccess() && response.body().contains("\"hasMore\":true")) {
+                final Object cursor = response.json().get("id");
+                client.send(endpoint, "DELETE", "/_api/cursor/" + cursor, HttpRequest.BodyPublishers.noBody());
+            }
+            return response;
+        };
+    }
+
+    /**
+     * @param collection to insert into
+     * @param document   document by operation sequence number
+     * @return workload inserting documents
+     */
+    static ArangoWorkload insert(String collection, LongFunction<Object> document) {
+        final String path = "/_api/document/" + ArangoHttpClient.encode(collection);
+        return (client, endpoint, sequence) -> client.send(endpoint, "POST", path, json(document.apply(sequence)));
+    }
+
+    /**
+     * @param collection to read from
+     * @param key        document key by operation sequence number
+     * @return workload reading documents by key
+     */
+    static ArangoWorkload read(String collection, LongFunction<String> key) {
+        final String path = "/_api/document/" + ArangoHttpClient.encode(collection) + "/";
+        return (client, endpoint, sequence) -> client.send(endpoint, "GET", path + ArangoHttpClient.encode(key.apply(sequence)),
+                HttpRequest.BodyPublishers.noBody());
+    }
+
+    private static HttpRequest.BodyPublisher json(Object body) {
+        return HttpRequest.BodyPublishers.ofString(Json.write(body), StandardCharsets.UTF_8);
+    }
+
+}
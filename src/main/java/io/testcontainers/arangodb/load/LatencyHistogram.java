@@ -0,0 +1,120 @@
+package io.testcontainers.arangodb.load;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread safe log-linear latency histogram with fixed memory, values are recorded in nanoseconds
+ * with relative error below 3.2% (each power of two range is split into 32 linear buckets), values
+ * below 64 nanoseconds are exact.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class LatencyHistogram {
+
+    private static final int LINEAR = 64;
+    private static final int SUB_BUCKETS = 32;
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int MIN_EXPONENT = 6;
+    private static final int MAX_EXPONENT = 62;
+    private static final int SIZE = LINEAR + (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SIZE);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        final long value = Math.max(0, nanos);
+        counts.incrementAndGet(index(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public void record(Duration latency) {
+        record(latency.toNanos());
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    public Duration mean() {
+        final long total = count.get();
+        return (total == 0)
+                ? Duration.ZERO
+                : Duration.ofNanos(sum.get() / total);
+    }
+
+    public Duration max() {
+        return Duration.ofNanos(max.get());
+    }
+
+    /**
+     * @param percentile from 0 to 100, such as 99.9
+     * @return upper bound of latency that given percentile of recorded values does not exceed, zero
+     *             when histogram is empty
+     */
+    public Duration percentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile must be from 0 to 100");
+
+        final long total = count.get();
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long cumulative = 0;
+        for (int i = 0; i < SIZE; i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= rank) {
+                return Duration.ofNanos(Math.min(upperBound(i), max.get()));
+            }
+        }
+        return max();
+    }
+
+    public Duration p50() {
+        return percentile(50);
+    }
+
+    public Duration p99() {
+        return percentile(99);
+    }
+
+    public Duration p999() {
+        return percentile(99.9);
+    }
+
+    static int index(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR + (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+
+        final int exponent = (index - LINEAR) / SUB_BUCKETS + MIN_EXPONENT;
+        final int subBucket = (index - LINEAR) % SUB_BUCKETS + SUB_BUCKETS;
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return ((long) (subBucket + 1) << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "[count=" + count() + ", p50=" + p50().toNanos() / 1000 + "us, p99=" + p99().toNanos() / 1000 + "us, p999="
+                + p999().toNanos() / 1000 + "us, max=" + max().toNanos() / 1000 + "us]";
+    }
+}
@@ -0,0 +1,138 @@
+package io.testcontainers.arangodb.logs;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Latest log lines of single node kept in ring buffer of fixed capacity, oldest lines are
+ * overwritten. Lines are stored raw and parsed only when read.
+ * <p>
+ * Captures of containers declared by failed test class are dumped by {@link ArangoLogDumpExtension},
+ * only lines logged since test started.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoLogCapture {
+
+    private final String node;
+    private final boolean json;
+    private final String[] lines;
+    private final long[] timestamps;
+    private int head = 0;
+    private int size = 0;
+    private long overwritten = 0;
+    private long added = 0;
+    private long marked = 0;
+
+    ArangoLogCapture(String node, boolean json, int capacity) {
+        this.node = node;
+        this.json = json;
+        this.lines = new String[capacity];
+        this.timestamps = new long[capacity];
+    }
+
+    synchronized void add(String line, long timestamp) {
+        if (size == lines.length) {
+            overwritten++;
+        }
+        lines[head] = line;
+        timestamps[head] = timestamp;
+        head = (head + 1) % lines.length;
+        size = Math.min(size + 1, lines.length);
+        added++;
+    }
+
+    public String node() {
+        return node;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return lines lost cause buffer was full
+     */
+    public synchronized long overwritten() {
+        return overwritten;
+    }
+
+    /**
+     * @return retained lines from oldest to latest
+     */
+    public List<ArangoLogLine> lines() {
+        final List<ArangoLogLine> result = new ArrayList<>();
+        synchronized (this) {
+            for (int i = 0; i < size; i++) {
+                final int p = physical(i);
+                result.add(ArangoLogLine.parse(node, Instant.ofEpochMilli(timestamps[p]), lines[p], json));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param level minimal level
+     * @return retained lines of given level or more severe
+     */
+    public List<ArangoLogLine> lines(ArangoLogLevel level) {
+        return lines().stream()
+                .filter(line -> line.level().isAtLeast(level))
+                .toList();
+    }
+
+    public synchronized void clear() {
+        head = 0;
+        size = 0;
+        overwritten = 0;
+        marked = added;
+    }
+
+    /**
+     * Marks current position, {@link #dumpSinceMark()} gives only lines added after it
+     */
+    synchronized void mark() {
+        marked = added;
+    }
+
+    /**
+     * @return retained raw lines joined with line separators
+     */
+    public synchronized String dump() {
+        final StringBuilder builder = new StringBuilder();
+        if (overwritten > 0) {
+            builder.append("... ").append(overwritten).append(" earlier lines overwritten\n");
+        }
+        for (int i = 0; i < size; i++) {
+            builder.append(lines[physical(i)]).append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return retained raw lines added since last {@link #mark()}, joined with line separators
+     */
+    synchronized String dumpSinceMark() {
+        final long since = added - marked;
+        final int retained = (int) Math.min(since, size);
+        final StringBuilder builder = new StringBuilder();
+        if (since > retained) {
+            builder.append("... ").append(since - retained).append(" earlier lines overwritten\n");
+        }
+        for (int i = size - retained; i < size; i++) {
+            builder.append(lines[physical(i)]).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private int physical(int i) {
+        return (head - size + i + lines.length) % lines.length;
+    }
+
+    @Override
+    public String toString() {
+        return node + " [lines=" + size() + ", overwritten=" + overwritten() + ']';
+    }
+}
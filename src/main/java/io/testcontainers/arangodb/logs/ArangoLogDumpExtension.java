@@ -0,0 +1,111 @@
+package io.testcontainers.arangodb.logs;
+
+import io.testcontainers.arangodb.cluster.ArangoCluster;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestInstances;
+import org.junit.jupiter.api.extension.TestWatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dumps captured logs when test fails, logs of passed tests are never printed.
+ * <p>
+ * Only containers and clusters declared as fields of test class (static or instance, superclasses
+ * and enclosing classes of nested tests included) are dumped, and only lines logged since test
+ * started, so containers of other test classes running in same JVM do not pollute the dump.
+ *
+ * <pre>
+ * {@code
+ * @ExtendWith(ArangoLogDumpExtension.class)
+ * class MyTests {
+ *     static ArangoContainer container = new ArangoContainer(image).withLogs(ArangoLogs.capture(1000));
+ * }
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see ArangoLogs#capture(int)
+ * @since 17.10.2026
+ */
+public final class ArangoLogDumpExtension implements BeforeEachCallback, TestWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoLogDumpExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        for (ArangoLogCapture capture : captures(context)) {
+            capture.mark();
+        }
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        for (ArangoLogCapture capture : captures(context)) {
+            final String dump = capture.dumpSinceMark();
+            if (!dump.isEmpty()) {
+                logger.error("Logs of {} for failed test '{}':\n{}", capture.node(), context.getDisplayName(), dump);
+            }
+        }
+    }
+
+    static Set<ArangoLogCapture> captures(ExtensionContext context) {
+        final List<Object> instances = context.getTestInstances()
+                .map(TestInstances::getAllInstances)
+                .orElse(List.of());
+
+        final Set<ArangoLogCapture> captures = new LinkedHashSet<>();
+        final Set<Class<?>> visited = new LinkedHashSet<>();
+        for (Object instance : instances) {
+            collect(instance.getClass(), instance, captures, visited);
+        }
+        collect(context.getRequiredTestClass(), null, captures, visited);
+        return captures;
+    }
+
+    /**
+     * Static fields of every class are read once, instance fields only when instance is given
+     */
+    private static void collect(Class<?> type, @Nullable Object instance, Set<ArangoLogCapture> captures, Set<Class<?>> visited) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            final boolean staticVisited = !visited.add(current);
+            for (Field field : current.getDeclaredFields()) {
+                final boolean isStatic = Modifier.isStatic(field.getModifiers());
+                if ((isStatic && staticVisited) || (!isStatic && instance == null) || field.getType().isPrimitive()) {
+                    continue;
+                }
+
+                try {
+                    field.setAccessible(true);
+                    collect(field.get(isStatic ? null : instance), captures);
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    logger.debug("Field {} of {} can not be read for log capture", field.getName(), current.getName(), e);
+                }
+            }
+        }
+    }
+
+    private static void collect(Object value, Set<ArangoLogCapture> captures) {
+        final List<ArangoContainer> containers = new ArrayList<>();
+        if (value instanceof ArangoContainer container) {
+            containers.add(container);
+        } else if (value instanceof ArangoCluster cluster) {
+            containers.addAll(cluster.getContainers());
+        }
+
+        for (ArangoContainer container : containers) {
+            final ArangoLogCapture capture = container.getLogCapture();
+            if (capture != null) {
+                captures.add(capture);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.testcontainers.arangodb.logs;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * ArangoDB log levels from most to least severe.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public enum ArangoLogLevel {
+
+    FATAL,
+    ERROR,
+    WARNING,
+    INFO,
+    DEBUG,
+    TRACE;
+
+    /**
+     * @param level to compare with
+     * @return true if this level is as severe as given level or more severe
+     */
+    public boolean isAtLeast(ArangoLogLevel level) {
+        return ordinal() <= level.ordinal();
+    }
+
+    static @Nullable ArangoLogLevel of(String text, int from, int to) {
+        for (ArangoLogLevel level : values()) {
+            final String name = level.name();
+            if (to - from == name.length() && text.regionMatches(from, name, 0, name.length())) {
+                return level;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds level without parsing whole line: {@code "level":"X"} field of JSON line or one of first
+     * tokens of text line, such as {@code 2026-10-17T10:00:00Z [1] INFO [e52b0] {general} message}
+     *
+     * @param line raw log line
+     * @param json if line is in JSON format
+     * @return level or {@link #INFO} when line has no level, such as entrypoint script output
+     */
+    static ArangoLogLevel detect(String line, boolean json) {
+        if (json) {
+            final int field = line.indexOf("\"level\":\"");
+            if (field >= 0) {
+                final int from = field + "\"level\":\"".length();
+                final int to = line.indexOf('"', from);
+                final ArangoLogLevel level = (to > from) ? of(line, from, to) : null;
+                if (level != null) {
+                    return level;
+                }
+            }
+            return INFO;
+        }
+
+        int from = 0;
+        for (int token = 0; token < 4 && from < line.length(); token++) {
+            while (from < line.length() && line.charAt(from) == ' ') {
+                from++;
+            }
+            int to = from;
+            while (to < line.length() && line.charAt(to) != ' ') {
+                to++;
+            }
+            final ArangoLogLevel level = of(line, from, to);
+            if (level != null) {
+                return level;
+            }
+            from = to;
+        }
+        return INFO;
+    }
+}
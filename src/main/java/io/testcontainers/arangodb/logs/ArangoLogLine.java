@@ -0,0 +1,122 @@
+package io.testcontainers.arangodb.logs;
+
+import io.testcontainers.arangodb.http.Json;
+import java.time.Instant;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Single log line of ArangoDB node, parsed from text or JSON log format
+ * ({@code --log.use-json-format}).
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoLogLine {
+
+    private static final Pattern TEXT = Pattern.compile(
+            "^(?:\\S+\\s+){1,2}(?:FATAL|ERROR|WARNING|INFO|DEBUG|TRACE)\\s+(?:\\[([0-9a-f]+)]\\s+)?(?:\\{([\\w-]+)}\\s+)?(.*)$");
+
+    private final String node;
+    private final Instant received;
+    private final ArangoLogLevel level;
+    private final @Nullable String id;
+    private final @Nullable String topic;
+    private final String message;
+    private final String raw;
+
+    private ArangoLogLine(String node,
+                          Instant received,
+                          ArangoLogLevel level,
+                          @Nullable String id,
+                          @Nullable String topic,
+                          String message,
+                          String raw) {
+        this.node = node;
+        this.received = received;
+        this.level = level;
+        this.id = id;
+        this.topic = topic;
+        this.message = message;
+        this.raw = raw;
+    }
+
+    /**
+     * @param node     node line belongs to
+     * @param received time line was received
+     * @param raw      line as printed by server
+     * @param json     if line is in JSON format
+     * @return parsed line, lines of unknown format keep raw line as message
+     */
+    public static ArangoLogLine parse(String node, Instant received, String raw, boolean json) {
+        final ArangoLogLevel level = ArangoLogLevel.detect(raw, json);
+        if (json && raw.startsWith("{")) {
+            try {
+                final Map<String, Object> fields = Json.parseObject(raw);
+                return new ArangoLogLine(node, received, level, string(fields.get("id")), string(fields.get("topic")),
+                        String.valueOf(fields.getOrDefault("message", raw)), raw);
+            } catch (IllegalArgumentException e) {
+                return new ArangoLogLine(node, received, level, null, null, raw, raw);
+            }
+        }
+
+        final Matcher matcher = TEXT.matcher(raw);
+        return (matcher.matches())
+                ? new ArangoLogLine(node, received, level, matcher.group(1), matcher.group(2), matcher.group(3), raw)
+                : new ArangoLogLine(node, received, level, null, null, raw, raw);
+    }
+
+    private static @Nullable String string(@Nullable Object value) {
+        return (value == null)
+                ? null
+                : value.toString();
+    }
+
+    public String node() {
+        return node;
+    }
+
+    public Instant received() {
+        return received;
+    }
+
+    public ArangoLogLevel level() {
+        return level;
+    }
+
+    /**
+     * @return unique log message id, such as {@code e52b0}
+     */
+    public @Nullable String id() {
+        return id;
+    }
+
+    /**
+     * @return log topic, such as {@code general} or {@code queries}
+     */
+    public @Nullable String topic() {
+        return topic;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    public String raw() {
+        return raw;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder().append(level);
+        if (id != null) {
+            builder.append(" [").append(id).append(']');
+        }
+        if (topic != null) {
+            builder.append(" {").append(topic).append('}');
+        }
+        return builder.append(' ').append(message).toString();
+    }
+}
@@ -0,0 +1,106 @@
+package io.testcontainers.arangodb.logs;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.testcontainers.containers.output.OutputFrame;
+
+/**
+ * Log consumer of single node, runs on Docker stream thread and does only cheap level check before
+ * handing line off to capture buffer or to background logging.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @see ArangoLogs
+ * @since 17.10.2026
+ */
+public final class ArangoLogPipeline implements Consumer<OutputFrame> {
+
+    private final String node;
+    private final ArangoLogLevel level;
+    private final boolean json;
+    private final @Nullable Logger logger;
+    private final @Nullable ArangoLogCapture capture;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong droppedTotal = new AtomicLong();
+
+    ArangoLogPipeline(String node,
+                      ArangoLogLevel level,
+                      boolean json,
+                      @Nullable Logger logger,
+                      @Nullable ArangoLogCapture capture) {
+        this.node = node;
+        this.level = level;
+        this.json = json;
+        this.logger = logger;
+        this.capture = capture;
+    }
+
+    @Override
+    public void accept(OutputFrame frame) {
+        if (frame.getType() == OutputFrame.OutputType.END) {
+            return;
+        }
+
+        final String text = frame.getUtf8StringWithoutLineEnding();
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        final long timestamp = System.currentTimeMillis();
+        int from = 0;
+        while (from <= text.length()) {
+            int to = text.indexOf('\n', from);
+            if (to < 0) {
+                to = text.length();
+            }
+            if (to > from) {
+                accept(text.substring(from, to), timestamp);
+            }
+            from = to + 1;
+        }
+    }
+
+    private void accept(String line, long timestamp) {
+        if (!ArangoLogLevel.detect(line, json).isAtLeast(level)) {
+            return;
+        }
+
+        if (capture != null) {
+            capture.add(line, timestamp);
+        } else if (logger != null && !LogDispatcher.instance().offer(this, line, timestamp)) {
+            dropped.incrementAndGet();
+            droppedTotal.incrementAndGet();
+        }
+    }
+
+    public String node() {
+        return node;
+    }
+
+    public boolean isJsonFormat() {
+        return json;
+    }
+
+    /**
+     * @return capture buffer when lines are captured instead of logged
+     */
+    public @Nullable ArangoLogCapture getCapture() {
+        return capture;
+    }
+
+    /**
+     * @return lines dropped cause background logging queue was full
+     */
+    public long getDropped() {
+        return droppedTotal.get();
+    }
+
+    Logger logger() {
+        return logger;
+    }
+
+    long takeDropped() {
+        return dropped.getAndSet(0);
+    }
+}
@@ -0,0 +1,113 @@
+package io.testcontainers.arangodb.logs;
+
+import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Log pipeline configuration of ArangoDB containers:
+ * <ul>
+ * <li>{@link #off()} - logs are not streamed from container at all</li>
+ * <li>{@link #slf4j()} - lines are logged via SLF4J from background thread, Docker stream threads
+ * only enqueue lines into bounded queue</li>
+ * <li>{@link #capture(int)} - latest lines are kept in per node ring buffer, dumped by
+ * {@link ArangoLogDumpExtension} only when test fails</li>
+ * </ul>
+ * Lines below {@link #withLevel(ArangoLogLevel)} are discarded on stream thread before any
+ * formatting. {@link #withJsonFormat()} starts server with JSON log format, so lines are parsed
+ * without guessing text layout.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoLogs {
+
+    private enum Mode {
+        OFF,
+        SLF4J,
+        CAPTURE
+    }
+
+    private final Mode mode;
+    private final ArangoLogLevel level;
+    private final boolean json;
+    private final int lines;
+    private final String category;
+
+    private ArangoLogs(Mode mode, ArangoLogLevel level, boolean json, int lines, String category) {
+        this.mode = mode;
+        this.level = level;
+        this.json = json;
+        this.lines = lines;
+        this.category = category;
+    }
+
+    public static ArangoLogs off() {
+        return new ArangoLogs(Mode.OFF, ArangoLogLevel.INFO, false, 0, ArangoLogs.class.getCanonicalName());
+    }
+
+    /**
+     * @return lines logged asynchronously with {@code io.testcontainers.arangodb.logs.ArangoLogs [node]}
+     *             logger
+     */
+    public static ArangoLogs slf4j() {
+        return slf4j(ArangoLogs.class);
+    }
+
+    /**
+     * @param category logger name prefix, node name is appended as {@code [node]}
+     * @return lines logged asynchronously
+     */
+    public static ArangoLogs slf4j(Class<?> category) {
+        return new ArangoLogs(Mode.SLF4J, ArangoLogLevel.TRACE, false, 0, category.getCanonicalName());
+    }
+
+    /**
+     * @param lines latest lines kept per node
+     * @return lines captured into ring buffer
+     */
+    public static ArangoLogs capture(int lines) {
+        if (lines < 1)
+            throw new IllegalArgumentException("Captured lines can not be less 1");
+        return new ArangoLogs(Mode.CAPTURE, ArangoLogLevel.TRACE, false, lines, ArangoLogs.class.getCanonicalName());
+    }
+
+    /**
+     * @param level minimal level of lines to keep, lines without level are treated as
+     *              {@link ArangoLogLevel#INFO}
+     * @return new configuration
+     */
+    public ArangoLogs withLevel(ArangoLogLevel level) {
+        return new ArangoLogs(mode, Objects.requireNonNull(level), json, lines, category);
+    }
+
+    /**
+     * Starts server with {@code --log.use-json-format true}
+     *
+     * @return new configuration
+     */
+    public ArangoLogs withJsonFormat() {
+        return new ArangoLogs(mode, level, true, lines, category);
+    }
+
+    public boolean isJsonFormat() {
+        return json;
+    }
+
+    /**
+     * @param node name of node
+     * @return log consumer of node or null when logs are off
+     */
+    public @Nullable ArangoLogPipeline pipeline(String node) {
+        return switch (mode) {
+            case OFF -> null;
+            case SLF4J -> new ArangoLogPipeline(node, level, json, LoggerFactory.getLogger(category + " [" + node + "]"), null);
+            case CAPTURE -> new ArangoLogPipeline(node, level, json, null, new ArangoLogCapture(node, json, lines));
+        };
+    }
+
+    @Override
+    public String toString() {
+        return mode + " [level=" + level + ", json=" + json + ((mode == Mode.CAPTURE) ? ", lines=" + lines : "") + ']';
+    }
+}
@@ -0,0 +1,97 @@
+package io.testcontainers.arangodb.logs;
+
+import io.testcontainers.arangodb.util.ArangoExecutors;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.slf4j.Logger;
+
+/**
+ * Single background thread that formats and logs lines of all nodes, so Docker stream threads only
+ * enqueue lines into bounded queue and never block on logging. Lines are dropped when queue is full.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class LogDispatcher {
+
+    static final class Entry {
+
+        private final ArangoLogPipeline pipeline;
+        private final String line;
+        private final long timestamp;
+
+        private Entry(ArangoLogPipeline pipeline, String line, long timestamp) {
+            this.pipeline = pipeline;
+            this.line = line;
+            this.timestamp = timestamp;
+        }
+    }
+
+    static final int CAPACITY = 16_384;
+
+    private static final LogDispatcher INSTANCE = new LogDispatcher();
+
+    private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private volatile boolean started = false;
+
+    private LogDispatcher() {}
+
+    static LogDispatcher instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return false if queue is full and line is dropped
+     */
+    boolean offer(ArangoLogPipeline pipeline, String line, long timestamp) {
+        if (!started) {
+            start();
+        }
+        return queue.offer(new Entry(pipeline, line, timestamp));
+    }
+
+    private synchronized void start() {
+        if (!started) {
+            final Thread thread = ArangoExecutors.newThreadFactory("arangodb-logs").newThread(this::drain);
+            thread.setDaemon(true);
+            thread.start();
+            started = true;
+        }
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                final Entry entry = queue.take();
+                log(entry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // logging must not kill dispatcher
+            }
+        }
+    }
+
+    private static void log(Entry entry) {
+        final ArangoLogPipeline pipeline = entry.pipeline;
+        final Logger logger = pipeline.logger();
+        final long dropped = pipeline.takeDropped();
+        if (dropped > 0) {
+            logger.warn("{} log lines dropped cause log queue was full", dropped);
+        }
+
+        final ArangoLogLine line = ArangoLogLine.parse(pipeline.node(), Instant.ofEpochMilli(entry.timestamp), entry.line,
+                pipeline.isJsonFormat());
+        final String message = (pipeline.isJsonFormat())
+                ? line.toString()
+                : line.raw();
+        switch (line.level()) {
+            case FATAL, ERROR -> logger.error("{}", message);
+            case WARNING -> logger.warn("{}", message);
+            case INFO -> logger.info("{}", message);
+            case DEBUG -> logger.debug("{}", message);
+            case TRACE -> logger.trace("{}", message);
+        }
+    }
+}
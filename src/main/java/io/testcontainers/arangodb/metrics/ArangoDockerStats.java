@@ -0,0 +1,248 @@
+package io.testcontainers.arangodb.metrics;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Statistics;
+import io.testcontainers.arangodb.cluster.ArangoCluster;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+
+/**
+ * Subscribes to Docker stats stream of container or every cluster node and keeps CPU, memory,
+ * block I/O and network samples in bounded ring buffer per node.
+ * <p>
+ * Report with per node averages and peaks is logged once, either when stats streams of all nodes
+ * end because container or cluster was stopped, or when sampler is closed, whichever comes first.
+ * So sampler started after fixture reports which node was CPU bound or memory starved as soon as
+ * fixture is stopped, even if sampler itself is never closed.
+ *
+ * <pre>
+ * {@code
+ * try (ArangoDockerStats stats = ArangoDockerStats.builder(cluster).build().start()) {
+ *     // run test
+ *     ArangoDockerStatsReport report = stats.report();
+ * }
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoDockerStats implements AutoCloseable {
+
+    public static final class Builder {
+
+        private final Supplier<Map<String, String>> containers;
+        private int retention = 600;
+        private Supplier<DockerClient> client = () -> DockerClientFactory.instance().client();
+        private Consumer<ArangoDockerStatsReport> reporter = report -> logger.info("{}", report);
+
+        private Builder(Supplier<Map<String, String>> containers) {
+            this.containers = containers;
+        }
+
+        /**
+         * @param retention samples kept per node, Docker emits sample each second, 600 by default
+         * @return self
+         */
+        public Builder withRetention(int retention) {
+            if (retention < 2)
+                throw new IllegalArgumentException("Retention can not be less 2 samples");
+            this.retention = retention;
+            return this;
+        }
+
+        /**
+         * @param client to subscribe stats with, Testcontainers client by default
+         * @return self
+         */
+        public Builder withDockerClient(DockerClient client) {
+            this.client = () -> client;
+            return this;
+        }
+
+        /**
+         * @param reporter to receive final report instead of logging it
+         * @return self
+         */
+        public Builder withReporter(Consumer<ArangoDockerStatsReport> reporter) {
+            this.reporter = Objects.requireNonNull(reporter);
+            return this;
+        }
+
+        public ArangoDockerStats build() {
+            return new ArangoDockerStats(containers, client, retention, reporter);
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoDockerStats.class);
+
+    private final Supplier<Map<String, String>> containers;
+    private final Supplier<DockerClient> client;
+    private final int retention;
+    private final Consumer<ArangoDockerStatsReport> reporter;
+    private final Map<String, DockerStatsBuffer> buffers = new ConcurrentHashMap<>();
+    private final List<String> nodes = new ArrayList<>();
+    private final List<Closeable> subscriptions = new ArrayList<>();
+    private final Set<String> ended = new HashSet<>();
+    private boolean reported = false;
+
+    private ArangoDockerStats(Supplier<Map<String, String>> containers,
+                              Supplier<DockerClient> client,
+                              int retention,
+                              Consumer<ArangoDockerStatsReport> reporter) {
+        this.containers = containers;
+        this.client = client;
+        this.retention = retention;
+        this.reporter = reporter;
+    }
+
+    public static Builder builder(ArangoContainer container) {
+        return new Builder(() -> {
+            final Map<String, String> containers = new LinkedHashMap<>();
+            containers.put(container.getContainerName().replaceFirst("^/", ""), container.getContainerId());
+            return containers;
+        });
+    }
+
+    public static Builder builder(ArangoCluster cluster) {
+        return new Builder(() -> {
+            final Map<String, String> containers = new LinkedHashMap<>();
+            cluster.getContainers().forEach(node -> containers.put(node.getAlias(), node.getContainerId()));
+            return containers;
+        });
+    }
+
+    /**
+     * Subscribes to stats stream of every started node
+     *
+     * @return self
+     */
+    public synchronized ArangoDockerStats start() {
+        if (!nodes.isEmpty()) {
+            return this;
+        }
+
+        final Map<String, String> started = containers.get();
+        started.forEach((node, containerId) -> {
+            if (containerId == null)
+                throw new IllegalStateException("Container of " + node + " is not started");
+        });
+
+        final DockerClient docker = client.get();
+        nodes.addAll(started.keySet());
+        started.forEach((node, containerId) -> subscriptions.add(docker.statsCmd(containerId)
+                .exec(new ResultCallback.Adapter<Statistics>() {
+
+                    @Override
+                    public void onNext(Statistics statistics) {
+                        // stopped container emits empty samples until it is removed
+                        if (statistics.getMemoryStats() != null && statistics.getMemoryStats().getUsage() != null) {
+                            record(node, DockerStatsSample.of(statistics, System.currentTimeMillis()));
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        logger.debug("Docker stats stream of {} failed", node, throwable);
+                        ended(node);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        ended(node);
+                    }
+                })));
+        return this;
+    }
+
+    /**
+     * Stream ends when its container is stopped and removed, report is produced when all nodes are
+     * stopped this way
+     */
+    private synchronized void ended(String node) {
+        if (nodes.contains(node) && ended.add(node) && ended.size() == nodes.size()) {
+            publish();
+        }
+    }
+
+    private synchronized void publish() {
+        if (reported) {
+            return;
+        }
+
+        reported = true;
+        try {
+            reporter.accept(report());
+        } catch (RuntimeException e) {
+            logger.warn("Docker stats reporter failed", e);
+        }
+    }
+
+    void record(String node, DockerStatsSample sample) {
+        buffers.computeIfAbsent(node, k -> new DockerStatsBuffer(retention)).add(sample);
+    }
+
+    /**
+     * @return per node summary of retained samples
+     */
+    public ArangoDockerStatsReport report() {
+        final List<String> names = new ArrayList<>();
+        synchronized (this) {
+            names.addAll(nodes);
+        }
+        buffers.keySet().stream()
+                .filter(node -> !names.contains(node))
+                .sorted()
+                .forEach(names::add);
+
+        final List<ArangoDockerStatsReport.Node> summaries = new ArrayList<>();
+        for (String node : names) {
+            final DockerStatsBuffer buffer = buffers.get(node);
+            summaries.add((buffer == null)
+                    ? new DockerStatsBuffer(1).summary(node)
+                    : buffer.summary(node));
+        }
+        return new ArangoDockerStatsReport(summaries);
+    }
+
+    /**
+     * @return true when report was already produced, streams ended or sampler is closed
+     */
+    public synchronized boolean isReported() {
+        return reported;
+    }
+
+    /**
+     * Stops streams and produces report, unless it was already produced when fixture stopped
+     */
+    @Override
+    public synchronized void close() {
+        for (Closeable subscription : subscriptions) {
+            try {
+                subscription.close();
+            } catch (IOException e) {
+                logger.debug("Closing Docker stats stream failed", e);
+            }
+        }
+
+        if (!subscriptions.isEmpty()) {
+            subscriptions.clear();
+            publish();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.testcontainers.arangodb.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Per node summary of Docker stats over retained samples, CPU is in percents of single CPU (as
+ * {@code docker stats} shows), block I/O and network are bytes transferred during retained window.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoDockerStatsReport {
+
+    public static final class Node {
+
+        private final String name;
+        private final int samples;
+        private final Duration duration;
+        private final double cpuAverage;
+        private final double cpuPeak;
+        private final long memoryAverage;
+        private final long memoryPeak;
+        private final long memoryLimit;
+        private final long blockRead;
+        private final long blockWrite;
+        private final long networkReceived;
+        private final long networkTransmitted;
+
+        Node(String name,
+             int samples,
+             Duration duration,
+             double cpuAverage,
+             double cpuPeak,
+             long memoryAverage,
+             long memoryPeak,
+             long memoryLimit,
+             long blockRead,
+             long blockWrite,
+             long networkReceived,
+             long networkTransmitted) {
+            this.name = name;
+            this.samples = samples;
+            this.duration = duration;
+            this.cpuAverage = cpuAverage;
+            this.cpuPeak = cpuPeak;
+            this.memoryAverage = memoryAverage;
+            this.memoryPeak = memoryPeak;
+            this.memoryLimit = memoryLimit;
+            this.blockRead = blockRead;
+            this.blockWrite = blockWrite;
+            this.networkReceived = networkReceived;
+            this.networkTransmitted = networkTransmitted;
+        }
+
+        /**
+         * @return cluster node alias or container name
+         */
+        public String name() {
+            return name;
+        }
+
+        public int samples() {
+            return samples;
+        }
+
+        /**
+         * @return time between oldest and latest retained sample
+         */
+        public Duration duration() {
+            return duration;
+        }
+
+        public double cpuAverage() {
+            return cpuAverage;
+        }
+
+        public double cpuPeak() {
+            return cpuPeak;
+        }
+
+        public long memoryAverage() {
+            return memoryAverage;
+        }
+
+        public long memoryPeak() {
+            return memoryPeak;
+        }
+
+        /**
+         * @return memory limit of container, host memory when container is not limited
+         */
+        public long memoryLimit() {
+            return memoryLimit;
+        }
+
+        public long blockRead() {
+            return blockRead;
+        }
+
+        public long blockWrite() {
+            return blockWrite;
+        }
+
+        public long networkReceived() {
+            return networkReceived;
+        }
+
+        public long networkTransmitted() {
+            return networkTransmitted;
+        }
+
+        @Override
+        public String toString() {
+            return name + String.format(Locale.ROOT,
+                    " [samples=%d, cpu avg=%.1f%%, cpu peak=%.1f%%, memory avg=%.1f MB, memory peak=%.1f MB, memory limit=%.1f MB, block read=%.1f MB, block write=%.1f MB, network rx=%.1f MB, network tx=%.1f MB]",
+                    samples, cpuAverage, cpuPeak, megabytes(memoryAverage), megabytes(memoryPeak), megabytes(memoryLimit),
+                    megabytes(blockRead), megabytes(blockWrite), megabytes(networkReceived), megabytes(networkTransmitted));
+        }
+    }
+
+    private final List<Node> nodes;
+
+    ArangoDockerStatsReport(List<Node> nodes) {
+        this.nodes = List.copyOf(nodes);
+    }
+
+    public List<Node> nodes() {
+        return nodes;
+    }
+
+    public Optional<Node> node(String name) {
+        return nodes.stream()
+                .filter(n -> n.name().equals(name))
+                .findFirst();
+    }
+
+    /**
+     * @return node with highest average CPU, first suspect when cluster test is slow
+     */
+    public Optional<Node> busiest() {
+        return nodes.stream().max((n1, n2) -> Double.compare(n1.cpuAverage(), n2.cpuAverage()));
+    }
+
+    private static double megabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("Docker stats of ").append(nodes.size()).append(" nodes");
+        nodes.forEach(n -> builder.append("\n  ").append(n));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,284 @@
+package io.testcontainers.arangodb.metrics;
+
+import io.testcontainers.arangodb.cluster.ArangoCluster;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import io.testcontainers.arangodb.util.ArangoExecutors;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Opt-in collector of <a href=
+ * "https://docs.arangodb.com/stable/develop/http-api/monitoring/metrics/">/_admin/metrics/v2</a>
+ * of every cluster node (or single container) at fixed interval.
+ * <p>
+ * Every sample is parsed straight into {@link MetricSeries} of its node, series keep fixed amount of
+ * latest samples. {@link #snapshot()} gives latest values per node with cluster wide aggregations,
+ * difference of two snapshots gives what happened in between, such as write stalls during a test.
+ * <p>
+ * Every cluster node is scraped directly, agents and DB servers run without authentication and
+ * coordinators are scraped with cluster credentials.
+ * <p>
+ * Response body is parsed line by line straight from HTTP stream, it is never buffered whole.
+ *
+ * <pre>
+ * {@code
+ * try (ArangoMetricsCollector metrics = ArangoMetricsCollector.builder(cluster).build().start()) {
+ *     ArangoMetricsSnapshot before = metrics.scrape();
+ *     // run test
+ *     ArangoMetricsSnapshot delta = metrics.scrape().delta(before);
+ *     assertEquals(0, delta.sum(ArangoMetricsCollector.ROCKSDB_WRITE_STALLS));
+ * }
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoMetricsCollector implements AutoCloseable {
+
+    public static final String ROCKSDB_WRITE_STALLS = "rocksdb_write_stalls";
+    public static final String ROCKSDB_WRITE_STOPS = "rocksdb_write_stops";
+    public static final String SCHEDULER_QUEUE_LENGTH = "arangodb_scheduler_queue_length";
+    public static final String SCHEDULER_LOW_PRIO_QUEUE_LENGTH = "arangodb_scheduler_low_prio_queue_length";
+
+    public static final class Builder {
+
+        private final List<Target> targets;
+        private Duration interval = Duration.ofSeconds(1);
+        private int retention = 600;
+        private Predicate<String> filter = name -> true;
+
+        private Builder(List<Target> targets) {
+            this.targets = targets;
+        }
+
+        /**
+         * @param interval between scrapes, 1 second by default
+         * @return self
+         */
+        public Builder withInterval(Duration interval) {
+            if (interval.toMillis() < 10)
+                throw new IllegalArgumentException("Interval can not be less 10 millis");
+            this.interval = interval;
+            return this;
+        }
+
+        /**
+         * @param retention samples kept per series, 600 by default
+         * @return self
+         */
+        public Builder withRetention(int retention) {
+            if (retention < 2)
+                throw new IllegalArgumentException("Retention can not be less 2 samples");
+            this.retention = retention;
+            return this;
+        }
+
+        /**
+         * @param prefixes of metric names to collect, all metrics are collected by default
+         * @return self
+         */
+        public Builder withMetrics(String... prefixes) {
+            final List<String> names = List.copyOf(Arrays.asList(prefixes));
+            this.filter = name -> names.stream().anyMatch(name::startsWith);
+            return this;
+        }
+
+        public ArangoMetricsCollector build() {
+            return new ArangoMetricsCollector(targets, interval, retention, filter);
+        }
+    }
+
+    private interface Target {
+
+        String node();
+
+        <T> T fetch(ArangoHttpClient.StreamReader<T> reader);
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoMetricsCollector.class);
+
+    private static final String PATH = "/_admin/metrics/v2";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Duration interval;
+    private final int retention;
+    private final Predicate<String> filter;
+    private final List<Target> targets;
+    private final Map<String, Map<String, MetricSeries>> series = new ConcurrentHashMap<>();
+    private final AtomicLong scrapes = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private volatile ScheduledExecutorService scheduler;
+
+    private ArangoMetricsCollector(List<Target> targets,
+                                   Duration interval,
+                                   int retention,
+                                   Predicate<String> filter) {
+        this.interval = interval;
+        this.retention = retention;
+        this.filter = filter;
+        this.targets = targets;
+    }
+
+    public static Builder builder(ArangoContainer container) {
+        return new Builder(List.of(target(container, () -> container.getContainerName().replaceFirst("^/", ""))));
+    }
+
+    /**
+     * @param cluster to scrape every node of, agents included
+     * @return builder
+     */
+    public static Builder builder(ArangoCluster cluster) {
+        return new Builder(cluster.getContainers().stream()
+                .map(node -> target(node, node::getAlias))
+                .toList());
+    }
+
+    /**
+     * Node credentials are used, so cluster coordinator is scraped with password and other cluster
+     * nodes without it
+     */
+    private static Target target(ArangoContainer container, Supplier<String> name) {
+        return new Target() {
+
+            @Override
+            public String node() {
+                return name.get();
+            }
+
+            @Override
+            public <T> T fetch(ArangoHttpClient.StreamReader<T> reader) {
+                return ArangoHttpClient.of(container).withTimeout(REQUEST_TIMEOUT).get(PATH, reader);
+            }
+        };
+    }
+
+    /**
+     * Starts periodic scraping, first scrape is done immediately
+     *
+     * @return self
+     */
+    public synchronized ArangoMetricsCollector start() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(ArangoExecutors.newThreadFactory("arangodb-metrics"));
+            scheduler.scheduleAtFixedRate(this::scrapeQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * Scrapes all nodes right away, independent of periodic scraping
+     *
+     * @return snapshot after scrape
+     */
+    public ArangoMetricsSnapshot scrape() {
+        final long timestamp = System.currentTimeMillis();
+        for (Target target : targets) {
+            scrape(target, timestamp);
+        }
+        scrapes.incrementAndGet();
+        return snapshot();
+    }
+
+    /**
+     * @return latest values of all series of all nodes
+     */
+    public ArangoMetricsSnapshot snapshot() {
+        final Map<String, Map<String, Double>> values = new LinkedHashMap<>();
+        for (Target target : targets) {
+            final Map<String, Double> nodeValues = new LinkedHashMap<>();
+            series.getOrDefault(target.node(), Map.of()).forEach((key, s) -> {
+                if (s.size() > 0) {
+                    nodeValues.put(key, s.last());
+                }
+            });
+            values.put(target.node(), nodeValues);
+        }
+        return new ArangoMetricsSnapshot(Instant.now(), values);
+    }
+
+    /**
+     * @param node   node name
+     * @param metric metric name without labels
+     * @return series of metric for every label combination
+     */
+    public List<MetricSeries> series(String node, String metric) {
+        final List<MetricSeries> result = new ArrayList<>();
+        series.getOrDefault(node, Map.of()).values().forEach(s -> {
+            if (s.name().equals(metric)) {
+                result.add(s);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return completed scrape rounds of all nodes
+     */
+    public long getScrapes() {
+        return scrapes.get();
+    }
+
+    /**
+     * @return failed node scrapes
+     */
+    public long getScrapeErrors() {
+        return errors.get();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private void scrapeQuietly() {
+        try {
+            scrape();
+        } catch (RuntimeException e) {
+            logger.debug("Metrics scrape failed", e);
+        }
+    }
+
+    private void scrape(Target target, long timestamp) {
+        final String node = target.node();
+        try {
+            final Map<String, MetricSeries> nodeSeries = series.computeIfAbsent(node, k -> new ConcurrentHashMap<>());
+            final boolean success = target.fetch((status, body) -> {
+                if (status < 200 || status >= 300) {
+                    logger.debug("Metrics scrape of {} failed with status {}", node, status);
+                    return false;
+                }
+
+                PrometheusParser.parse(body, filter, (name, labels, value) -> {
+                    final String key = (labels.isEmpty()) ? name : name + "{" + labels + "}";
+                    nodeSeries.computeIfAbsent(key, k -> new MetricSeries(name, labels, retention)).add(timestamp, value);
+                });
+                return true;
+            });
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            errors.incrementAndGet();
+            logger.debug("Metrics scrape of {} failed", node, e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.testcontainers.arangodb.metrics;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * Latest metric values of every node at some moment, series are keyed as in exposition format:
+ * {@code name} or {@code name{labels}}.
+ * <p>
+ * Lookups by metric name sum all series of that name (all label combinations), so
+ * {@code value(node, "arangodb_scheduler_queue_length")} is total queue length of node.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoMetricsSnapshot {
+
+    private final Instant timestamp;
+    private final Map<String, Map<String, Double>> nodes;
+
+    ArangoMetricsSnapshot(Instant timestamp, Map<String, Map<String, Double>> nodes) {
+        this.timestamp = timestamp;
+        final Map<String, Map<String, Double>> copy = new LinkedHashMap<>();
+        nodes.forEach((node, series) -> copy.put(node, Collections.unmodifiableMap(new LinkedHashMap<>(series))));
+        this.nodes = Collections.unmodifiableMap(copy);
+    }
+
+    public Instant timestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return node names, cluster node aliases or container name
+     */
+    public Set<String> nodes() {
+        return nodes.keySet();
+    }
+
+    /**
+     * @param node node name
+     * @return all series of node by series key
+     */
+    public Map<String, Double> series(String node) {
+        final Map<String, Double> series = nodes.get(node);
+        if (series == null)
+            throw new IllegalArgumentException("Unknown node '" + node + "', known nodes: " + nodes.keySet());
+        return series;
+    }
+
+    /**
+     * @param node   node name
+     * @param metric metric name without labels
+     * @return sum of all series of metric on node or NaN when node has no such metric
+     */
+    public double value(String node, String metric) {
+        return aggregate(series(node), metric, Double::sum);
+    }
+
+    /**
+     * @param metric metric name without labels
+     * @return cluster wide sum of metric or NaN when no node has such metric
+     */
+    public double sum(String metric) {
+        double result = Double.NaN;
+        for (String node : nodes.keySet()) {
+            result = combine(result, value(node, metric), Double::sum);
+        }
+        return result;
+    }
+
+    /**
+     * @param metric metric name without labels
+     * @return maximal per node value of metric or NaN when no node has such metric
+     */
+    public double max(String metric) {
+        double result = Double.NaN;
+        for (String node : nodes.keySet()) {
+            result = combine(result, value(node, metric), Math::max);
+        }
+        return result;
+    }
+
+    /**
+     * @param earlier snapshot taken before this one
+     * @return snapshot of differences for series present in both snapshots, counters give amount of
+     *             events between snapshots
+     */
+    public ArangoMetricsSnapshot delta(ArangoMetricsSnapshot earlier) {
+        final Map<String, Map<String, Double>> delta = new LinkedHashMap<>();
+        nodes.forEach((node, series) -> {
+            final Map<String, Double> before = earlier.nodes.getOrDefault(node, Map.of());
+            final Map<String, Double> nodeDelta = new LinkedHashMap<>();
+            series.forEach((key, value) -> {
+                final Double previous = before.get(key);
+                if (previous != null) {
+                    nodeDelta.put(key, value - previous);
+                }
+            });
+            delta.put(node, nodeDelta);
+        });
+        return new ArangoMetricsSnapshot(timestamp, delta);
+    }
+
+    private static double aggregate(Map<String, Double> series, String metric, DoubleBinaryOperator operator) {
+        double result = Double.NaN;
+        for (Map.Entry<String, Double> entry : series.entrySet()) {
+            final String key = entry.getKey();
+            if (key.equals(metric) || (key.startsWith(metric) && key.length() > metric.length()
+                    && key.charAt(metric.length()) == '{')) {
+                result = combine(result, entry.getValue(), operator);
+            }
+        }
+        return result;
+    }
+
+    private static double combine(double result, double value, DoubleBinaryOperator operator) {
+        if (Double.isNaN(value)) {
+            return result;
+        }
+        return (Double.isNaN(result))
+                ? value
+                : operator.applyAsDouble(result, value);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("Metrics at ").append(timestamp);
+        nodes.forEach((node, series) -> builder.append("\n  ").append(node).append(": ").append(series.size()).append(" series"));
+        return builder.toString();
+    }
+}
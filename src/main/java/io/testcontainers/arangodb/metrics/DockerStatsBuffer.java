@@ -0,0 +1,80 @@
+package io.testcontainers.arangodb.metrics;
+
+import java.time.Duration;
+
+/**
+ * Docker stats of single node kept in primitive ring buffers of fixed capacity, oldest samples are
+ * overwritten.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class DockerStatsBuffer {
+
+    private final long[] timestamps;
+    private final double[] cpu;
+    private final long[] memory;
+    private final long[] blockRead;
+    private final long[] blockWrite;
+    private final long[] networkReceived;
+    private final long[] networkTransmitted;
+    private long memoryLimit = 0;
+    private int head = 0;
+    private int size = 0;
+
+    DockerStatsBuffer(int capacity) {
+        this.timestamps = new long[capacity];
+        this.cpu = new double[capacity];
+        this.memory = new long[capacity];
+        this.blockRead = new long[capacity];
+        this.blockWrite = new long[capacity];
+        this.networkReceived = new long[capacity];
+        this.networkTransmitted = new long[capacity];
+    }
+
+    synchronized void add(DockerStatsSample sample) {
+        timestamps[head] = sample.timestamp;
+        cpu[head] = sample.cpuPercent;
+        memory[head] = sample.memoryUsage;
+        blockRead[head] = sample.blockRead;
+        blockWrite[head] = sample.blockWrite;
+        networkReceived[head] = sample.networkReceived;
+        networkTransmitted[head] = sample.networkTransmitted;
+        memoryLimit = sample.memoryLimit;
+        head = (head + 1) % timestamps.length;
+        size = Math.min(size + 1, timestamps.length);
+    }
+
+    synchronized ArangoDockerStatsReport.Node summary(String node) {
+        if (size == 0) {
+            return new ArangoDockerStatsReport.Node(node, 0, Duration.ZERO, 0, 0, 0, 0, memoryLimit, 0, 0, 0, 0);
+        }
+
+        double cpuSum = 0;
+        double cpuPeak = 0;
+        long memorySum = 0;
+        long memoryPeak = 0;
+        for (int i = 0; i < size; i++) {
+            final int p = physical(i);
+            cpuSum += cpu[p];
+            cpuPeak = Math.max(cpuPeak, cpu[p]);
+            memorySum += memory[p];
+            memoryPeak = Math.max(memoryPeak, memory[p]);
+        }
+
+        final int first = physical(0);
+        final int last = physical(size - 1);
+        return new ArangoDockerStatsReport.Node(node, size,
+                Duration.ofMillis(timestamps[last] - timestamps[first]),
+                cpuSum / size, cpuPeak,
+                memorySum / size, memoryPeak, memoryLimit,
+                blockRead[last] - blockRead[first],
+                blockWrite[last] - blockWrite[first],
+                networkReceived[last] - networkReceived[first],
+                networkTransmitted[last] - networkTransmitted[first]);
+    }
+
+    private int physical(int i) {
+        return (head - size + i + timestamps.length) % timestamps.length;
+    }
+}
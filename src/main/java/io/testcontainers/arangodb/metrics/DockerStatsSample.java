@@ -0,0 +1,104 @@
+package io.testcontainers.arangodb.metrics;
+
+import com.github.dockerjava.api.model.BlkioStatEntry;
+import com.github.dockerjava.api.model.CpuStatsConfig;
+import com.github.dockerjava.api.model.MemoryStatsConfig;
+import com.github.dockerjava.api.model.Statistics;
+import com.github.dockerjava.api.model.StatisticNetworksConfig;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single Docker stats sample reduced to primitives, block I/O and network values are cumulative
+ * counters since container start.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class DockerStatsSample {
+
+    final long timestamp;
+    final double cpuPercent;
+    final long memoryUsage;
+    final long memoryLimit;
+    final long blockRead;
+    final long blockWrite;
+    final long networkReceived;
+    final long networkTransmitted;
+
+    DockerStatsSample(long timestamp,
+                      double cpuPercent,
+                      long memoryUsage,
+                      long memoryLimit,
+                      long blockRead,
+                      long blockWrite,
+                      long networkReceived,
+                      long networkTransmitted) {
+        this.timestamp = timestamp;
+        this.cpuPercent = cpuPercent;
+        this.memoryUsage = memoryUsage;
+        this.memoryLimit = memoryLimit;
+        this.blockRead = blockRead;
+        this.blockWrite = blockWrite;
+        this.networkReceived = networkReceived;
+        this.networkTransmitted = networkTransmitted;
+    }
+
+    static DockerStatsSample of(Statistics statistics, long timestamp) {
+        final MemoryStatsConfig memory = statistics.getMemoryStats();
+        final long memoryUsage = (memory == null) ? 0 : value(memory.getUsage());
+        final long memoryLimit = (memory == null) ? 0 : value(memory.getLimit());
+
+        long blockRead = 0;
+        long blockWrite = 0;
+        if (statistics.getBlkioStats() != null && statistics.getBlkioStats().getIoServiceBytesRecursive() != null) {
+            for (BlkioStatEntry entry : statistics.getBlkioStats().getIoServiceBytesRecursive()) {
+                if ("read".equalsIgnoreCase(entry.getOp())) {
+                    blockRead += value(entry.getValue());
+                } else if ("write".equalsIgnoreCase(entry.getOp())) {
+                    blockWrite += value(entry.getValue());
+                }
+            }
+        }
+
+        long received = 0;
+        long transmitted = 0;
+        final Map<String, StatisticNetworksConfig> networks = statistics.getNetworks();
+        if (networks != null) {
+            for (StatisticNetworksConfig network : networks.values()) {
+                received += value(network.getRxBytes());
+                transmitted += value(network.getTxBytes());
+            }
+        }
+
+        return new DockerStatsSample(timestamp, cpuPercent(statistics.getCpuStats(), statistics.getPreCpuStats()),
+                memoryUsage, memoryLimit, blockRead, blockWrite, received, transmitted);
+    }
+
+    /**
+     * Same formula as {@code docker stats}: container CPU time share of host CPU time multiplied by
+     * online CPUs, so fully busy 2 CPUs give 200%
+     */
+    private static double cpuPercent(CpuStatsConfig cpu, CpuStatsConfig previous) {
+        if (cpu == null || previous == null || cpu.getCpuUsage() == null || previous.getCpuUsage() == null) {
+            return 0;
+        }
+
+        final long cpuDelta = value(cpu.getCpuUsage().getTotalUsage()) - value(previous.getCpuUsage().getTotalUsage());
+        final long systemDelta = value(cpu.getSystemCpuUsage()) - value(previous.getSystemCpuUsage());
+        if (cpuDelta < 0 || systemDelta <= 0) {
+            return 0;
+        }
+
+        long cpus = value(cpu.getOnlineCpus());
+        if (cpus == 0) {
+            final List<Long> perCpu = cpu.getCpuUsage().getPercpuUsage();
+            cpus = (perCpu == null || perCpu.isEmpty()) ? 1 : perCpu.size();
+        }
+        return (double) cpuDelta / systemDelta * cpus * 100.0;
+    }
+
+    private static long value(Long value) {
+        return (value == null) ? 0 : value;
+    }
+}
@@ -0,0 +1,110 @@
+package io.testcontainers.arangodb.metrics;
+
+import java.time.Instant;
+
+/**
+ * Time series of single metric (metric name with labels) of single node, samples are kept in
+ * primitive ring buffer of fixed capacity, oldest samples are overwritten.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class MetricSeries {
+
+    private final String name;
+    private final String labels;
+    private final long[] timestamps;
+    private final double[] values;
+    private int head = 0;
+    private int size = 0;
+
+    MetricSeries(String name, String labels, int capacity) {
+        this.name = name;
+        this.labels = labels;
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+    synchronized void add(long timestamp, double value) {
+        timestamps[head] = timestamp;
+        values[head] = value;
+        head = (head + 1) % values.length;
+        size = Math.min(size + 1, values.length);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return labels as in exposition format without braces, such as {@code role="DBServer"}, empty
+     *             when metric has no labels
+     */
+    public String labels() {
+        return labels;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @param i sample index from 0 (oldest retained) to {@link #size()} - 1 (latest)
+     * @return sample value
+     */
+    public synchronized double value(int i) {
+        return values[physical(i)];
+    }
+
+    /**
+     * @param i sample index from 0 (oldest retained) to {@link #size()} - 1 (latest)
+     * @return sample scrape time
+     */
+    public synchronized Instant timestamp(int i) {
+        return Instant.ofEpochMilli(timestamps[physical(i)]);
+    }
+
+    /**
+     * @return latest value or NaN when there are no samples
+     */
+    public synchronized double last() {
+        return (size == 0)
+                ? Double.NaN
+                : value(size - 1);
+    }
+
+    /**
+     * @return difference between latest and oldest retained value, 0 when there are less than two
+     *             samples
+     */
+    public synchronized double delta() {
+        return (size < 2)
+                ? 0
+                : last() - value(0);
+    }
+
+    /**
+     * @return maximal retained value or NaN when there are no samples
+     */
+    public synchronized double max() {
+        double max = Double.NaN;
+        for (int i = 0; i < size; i++) {
+            final double value = value(i);
+            if (Double.isNaN(max) || value > max) {
+                max = value;
+            }
+        }
+        return max;
+    }
+
+    private int physical(int i) {
+        if (i < 0 || i >= size)
+            throw new IndexOutOfBoundsException("Sample " + i + " is out of " + size + " samples");
+        return (head - size + i + values.length) % values.length;
+    }
+
+    @Override
+    public String toString() {
+        return (labels.isEmpty() ? name : name + "{" + labels + "}") + " [samples=" + size() + ", last=" + last() + ']';
+    }
+}
@@ -0,0 +1,128 @@
+package io.testcontainers.arangodb.metrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.function.Predicate;
+
+/**
+ * Parser of Prometheus text exposition format, samples are passed to consumer line by line as they
+ * are read, without building intermediate structures. Comments, type hints and malformed lines are skipped.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class PrometheusParser {
+
+    @FunctionalInterface
+    interface SampleConsumer {
+
+        /**
+         * @param name   metric name
+         * @param labels labels without braces, empty when there are no labels
+         * @param value  sample value
+         */
+        void accept(String name, String labels, double value);
+    }
+
+    private PrometheusParser() {}
+
+    /**
+     * @param reader   of exposition format text, read line by line until its end
+     * @param filter   of metric names to parse, other lines are skipped before value is parsed
+     * @param consumer of parsed samples
+     * @return amount of parsed samples
+     * @throws IOException when reading fails
+     */
+    static int parse(BufferedReader reader, Predicate<String> filter, SampleConsumer consumer) throws IOException {
+        int samples = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (parseLine(line, 0, line.length(), filter, consumer)) {
+                samples++;
+            }
+        }
+        return samples;
+    }
+
+    private static boolean parseLine(String text, int start, int end, Predicate<String> filter, SampleConsumer consumer) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        if (start >= end || text.charAt(start) == '#') {
+            return false;
+        }
+
+        int nameEnd = start;
+        while (nameEnd < end && text.charAt(nameEnd) != '{' && !Character.isWhitespace(text.charAt(nameEnd))) {
+            nameEnd++;
+        }
+
+        final String name = text.substring(start, nameEnd);
+        if (!filter.test(name)) {
+            return false;
+        }
+
+        String labels = "";
+        int valueStart = nameEnd;
+        if (nameEnd < end && text.charAt(nameEnd) == '{') {
+            final int labelsEnd = labelsEnd(text, nameEnd + 1, end);
+            if (labelsEnd < 0) {
+                return false;
+            }
+            labels = text.substring(nameEnd + 1, labelsEnd);
+            valueStart = labelsEnd + 1;
+        }
+
+        while (valueStart < end && Character.isWhitespace(text.charAt(valueStart))) {
+            valueStart++;
+        }
+        int valueEnd = valueStart;
+        while (valueEnd < end && !Character.isWhitespace(text.charAt(valueEnd))) {
+            valueEnd++;
+        }
+        if (valueStart == valueEnd) {
+            return false;
+        }
+
+        final double value;
+        try {
+            value = parseValue(text.substring(valueStart, valueEnd));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+
+        consumer.accept(name, labels, value);
+        return true;
+    }
+
+    /**
+     * @return index of closing brace, braces inside quoted label values are skipped
+     */
+    private static int labelsEnd(String text, int from, int end) {
+        boolean quoted = false;
+        for (int i = from; i < end; i++) {
+            final char c = text.charAt(i);
+            if (quoted) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == '}') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static double parseValue(String value) {
+        return switch (value) {
+            case "+Inf", "Inf" -> Double.POSITIVE_INFINITY;
+            case "-Inf" -> Double.NEGATIVE_INFINITY;
+            case "NaN" -> Double.NaN;
+            default -> Double.parseDouble(value);
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package io.testcontainers.arangodb.pool;
+
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Database leased from {@link ArangoDatabasePool} for exclusive use, returned to pool on close.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoDatabaseLease implements AutoCloseable {
+
+    private final ArangoDatabasePool pool;
+    private final String database;
+    private final ArangoHttpClient client;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    ArangoDatabaseLease(ArangoDatabasePool pool, String database, ArangoHttpClient client) {
+        this.pool = pool;
+        this.database = database;
+        this.client = client;
+    }
+
+    /**
+     * @return name of leased database
+     */
+    public String getDatabase() {
+        return database;
+    }
+
+    /**
+     * @return client that sends all requests to leased database
+     */
+    public ArangoHttpClient getClient() {
+        return client;
+    }
+
+    /**
+     * Returns database to pool for recycling, database must not be used after
+     */
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            pool.release(database);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return database;
+    }
+}
@@ -0,0 +1,329 @@
+package io.testcontainers.arangodb.pool;
+
+import io.testcontainers.arangodb.cluster.ArangoCluster;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.containers.ArangoDeployment;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import io.testcontainers.arangodb.util.ArangoExecutors;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of isolated databases on single shared {@link ArangoContainer} or {@link ArangoCluster}.
+ * <p>
+ * Databases are created in background ahead of time, each test leases its own database and returns
+ * it on {@link ArangoDatabaseLease#close()}, returned databases are recycled in background via
+ * {@link RecycleStrategy} and handed out again. Pool is thread safe and can be shared between tests
+ * running in parallel.
+ *
+ * <pre>
+ * {@code
+ * try (ArangoDatabaseLease lease = POOL.lease()) {
+ *     lease.getClient().post("/_api/collection", Map.of("name", "users"));
+ * }
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoDatabasePool implements AutoCloseable {
+
+    public enum RecycleStrategy {
+
+        /**
+         * Drops all named graphs, views, non-system collections, custom analyzers and user AQL
+         * functions, so next test receives database with empty schema
+         */
+        CLEAR,
+        /**
+         * Truncates all non-system collections, schema is NOT reset: collections, indexes, views and
+         * analyzers created by test are seen by next test leasing database
+         */
+        TRUNCATE,
+        /**
+         * Drops database and creates new empty one instead
+         */
+        DROP
+    }
+
+    public static final class Builder {
+
+        private final ArangoHttpClient client;
+        private int size = 2;
+        private RecycleStrategy recycleStrategy = RecycleStrategy.CLEAR;
+        private String prefix = "test";
+
+        private Builder(ArangoHttpClient client) {
+            this.client = client;
+        }
+
+        /**
+         * @param size amount of idle databases to keep ready, leases above it create databases on demand
+         * @return self
+         */
+        public Builder withSize(int size) {
+            if (size < 0)
+                throw new IllegalArgumentException("Pool size can not be negative");
+            this.size = size;
+            return this;
+        }
+
+        /**
+         * @param recycleStrategy to apply to returned databases, {@link RecycleStrategy#CLEAR} by
+         *                            default
+         * @return self
+         */
+        public Builder withRecycleStrategy(RecycleStrategy recycleStrategy) {
+            this.recycleStrategy = Objects.requireNonNull(recycleStrategy);
+            return this;
+        }
+
+        /**
+         * @param prefix of database names, must start with letter
+         * @return self
+         */
+        public Builder withPrefix(String prefix) {
+            if (prefix.isEmpty() || !Character.isLetter(prefix.charAt(0)))
+                throw new IllegalArgumentException("Database prefix must start with letter");
+            this.prefix = prefix;
+            return this;
+        }
+
+        public ArangoDatabasePool build() {
+            return new ArangoDatabasePool(client, size, recycleStrategy, prefix);
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoDatabasePool.class);
+
+    private final ArangoHttpClient client;
+    private final int size;
+    private final RecycleStrategy recycleStrategy;
+    private final String namePrefix;
+
+    private final BlockingQueue<String> idle = new LinkedBlockingQueue<>();
+    private final Set<String> databases = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong counter = new AtomicLong();
+    private final ExecutorService executor = ArangoExecutors.newThreadPerTaskExecutor("arangodb-database-pool");
+
+    private volatile boolean closed = false;
+
+    private ArangoDatabasePool(ArangoHttpClient client, int size, RecycleStrategy recycleStrategy, String prefix) {
+        this.client = client;
+        this.size = size;
+        this.recycleStrategy = recycleStrategy;
+        this.namePrefix = prefix + "_" + UUID.randomUUID().toString().replace("-", "").substring(0, 8) + "_";
+        replenish();
+    }
+
+    public static Builder builder(ArangoDeployment deployment) {
+        return new Builder(ArangoHttpClient.of(deployment));
+    }
+
+    public static Builder builder(ArangoHttpClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * @return database for exclusive use, idle database if available or else newly created one
+     */
+    public ArangoDatabaseLease lease() {
+        if (closed)
+            throw new IllegalStateException("Database pool is closed");
+
+        String database = idle.poll();
+        if (database == null) {
+            database = create();
+        }
+
+        replenish();
+        return new ArangoDatabaseLease(this, database, client.withDatabase(database));
+    }
+
+    /**
+     * @return amount of databases ready to be leased immediately
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    void release(String database) {
+        if (closed) {
+            drop(database);
+            return;
+        }
+
+        submit(() -> {
+            try {
+                switch (recycleStrategy) {
+                    case CLEAR -> {
+                        clear(database);
+                        offer(database);
+                    }
+                    case TRUNCATE -> {
+                        truncate(database);
+                        offer(database);
+                    }
+                    case DROP -> {
+                        drop(database);
+                        replenish();
+                    }
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to recycle database '{}', it will be dropped", database, e);
+                drop(database);
+                replenish();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        idle.clear();
+        for (String database : List.copyOf(databases)) {
+            drop(database);
+        }
+    }
+
+    private void replenish() {
+        while (!closed) {
+            final int current = pending.get();
+            if (idle.size() + current >= size) {
+                return;
+            }
+
+            if (pending.compareAndSet(current, current + 1)) {
+                submit(() -> {
+                    try {
+                        offer(create());
+                    } catch (Exception e) {
+                        logger.warn("Failed to create pooled database", e);
+                    } finally {
+                        pending.decrementAndGet();
+                    }
+                });
+            }
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // pool is closed
+        }
+    }
+
+    /**
+     * Databases above pool size, e.g. created on demand and then returned, are dropped instead of
+     * kept idle
+     */
+    private void offer(String database) {
+        synchronized (idle) {
+            if (!closed && idle.size() < size) {
+                idle.offer(database);
+                return;
+            }
+        }
+
+        drop(database);
+    }
+
+    private String create() {
+        final String database = namePrefix + counter.incrementAndGet();
+        client.post("/_api/database", Map.of("name", database)).requireSuccess("Database '" + database + "' creation");
+        databases.add(database);
+        logger.debug("Created pooled database '{}'", database);
+        return database;
+    }
+
+    private void truncate(String database) {
+        final ArangoHttpClient databaseClient = client.withDatabase(database);
+        for (String name : names(databaseClient, "/_api/collection?excludeSystem=true", "result", database)) {
+            databaseClient.put("/_api/collection/" + ArangoHttpClient.encode(name) + "/truncate", null)
+                    .requireSuccess("Collection '" + name + "' truncation");
+        }
+    }
+
+    void clear(String database) {
+        final ArangoHttpClient databaseClient = client.withDatabase(database);
+        // graphs and views are dropped first as they reference collections, analyzers are dropped
+        // last as views and inverted indexes reference them
+        for (String name : names(databaseClient, "/_api/gharial", "graphs", database)) {
+            databaseClient.delete("/_api/gharial/" + ArangoHttpClient.encode(name))
+                    .requireSuccess("Graph '" + name + "' drop");
+        }
+        for (String name : names(databaseClient, "/_api/view", "result", database)) {
+            databaseClient.delete("/_api/view/" + ArangoHttpClient.encode(name))
+                    .requireSuccess("View '" + name + "' drop");
+        }
+        for (String name : names(databaseClient, "/_api/collection?excludeSystem=true", "result", database)) {
+            databaseClient.delete("/_api/collection/" + ArangoHttpClient.encode(name))
+                    .requireSuccess("Collection '" + name + "' drop");
+        }
+        // built-in analyzers have no database prefix in their names
+        for (String name : names(databaseClient, "/_api/analyzer", "result", database)) {
+            if (name.startsWith(database + "::")) {
+                databaseClient.delete("/_api/analyzer/" + ArangoHttpClient.encode(name) + "?force=true")
+                        .requireSuccess("Analyzer '" + name + "' drop");
+            }
+        }
+        for (String name : names(databaseClient, "/_api/aqlfunction", "result", database)) {
+            databaseClient.delete("/_api/aqlfunction/" + ArangoHttpClient.encode(name))
+                    .requireSuccess("AQL function '" + name + "' drop");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> names(ArangoHttpClient databaseClient, String path, String field, String database) {
+        final Object result = databaseClient.get(path)
+                .requireSuccess("Database '" + database + "' listing " + path)
+                .json()
+                .get(field);
+        if (!(result instanceof List)) {
+            return List.of();
+        }
+
+        return ((List<Object>) result).stream()
+                .map(item -> String.valueOf(((Map<String, Object>) item).get("name")))
+                .toList();
+    }
+
+    private void drop(String database) {
+        try {
+            final ArangoHttpClient.Response response = client.delete("/_api/database/" + ArangoHttpClient.encode(database));
+            if (!response.isSuccess() && response.status() != 404) {
+                logger.warn("Failed to drop pooled database '{}': {}", database, response);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to drop pooled database '{}'", database, e);
+        } finally {
+            databases.remove(database);
+        }
+    }
+}
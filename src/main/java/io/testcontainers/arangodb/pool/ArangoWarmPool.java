@@ -0,0 +1,296 @@
+package io.testcontainers.arangodb.pool;
+
+import io.testcontainers.arangodb.cluster.ArangoCluster;
+import io.testcontainers.arangodb.cluster.ArangoClusterBuilder;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.util.ArangoExecutors;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.lifecycle.Startable;
+
+/**
+ * JVM-wide pool of pre-started {@link ArangoContainer} or {@link ArangoCluster} instances.
+ * <p>
+ * Pool starts configured amount of instances in background right after registration and replenishes
+ * itself asynchronously whenever instance is taken, so startup overlaps with JVM warm-up and test
+ * discovery. Taken instance is owned by caller and must be stopped by it.
+ * <p>
+ * Default pools can be configured via system properties and are started as soon as JUnit Platform
+ * launcher session opens (before test discovery), all pools are closed when session closes:
+ * <ul>
+ * <li>{@code arangodb.warm-pool.container.image}, {@code arangodb.warm-pool.container.size},
+ * {@code arangodb.warm-pool.container.password} (without authentication when not set)</li>
+ * <li>{@code arangodb.warm-pool.cluster.image}, {@code arangodb.warm-pool.cluster.size},
+ * {@code arangodb.warm-pool.cluster.password} (without authentication when not set)</li>
+ * </ul>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoWarmPool<T extends Startable> implements AutoCloseable {
+
+    public static final String CONTAINER_POOL = "container";
+    public static final String CLUSTER_POOL = "cluster";
+
+    private static final String PROPERTY_PREFIX = "arangodb.warm-pool.";
+    private static final String PROPERTY_IMAGE = ".image";
+    private static final String PROPERTY_SIZE = ".size";
+    private static final String PROPERTY_PASSWORD = ".password";
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoWarmPool.class);
+
+    private static final Map<String, ArangoWarmPool<?>> POOLS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final int size;
+    private final Supplier<T> factory;
+    private final BlockingQueue<CompletableFuture<T>> warming = new LinkedBlockingQueue<>();
+    private final ExecutorService executor;
+
+    private volatile boolean closed = false;
+
+    private ArangoWarmPool(String name, int size, Supplier<T> factory) {
+        this.name = name;
+        this.size = size;
+        this.factory = factory;
+        this.executor = ArangoExecutors.newThreadPerTaskExecutor("arangodb-warm-pool-" + name);
+    }
+
+    /**
+     * Registers JVM-wide pool and starts warming its instances, if pool with same name is already
+     * registered then existing pool is returned
+     *
+     * @param name    of pool
+     * @param size    amount of instances to keep started
+     * @param factory of not started instances
+     * @return pool
+     * @param <T> type of instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Startable> ArangoWarmPool<T> register(String name, int size, Supplier<T> factory) {
+        if (size < 1)
+            throw new IllegalArgumentException("Warm pool size can not be less 1");
+
+        return (ArangoWarmPool<T>) POOLS.computeIfAbsent(name, n -> {
+            final ArangoWarmPool<T> pool = new ArangoWarmPool<>(n, size, factory);
+            pool.replenish();
+            logger.debug("Registered ArangoDB warm pool '{}' with size {}", n, size);
+            return pool;
+        });
+    }
+
+    /**
+     * @param name of pool
+     * @return registered pool
+     * @param <T> type of instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Startable> Optional<ArangoWarmPool<T>> get(String name) {
+        return Optional.ofNullable((ArangoWarmPool<T>) POOLS.get(name));
+    }
+
+    /**
+     * @return default container pool configured via system properties
+     * @throws IllegalStateException when pool is not configured
+     */
+    public static ArangoWarmPool<ArangoContainer> containers() {
+        return ArangoWarmPool.<ArangoContainer>get(CONTAINER_POOL)
+                .or(ArangoWarmPool::registerContainersFromProperties)
+                .orElseThrow(() -> new IllegalStateException("Container warm pool is not configured, please set '"
+                        + PROPERTY_PREFIX + CONTAINER_POOL + PROPERTY_IMAGE + "' system property"));
+    }
+
+    /**
+     * @return default cluster pool configured via system properties
+     * @throws IllegalStateException when pool is not configured
+     */
+    public static ArangoWarmPool<ArangoCluster> clusters() {
+        return ArangoWarmPool.<ArangoCluster>get(CLUSTER_POOL)
+                .or(ArangoWarmPool::registerClustersFromProperties)
+                .orElseThrow(() -> new IllegalStateException("Cluster warm pool is not configured, please set '"
+                        + PROPERTY_PREFIX + CLUSTER_POOL + PROPERTY_IMAGE + "' system property"));
+    }
+
+    /**
+     * Registers default pools which are configured via system properties, does nothing otherwise
+     */
+    public static void initialize() {
+        registerContainersFromProperties();
+        registerClustersFromProperties();
+    }
+
+    private static Optional<ArangoWarmPool<ArangoContainer>> registerContainersFromProperties() {
+        final String image = System.getProperty(PROPERTY_PREFIX + CONTAINER_POOL + PROPERTY_IMAGE);
+        if (image == null || image.isBlank()) {
+            return Optional.empty();
+        }
+
+        final String password = System.getProperty(PROPERTY_PREFIX + CONTAINER_POOL + PROPERTY_PASSWORD);
+        return Optional.of(register(CONTAINER_POOL, getSize(CONTAINER_POOL), () -> {
+            final ArangoContainer container = new ArangoContainer(image);
+            return (password == null)
+                    ? container.withoutAuth()
+                    : container.withPassword(password);
+        }));
+    }
+
+    private static Optional<ArangoWarmPool<ArangoCluster>> registerClustersFromProperties() {
+        final String image = System.getProperty(PROPERTY_PREFIX + CLUSTER_POOL + PROPERTY_IMAGE);
+        if (image == null || image.isBlank()) {
+            return Optional.empty();
+        }
+
+        final String password = System.getProperty(PROPERTY_PREFIX + CLUSTER_POOL + PROPERTY_PASSWORD);
+        return Optional.of(register(CLUSTER_POOL, getSize(CLUSTER_POOL), () -> {
+            final ArangoClusterBuilder builder = ArangoCluster.builder(image);
+            return (password == null)
+                    ? builder.withoutAuth().build()
+                    : builder.withPassword(password).build();
+        }));
+    }
+
+    private static int getSize(String pool) {
+        final String size = System.getProperty(PROPERTY_PREFIX + pool + PROPERTY_SIZE, "1");
+        try {
+            return Integer.parseInt(size.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid '" + PROPERTY_PREFIX + pool + PROPERTY_SIZE + "' value: " + size, e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return amount of started instances ready to be taken immediately
+     */
+    public int getReadyCount() {
+        return (int) warming.stream()
+                .filter(f -> f.isDone() && !f.isCompletedExceptionally())
+                .count();
+    }
+
+    /**
+     * @return started instance, waits up to 15 minutes for instance to start
+     */
+    public T take() {
+        return take(Duration.ofMinutes(15));
+    }
+
+    /**
+     * Takes started instance if any is ready, otherwise waits for instance that is started first, and
+     * triggers asynchronous pool replenishment
+     *
+     * @param timeout to wait for instance to start
+     * @return started instance that is owned by caller
+     */
+    public T take(Duration timeout) {
+        if (closed)
+            throw new IllegalStateException("Warm pool '" + name + "' is closed");
+
+        // failed instances are discarded, so pool is replenished with new ones instead
+        warming.removeIf(f -> {
+            if (f.isCompletedExceptionally()) {
+                f.whenComplete((instance, e) -> logger.warn("Warm pool '{}' instance failed to start, discarding it", name, e));
+                return true;
+            }
+            return false;
+        });
+
+        CompletableFuture<T> future = warming.stream()
+                .filter(f -> f.isDone() && !f.isCompletedExceptionally())
+                .findFirst()
+                .filter(warming::remove)
+                .orElse(null);
+        if (future == null) {
+            future = warming.poll();
+        }
+        if (future == null) {
+            future = warm();
+        }
+
+        replenish();
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Warm pool '" + name + "' instance failed to start", e.getCause());
+        } catch (TimeoutException e) {
+            future.thenAccept(Startable::stop);
+            throw new IllegalStateException("Warm pool '" + name + "' instance did not start in " + timeout.toMillis()
+                    + " millis", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.thenAccept(Startable::stop);
+            throw new IllegalStateException("Interrupted while taking instance from warm pool '" + name + "'", e);
+        }
+    }
+
+    /**
+     * Stops all instances that were not taken and unregisters pool, waits up to 1 minute for
+     * instances that are still starting
+     */
+    @Override
+    public void close() {
+        closed = true;
+        POOLS.remove(name, this);
+
+        final List<CompletableFuture<T>> remaining = new ArrayList<>();
+        warming.drainTo(remaining);
+        for (CompletableFuture<T> future : remaining) {
+            future.thenAccept(Startable::stop);
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.warn("Warm pool '{}' instances did not stop in 1 minute", name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Closes all registered pools
+     */
+    static void closeAll() {
+        for (ArangoWarmPool<?> pool : List.copyOf(POOLS.values())) {
+            try {
+                pool.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close warm pool '{}'", pool.getName(), e);
+            }
+        }
+    }
+
+    private synchronized void replenish() {
+        while (!closed && warming.size() < size) {
+            warming.offer(warm());
+        }
+    }
+
+    private CompletableFuture<T> warm() {
+        return CompletableFuture.supplyAsync(() -> {
+            final T instance = factory.get();
+            final long started = System.nanoTime();
+            instance.start();
+            logger.debug("Warm pool '{}' instance started in {} millis", name,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return instance;
+        }, executor);
+    }
+}
@@ -0,0 +1,28 @@
+package io.testcontainers.arangodb.pool;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * Starts warming default {@link ArangoWarmPool} pools (when configured via system properties) as
+ * soon as JUnit Platform launcher session opens, before test discovery, and closes all registered
+ * pools when session closes.
+ * <p>
+ * Registered via {@link java.util.ServiceLoader}, does nothing unless pools are configured or
+ * registered.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoWarmPoolSessionListener implements LauncherSessionListener {
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        ArangoWarmPool.initialize();
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        ArangoWarmPool.closeAll();
+    }
+}
@@ -0,0 +1,170 @@
+package io.testcontainers.arangodb.query;
+
+import io.testcontainers.arangodb.containers.ArangoDeployment;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Performance contract of AQL query: fails with {@link AssertionError} when plan contains full
+ * collection scan, misses index on collection, or when profiled execution scans more documents or
+ * uses more memory than allowed.
+ * <p>
+ * Plan is explained once on first plan assertion, query is executed with profiling once on first
+ * execution assertion, so modifying query modifies data when execution figures are asserted.
+ *
+ * <pre>
+ * {@code
+ * ArangoQueryAssert.that(container, "FOR o IN orders FILTER o.user == @user RETURN o")
+ *         .withBindVars(Map.of("user", "u1"))
+ *         .hasNoFullScan()
+ *         .usesIndex("orders", "idx_user")
+ *         .scansAtMost(100)
+ *         .usesAtMostMemory(1024 * 1024);
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoQueryAssert {
+
+    private final ArangoHttpClient client;
+    private final String query;
+    private String database = "_system";
+    private Map<String, Object> bindVars = Map.of();
+    private QueryPlan plan;
+    private QueryPlan.Stats stats;
+
+    private ArangoQueryAssert(ArangoHttpClient client, String query) {
+        this.client = client;
+        this.query = Objects.requireNonNull(query);
+    }
+
+    public static ArangoQueryAssert that(ArangoDeployment deployment, String query) {
+        return new ArangoQueryAssert(ArangoHttpClient.of(deployment), query);
+    }
+
+    /**
+     * @param database to run query against, {@code _system} by default
+     * @return self
+     */
+    public ArangoQueryAssert withDatabase(String database) {
+        this.database = Objects.requireNonNull(database);
+        resetPlan();
+        return this;
+    }
+
+    /**
+     * @param bindVars query bind parameters
+     * @return self
+     */
+    public ArangoQueryAssert withBindVars(Map<String, Object> bindVars) {
+        this.bindVars = Map.copyOf(bindVars);
+        resetPlan();
+        return this;
+    }
+
+    /**
+     * @return self
+     * @throws AssertionError when plan enumerates any collection without index, or with index that
+     *                            only gives order for SORT
+     */
+    public ArangoQueryAssert hasNoFullScan() {
+        final QueryPlan plan = plan();
+        if (!plan.fullScans.isEmpty()) {
+            throw fail("Expected no full collection scans, but scans " + plan.fullScans);
+        }
+        return this;
+    }
+
+    /**
+     * @param collection that must not be enumerated without index
+     * @return self
+     * @throws AssertionError when plan enumerates collection without index
+     */
+    public ArangoQueryAssert hasNoFullScan(String collection) {
+        if (plan().fullScans.contains(collection)) {
+            throw fail("Expected no full scan of collection '" + collection + "'");
+        }
+        return this;
+    }
+
+    /**
+     * @param collection that must be read via index, edge collection of traversal or path search is
+     *                       read via its edge index
+     * @return self
+     * @throws AssertionError when plan uses no index of collection
+     */
+    public ArangoQueryAssert usesIndex(String collection) {
+        if (plan().indexNames.getOrDefault(collection, List.of()).isEmpty()) {
+            throw fail("Expected index usage on collection '" + collection + "'");
+        }
+        return this;
+    }
+
+    /**
+     * @param collection that must be read via index
+     * @param index      name of index
+     * @return self
+     * @throws AssertionError when plan does not use named index of collection
+     */
+    public ArangoQueryAssert usesIndex(String collection, String index) {
+        if (!plan().indexNames.getOrDefault(collection, List.of()).contains(index)) {
+            throw fail("Expected usage of index '" + index + "' on collection '" + collection + "'");
+        }
+        return this;
+    }
+
+    /**
+     * @param documents budget of documents read by full scans and via indexes
+     * @return self
+     * @throws AssertionError when profiled execution scans more documents
+     */
+    public ArangoQueryAssert scansAtMost(long documents) {
+        final QueryPlan.Stats stats = stats();
+        final long scanned = stats.scannedFull + stats.scannedIndex;
+        if (scanned > documents) {
+            throw fail("Expected at most " + documents + " scanned documents, but scanned " + scanned
+                    + " (full " + stats.scannedFull + ", index " + stats.scannedIndex + ")");
+        }
+        return this;
+    }
+
+    /**
+     * @param bytes budget of query peak memory usage
+     * @return self
+     * @throws AssertionError when profiled execution uses more memory
+     */
+    public ArangoQueryAssert usesAtMostMemory(long bytes) {
+        final long peak = stats().peakMemoryUsage;
+        if (peak > bytes) {
+            throw fail("Expected peak memory usage at most " + bytes + " bytes, but was " + peak + " bytes");
+        }
+        return this;
+    }
+
+    private void resetPlan() {
+        this.plan = null;
+        this.stats = null;
+    }
+
+    private QueryPlan plan() {
+        if (plan == null) {
+            plan = QueryPlan.explain(client.withDatabase(database), query, bindVars);
+        }
+        return plan;
+    }
+
+    private QueryPlan.Stats stats() {
+        if (stats == null) {
+            stats = QueryPlan.profile(client.withDatabase(database), query, bindVars);
+        }
+        return stats;
+    }
+
+    private AssertionError fail(String message) {
+        return new AssertionError(message + "\n  query: " + query.replaceAll("\\s+", " ").trim() + "\n  plan: " + plan());
+    }
+}
@@ -0,0 +1,230 @@
+package io.testcontainers.arangodb.query;
+
+import io.testcontainers.arangodb.containers.ArangoDeployment;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import io.testcontainers.arangodb.http.Json;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Captures slow AQL queries of each test with their execution plans, so queries that scan whole
+ * collections or miss indexes are visible in integration tests.
+ * <p>
+ * Before each test slow query tracking is enabled with configured threshold and slow query list is
+ * cleared, after each test slow queries of all databases (of all coordinators) are explained and
+ * read only queries are re-executed with profiling to get scanned documents figures. Profile is
+ * logged when test has slow queries.
+ *
+ * <pre>
+ * {@code
+ * @RegisterExtension
+ * static final ArangoQueryCapture queries = ArangoQueryCapture.builder(container)
+ *         .withThreshold(Duration.ofMillis(50))
+ *         .build();
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoQueryCapture implements BeforeEachCallback, AfterEachCallback {
+
+    public static final class Builder {
+
+        private final Supplier<ArangoHttpClient> client;
+        private Duration threshold = Duration.ofMillis(100);
+        private int maxQueries = 256;
+        private boolean profiling = true;
+
+        private Builder(Supplier<ArangoHttpClient> client) {
+            this.client = client;
+        }
+
+        /**
+         * @param threshold of query run time to be tracked as slow, 100 millis by default
+         * @return self
+         */
+        public Builder withThreshold(Duration threshold) {
+            if (threshold.isNegative())
+                throw new IllegalArgumentException("Threshold can not be negative");
+            this.threshold = threshold;
+            return this;
+        }
+
+        /**
+         * @param maxQueries slow queries kept by server per database, 256 by default
+         * @return self
+         */
+        public Builder withMaxQueries(int maxQueries) {
+            if (maxQueries < 1)
+                throw new IllegalArgumentException("Max queries can not be less 1");
+            this.maxQueries = maxQueries;
+            return this;
+        }
+
+        /**
+         * Read only slow queries are not re-executed with profiling, so only plan figures are reported
+         *
+         * @return self
+         */
+        public Builder withoutProfiling() {
+            this.profiling = false;
+            return this;
+        }
+
+        public ArangoQueryCapture build() {
+            return new ArangoQueryCapture(client, threshold, maxQueries, profiling);
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoQueryCapture.class);
+
+    private static final String SLOW_QUERIES = "/_db/_system/_api/query/slow?all=true";
+
+    private final Supplier<ArangoHttpClient> clientSupplier;
+    private final Duration threshold;
+    private final int maxQueries;
+    private final boolean profiling;
+    private final List<ArangoQueryProfile> profiles = new CopyOnWriteArrayList<>();
+    private volatile ArangoHttpClient client;
+
+    private ArangoQueryCapture(Supplier<ArangoHttpClient> client, Duration threshold, int maxQueries, boolean profiling) {
+        this.clientSupplier = client;
+        this.threshold = threshold;
+        this.maxQueries = maxQueries;
+        this.profiling = profiling;
+    }
+
+    public static Builder builder(ArangoDeployment deployment) {
+        return new Builder(() -> ArangoHttpClient.of(deployment));
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        start();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        final ArangoQueryProfile profile = collect(context.getDisplayName());
+        if (!profile.isEmpty()) {
+            logger.info("{}", profile);
+        }
+    }
+
+    /**
+     * Enables slow query tracking on every coordinator and clears slow queries tracked so far
+     */
+    public void start() {
+        final ArangoHttpClient http = client();
+        final Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("enabled", true);
+        properties.put("trackSlowQueries", true);
+        properties.put("trackBindVars", true);
+        properties.put("slowQueryThreshold", threshold.toNanos() / 1_000_000_000.0);
+        properties.put("slowStreamingQueryThreshold", threshold.toNanos() / 1_000_000_000.0);
+        properties.put("maxSlowQueries", maxQueries);
+        final String body = Json.write(properties);
+        for (URI endpoint : http.getEndpoints()) {
+            http.send(endpoint, "PUT", "/_db/_system/_api/query/properties", HttpRequest.BodyPublishers.ofString(body))
+                    .requireSuccess("Query tracking properties");
+            http.send(endpoint, "DELETE", SLOW_QUERIES, HttpRequest.BodyPublishers.noBody())
+                    .requireSuccess("Clear slow queries");
+        }
+    }
+
+    /**
+     * Collects slow queries tracked since {@link #start()}
+     *
+     * @param name of profile, such as test name
+     * @return collected profile
+     */
+    public ArangoQueryProfile collect(String name) {
+        final ArangoHttpClient http = client();
+        final List<ArangoSlowQuery> queries = new ArrayList<>();
+        for (URI endpoint : http.getEndpoints()) {
+            final String body = http.send(endpoint, "GET", SLOW_QUERIES, HttpRequest.BodyPublishers.noBody())
+                    .requireSuccess("Slow queries")
+                    .body();
+            for (Object entry : QueryPlan.list(Json.parse(body))) {
+                queries.add(analyze(http, QueryPlan.map(entry)));
+            }
+        }
+
+        final ArangoQueryProfile profile = new ArangoQueryProfile(name, threshold, queries);
+        profiles.add(profile);
+        return profile;
+    }
+
+    /**
+     * @return profiles of all tests collected so far
+     */
+    public List<ArangoQueryProfile> profiles() {
+        return List.copyOf(profiles);
+    }
+
+    /**
+     * @return profile of latest test
+     */
+    public @Nullable ArangoQueryProfile lastProfile() {
+        return (profiles.isEmpty())
+                ? null
+                : profiles.get(profiles.size() - 1);
+    }
+
+    private ArangoSlowQuery analyze(ArangoHttpClient http, Map<String, Object> entry) {
+        final String database = String.valueOf(entry.getOrDefault("database", "_system"));
+        final String query = String.valueOf(entry.get("query"));
+        final Map<String, Object> bindVars = QueryPlan.map(entry.get("bindVars"));
+        final Object runTime = entry.get("runTime");
+        final Duration duration = Duration.ofNanos((runTime instanceof Number n) ? (long) (n.doubleValue() * 1_000_000_000L) : 0);
+
+        final ArangoHttpClient databaseClient = http.withDatabase(database);
+        QueryPlan plan;
+        try {
+            plan = QueryPlan.explain(databaseClient, query, bindVars);
+        } catch (IllegalStateException e) {
+            // collections of query can be already dropped by test
+            logger.debug("Explain of slow query failed: {}", query, e);
+            return new ArangoSlowQuery(database, query, bindVars, duration, 0, List.of(), List.of(), List.of(), false,
+                    ArangoSlowQuery.NOT_PROFILED, ArangoSlowQuery.NOT_PROFILED, ArangoSlowQuery.NOT_PROFILED,
+                    ArangoSlowQuery.NOT_PROFILED);
+        }
+
+        QueryPlan.Stats stats = null;
+        if (profiling && !plan.modifying) {
+            try {
+                stats = QueryPlan.profile(databaseClient, query, bindVars);
+            } catch (IllegalStateException e) {
+                logger.debug("Profiling of slow query failed: {}", query, e);
+            }
+        }
+
+        return new ArangoSlowQuery(database, query, bindVars, duration, plan.estimatedCost, plan.fullScans, plan.indexes,
+                plan.rules, plan.modifying,
+                (stats == null) ? ArangoSlowQuery.NOT_PROFILED : stats.scannedFull,
+                (stats == null) ? ArangoSlowQuery.NOT_PROFILED : stats.scannedIndex,
+                (stats == null) ? ArangoSlowQuery.NOT_PROFILED : stats.filtered,
+                (stats == null) ? ArangoSlowQuery.NOT_PROFILED : stats.peakMemoryUsage);
+    }
+
+    private ArangoHttpClient client() {
+        if (client == null) {
+            client = clientSupplier.get();
+        }
+        return client;
+    }
+}
@@ -0,0 +1,63 @@
+package io.testcontainers.arangodb.query;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Slow queries captured during single test, slowest first.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoQueryProfile {
+
+    private final String name;
+    private final Duration threshold;
+    private final List<ArangoSlowQuery> queries;
+
+    ArangoQueryProfile(String name, Duration threshold, List<ArangoSlowQuery> queries) {
+        this.name = name;
+        this.threshold = threshold;
+        this.queries = queries.stream()
+                .sorted(Comparator.comparing(ArangoSlowQuery::runTime).reversed())
+                .toList();
+    }
+
+    /**
+     * @return test display name or name given to {@link ArangoQueryCapture#collect(String)}
+     */
+    public String name() {
+        return name;
+    }
+
+    public Duration threshold() {
+        return threshold;
+    }
+
+    public List<ArangoSlowQuery> queries() {
+        return queries;
+    }
+
+    /**
+     * @return slow queries that enumerate collection without index
+     */
+    public List<ArangoSlowQuery> fullScans() {
+        return queries.stream()
+                .filter(ArangoSlowQuery::isFullScan)
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return queries.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder()
+                .append("Slow queries of '").append(name).append("' (threshold ").append(threshold.toMillis()).append(" millis): ")
+                .append(queries.size()).append(", full scans: ").append(fullScans().size());
+        queries.forEach(q -> builder.append("\n  ").append(q));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,167 @@
+package io.testcontainers.arangodb.query;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Slow query entry with its execution plan summary and, for read only queries, runtime statistics of
+ * profiled re-execution.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoSlowQuery {
+
+    static final long NOT_PROFILED = -1;
+
+    private final String database;
+    private final String query;
+    private final Map<String, Object> bindVars;
+    private final Duration runTime;
+    private final double estimatedCost;
+    private final List<String> fullScans;
+    private final List<String> indexes;
+    private final List<String> rules;
+    private final boolean modifying;
+    private final long scannedFull;
+    private final long scannedIndex;
+    private final long filtered;
+    private final long peakMemoryUsage;
+
+    ArangoSlowQuery(String database,
+                    String query,
+                    Map<String, Object> bindVars,
+                    Duration runTime,
+                    double estimatedCost,
+                    List<String> fullScans,
+                    List<String> indexes,
+                    List<String> rules,
+                    boolean modifying,
+                    long scannedFull,
+                    long scannedIndex,
+                    long filtered,
+                    long peakMemoryUsage) {
+        this.database = database;
+        this.query = query;
+        this.bindVars = Map.copyOf(bindVars);
+        this.runTime = runTime;
+        this.estimatedCost = estimatedCost;
+        this.fullScans = List.copyOf(fullScans);
+        this.indexes = List.copyOf(indexes);
+        this.rules = List.copyOf(rules);
+        this.modifying = modifying;
+        this.scannedFull = scannedFull;
+        this.scannedIndex = scannedIndex;
+        this.filtered = filtered;
+        this.peakMemoryUsage = peakMemoryUsage;
+    }
+
+    public String database() {
+        return database;
+    }
+
+    public String query() {
+        return query;
+    }
+
+    public Map<String, Object> bindVars() {
+        return bindVars;
+    }
+
+    /**
+     * @return run time reported by slow query log
+     */
+    public Duration runTime() {
+        return runTime;
+    }
+
+    public double estimatedCost() {
+        return estimatedCost;
+    }
+
+    /**
+     * @return collections enumerated without index in plan
+     */
+    public List<String> fullScans() {
+        return fullScans;
+    }
+
+    /**
+     * @return indexes used by plan as {@code collection.index (type)}
+     */
+    public List<String> indexes() {
+        return indexes;
+    }
+
+    /**
+     * @return optimizer rules applied to plan
+     */
+    public List<String> rules() {
+        return rules;
+    }
+
+    /**
+     * @return true if query modifies data, such queries are not re-executed for profiling
+     */
+    public boolean isModifying() {
+        return modifying;
+    }
+
+    public boolean isFullScan() {
+        return !fullScans.isEmpty();
+    }
+
+    /**
+     * @return true if runtime statistics are available
+     */
+    public boolean isProfiled() {
+        return scannedFull != NOT_PROFILED;
+    }
+
+    /**
+     * @return documents read by full collection scans or -1 when query is not profiled
+     */
+    public long scannedFull() {
+        return scannedFull;
+    }
+
+    /**
+     * @return documents read via indexes or -1 when query is not profiled
+     */
+    public long scannedIndex() {
+        return scannedIndex;
+    }
+
+    /**
+     * @return documents removed by filters or -1 when query is not profiled
+     */
+    public long filtered() {
+        return filtered;
+    }
+
+    /**
+     * @return peak memory usage in bytes or -1 when query is not profiled
+     */
+    public long peakMemoryUsage() {
+        return peakMemoryUsage;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder()
+                .append(runTime.toMillis()).append(" millis [").append(database).append("] ").append(query.replaceAll("\\s+", " ").trim())
+                .append("\n      cost=").append(Math.round(estimatedCost))
+                .append(", fullScans=").append(fullScans)
+                .append(", indexes=").append(indexes);
+        if (isProfiled()) {
+            builder.append(", scannedFull=").append(scannedFull)
+                    .append(", scannedIndex=").append(scannedIndex)
+                    .append(", filtered=").append(filtered)
+                    .append(", peakMemory=").append(peakMemoryUsage);
+        } else if (modifying) {
+            builder.append(", not profiled (modifying)");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,199 @@
+package io.testcontainers.arangodb.query;
+
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Summary of AQL execution plan returned by {@code /_api/explain} and statistics of profiled
+ * execution via {@code /_api/cursor}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class QueryPlan {
+
+    static final class Stats {
+
+        final long scannedFull;
+        final long scannedIndex;
+        final long filtered;
+        final long peakMemoryUsage;
+
+        private Stats(long scannedFull, long scannedIndex, long filtered, long peakMemoryUsage) {
+            this.scannedFull = scannedFull;
+            this.scannedIndex = scannedIndex;
+            this.filtered = filtered;
+            this.peakMemoryUsage = peakMemoryUsage;
+        }
+    }
+
+    private static final Set<String> GRAPH_NODES = Set.of("TraversalNode", "ShortestPathNode", "KShortestPathsNode",
+            "EnumeratePathsNode");
+
+    final double estimatedCost;
+    final List<String> fullScans;
+    final List<String> indexes;
+    final Map<String, List<String>> indexNames;
+    final List<String> rules;
+    final boolean modifying;
+
+    private QueryPlan(double estimatedCost,
+                      List<String> fullScans,
+                      List<String> indexes,
+                      Map<String, List<String>> indexNames,
+                      List<String> rules,
+                      boolean modifying) {
+        this.estimatedCost = estimatedCost;
+        this.fullScans = fullScans;
+        this.indexes = indexes;
+        this.indexNames = indexNames;
+        this.rules = rules;
+        this.modifying = modifying;
+    }
+
+    static QueryPlan explain(ArangoHttpClient client, String query, Map<String, Object> bindVars) {
+        final Map<String, Object> body = new LinkedHashMap<>();
+        body.put("query", query);
+        body.put("bindVars", bindVars);
+        final Map<String, Object> response = client.post("/_api/explain", body)
+                .requireSuccess("Explain query")
+                .json();
+        return of(map(response.get("plan")));
+    }
+
+    /**
+     * Executes query with profiling and returns statistics of whole execution, cursor is deleted
+     * right away when result does not fit first batch
+     */
+    static Stats profile(ArangoHttpClient client, String query, Map<String, Object> bindVars) {
+        final Map<String, Object> body = new LinkedHashMap<>();
+        body.put("query", query);
+        body.put("bindVars", bindVars);
+        body.put("batchSize", 1);
+        body.put("options", Map.of("profile", 1));
+        final Map<String, Object> response = client.post("/_api/cursor", body)
+                .requireSuccess("Profile query")
+                .json();
+        if (Boolean.TRUE.equals(response.get("hasMore")) && response.get("id") != null) {
+            client.delete("/_api/cursor/" + response.get("id"));
+        }
+
+        final Map<String, Object> stats = map(map(response.get("extra")).get("stats"));
+        return new Stats(number(stats.get("scannedFull")), number(stats.get("scannedIndex")), number(stats.get("filtered")),
+                number(stats.get("peakMemoryUsage")));
+    }
+
+    static QueryPlan of(Map<String, Object> plan) {
+        final List<String> fullScans = new ArrayList<>();
+        final List<String> indexes = new ArrayList<>();
+        final Map<String, List<String>> indexNames = new LinkedHashMap<>();
+        for (Object value : list(plan.get("nodes"))) {
+            final Map<String, Object> node = map(value);
+            final String type = String.valueOf(node.get("type"));
+            final String collection = String.valueOf(node.get("collection"));
+            if ("EnumerateCollectionNode".equals(type)) {
+                fullScans.add(collection);
+            } else if ("IndexNode".equals(type)) {
+                // index without condition only gives order for SORT, every document is still read
+                final Object condition = node.get("condition");
+                final boolean sortOnly = condition != null && map(condition).isEmpty();
+                for (Object index : list(node.get("indexes"))) {
+                    if (sortOnly) {
+                        fullScans.add(collection);
+                        indexes.add(describe(collection, map(index)) + " sort only");
+                    } else {
+                        index(indexes, indexNames, collection, map(index));
+                    }
+                }
+            } else if ("JoinNode".equals(type)) {
+                for (Object info : list(node.get("indexInfos"))) {
+                    final Map<String, Object> infoMap = map(info);
+                    index(indexes, indexNames, String.valueOf(infoMap.get("collection")), map(infoMap.get("index")));
+                }
+            } else if (GRAPH_NODES.contains(type)) {
+                graphIndexes(indexes, indexNames, node);
+            }
+        }
+
+        final List<String> rules = new ArrayList<>();
+        list(plan.get("rules")).forEach(rule -> rules.add(String.valueOf(rule)));
+        final Object cost = plan.get("estimatedCost");
+        final boolean modifying = isModification(plan);
+        return new QueryPlan((cost instanceof Number n) ? n.doubleValue() : 0, fullScans, indexes, indexNames, rules, modifying);
+    }
+
+    /**
+     * Taken from plan itself instead of node types, as cluster plans single document operations as
+     * {@code SingleRemoteOperationNode} and there are more modifying nodes across versions
+     */
+    private static boolean isModification(Map<String, Object> plan) {
+        if (Boolean.TRUE.equals(plan.get("isModificationQuery"))) {
+            return true;
+        }
+        return list(plan.get("collections")).stream()
+                .map(collection -> map(collection).get("type"))
+                .anyMatch(type -> type != null && !"read".equals(type));
+    }
+
+    /**
+     * Edge collections of traversal and path search are always read via index, indexes of base
+     * level are used when plan lists them, edge index otherwise
+     */
+    private static void graphIndexes(List<String> indexes, Map<String, List<String>> indexNames, Map<String, Object> node) {
+        final List<?> base = list(map(node.get("indexes")).get("base"));
+        for (Object edgeCollection : list(node.get("edgeCollections"))) {
+            final String collection = String.valueOf(edgeCollection);
+            if (base.isEmpty()) {
+                index(indexes, indexNames, collection, Map.of("name", "edge", "type", "edge"));
+            }
+            for (Object index : base) {
+                final Map<String, Object> indexMap = map(index);
+                final Object indexCollection = indexMap.get("collection");
+                if (indexCollection == null || collection.equals(indexCollection)) {
+                    index(indexes, indexNames, collection, indexMap);
+                }
+            }
+        }
+    }
+
+    private static void index(List<String> indexes, Map<String, List<String>> indexNames, String collection,
+                              Map<String, Object> index) {
+        final String description = describe(collection, index);
+        if (!indexes.contains(description)) {
+            indexes.add(description);
+            indexNames.computeIfAbsent(collection, k -> new ArrayList<>()).add(String.valueOf(index.get("name")));
+        }
+    }
+
+    private static String describe(String collection, Map<String, Object> index) {
+        return collection + "." + index.get("name") + " (" + index.get("type") + ")";
+    }
+
+    @Override
+    public String toString() {
+        return "[cost=" + Math.round(estimatedCost) + ", fullScans=" + fullScans + ", indexes=" + indexes + ", rules=" + rules + ']';
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> map(Object value) {
+        return (value instanceof Map)
+                ? (Map<String, Object>) value
+                : Map.of();
+    }
+
+    static List<?> list(Object value) {
+        return (value instanceof List<?> l)
+                ? l
+                : List.of();
+    }
+
+    static long number(Object value) {
+        return (value instanceof Number n)
+                ? n.longValue()
+                : 0;
+    }
+}
@@ -0,0 +1,194 @@
+package io.testcontainers.arangodb.seed;
+
+import io.testcontainers.arangodb.http.Json;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Synthetic documents with configurable fields, generated on demand while {@link ArangoSeeder}
+ * imports them, so any amount of documents is seeded without being held in memory.
+ * <p>
+ * Generation is deterministic, same seed and configuration always produce same documents. Document
+ * keys are sequence numbers from {@code 0} to {@code count - 1}.
+ *
+ * <pre>
+ * {@code
+ * ArangoSeeder.builder(container).build()
+ *         .seed(ArangoDocumentGenerator.of("users", 1_000_000)
+ *                 .withField("country", 200)
+ *                 .withNumberField("age", 100)
+ *                 .withPayload(256)
+ *                 .toSeed());
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoDocumentGenerator {
+
+    private static final Pattern FIELD_NAME = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
+    private static final char[] PAYLOAD_ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+
+    private static final class Field {
+
+        private final String name;
+        private final int cardinality;
+        private final boolean numeric;
+
+        private Field(String name, int cardinality, boolean numeric) {
+            this.name = name;
+            this.cardinality = cardinality;
+            this.numeric = numeric;
+        }
+    }
+
+    private final String collection;
+    private final long count;
+    private final List<Field> fields = new ArrayList<>();
+    private long seed = 0;
+    private int payload = 0;
+
+    private ArangoDocumentGenerator(String collection, long count) {
+        this.collection = collection;
+        this.count = count;
+    }
+
+    /**
+     * @param collection to generate documents for
+     * @param count      amount of documents
+     * @return generator
+     */
+    public static ArangoDocumentGenerator of(String collection, long count) {
+        if (count < 0)
+            throw new IllegalArgumentException("Documents count can not be negative");
+        return new ArangoDocumentGenerator(Objects.requireNonNull(collection), count);
+    }
+
+    /**
+     * @param seed of random values, 0 by default
+     * @return self
+     */
+    public ArangoDocumentGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * @param name        of string field
+     * @param cardinality amount of distinct values, such as {@code country_0} to
+     *                        {@code country_199} for cardinality 200
+     * @return self
+     */
+    public ArangoDocumentGenerator withField(String name, int cardinality) {
+        return addField(name, cardinality, false);
+    }
+
+    /**
+     * @param name        of numeric field
+     * @param cardinality amount of distinct values, values are from {@code 0} to
+     *                        {@code cardinality - 1}
+     * @return self
+     */
+    public ArangoDocumentGenerator withNumberField(String name, int cardinality) {
+        return addField(name, cardinality, true);
+    }
+
+    /**
+     * @param payload size of random {@code payload} string field, used to reach realistic document
+     *                    sizes, 0 (no field) by default
+     * @return self
+     */
+    public ArangoDocumentGenerator withPayload(int payload) {
+        if (payload < 0)
+            throw new IllegalArgumentException("Payload can not be negative");
+        this.payload = payload;
+        return this;
+    }
+
+    /**
+     * @return seed that generates documents anew each time it is imported
+     */
+    public ArangoSeed toSeed() {
+        final List<Field> seedFields = List.copyOf(fields);
+        final long seedValue = seed;
+        final int seedPayload = payload;
+        return ArangoSeed.of(collection, ArangoSeed.Format.JSONL,
+                () -> new GeneratedInputStream(documents(seedFields, seedValue, seedPayload)));
+    }
+
+    private Supplier<String> documents(List<Field> fields, long seed, int payload) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final StringBuilder builder = new StringBuilder();
+        return new Supplier<>() {
+
+            private long next = 0;
+
+            @Override
+            public String get() {
+                if (next >= count) {
+                    return null;
+                }
+
+                builder.setLength(0);
+                builder.append("{\"_key\":\"").append(next++).append('"');
+                appendFields(builder, fields, random);
+                if (payload > 0) {
+                    builder.append(",\"payload\":\"");
+                    for (int i = 0; i < payload; i++) {
+                        builder.append(PAYLOAD_ALPHABET[random.nextInt(PAYLOAD_ALPHABET.length)]);
+                    }
+                    builder.append('"');
+                }
+                return builder.append('}').toString();
+            }
+        };
+    }
+
+    /**
+     * @return generator with same configuration that is not affected by further changes of this one
+     */
+    ArangoDocumentGenerator copy() {
+        final ArangoDocumentGenerator copy = new ArangoDocumentGenerator(collection, count);
+        copy.fields.addAll(fields);
+        copy.seed = seed;
+        copy.payload = payload;
+        return copy;
+    }
+
+    /**
+     * Appends configured fields to document that is being written, document must be opened
+     * already
+     */
+    void appendFields(StringBuilder builder, SplittableRandom random) {
+        appendFields(builder, fields, random);
+    }
+
+    private static void appendFields(StringBuilder builder, List<Field> fields, SplittableRandom random) {
+        for (Field field : fields) {
+            builder.append(',');
+            Json.write(builder, field.name);
+            builder.append(':');
+            final int value = random.nextInt(field.cardinality);
+            if (field.numeric) {
+                builder.append(value);
+            } else {
+                Json.write(builder, field.name + "_" + value);
+            }
+        }
+    }
+
+    private ArangoDocumentGenerator addField(String name, int cardinality, boolean numeric) {
+        if (!FIELD_NAME.matcher(name).matches() || name.equals("payload"))
+            throw new IllegalArgumentException("Field name '" + name + "' is not valid or is reserved");
+        if (cardinality < 1)
+            throw new IllegalArgumentException("Field cardinality can not be less 1");
+        this.fields.removeIf(f -> f.name.equals(name));
+        this.fields.add(new Field(name, cardinality, numeric));
+        return this;
+    }
+}
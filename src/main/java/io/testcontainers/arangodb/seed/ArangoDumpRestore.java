@@ -0,0 +1,225 @@
+package io.testcontainers.arangodb.seed;
+
+import io.testcontainers.arangodb.cluster.ArangoCluster;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.MountableFile;
+
+/**
+ * Restores <a href="https://docs.arangodb.com/stable/components/tools/arangodump/">arangodump</a>
+ * output directory as test dataset.
+ * <p>
+ * Dump is copied into container (into first coordinator in case of cluster) and restored there by
+ * {@code arangorestore} shipped with ArangoDB image, so documents do not pass through test JVM and
+ * restore runs at server speed with configured amount of threads. Copied dump is removed from
+ * container after restore.
+ *
+ * <pre>
+ * {@code
+ * ArangoRestoreReport report = ArangoDumpRestore.builder(Path.of("fixtures/shop-dump"))
+ *         .withDatabase("shop")
+ *         .withThreads(8)
+ *         .build()
+ *         .restore(cluster);
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoDumpRestore {
+
+    public static final class Builder {
+
+        private final Path dumpDirectory;
+        private String database = SYSTEM_DATABASE;
+        private int threads = 4;
+        private final Map<String, String> arguments = new LinkedHashMap<>();
+
+        private Builder(Path dumpDirectory) {
+            this.dumpDirectory = dumpDirectory;
+        }
+
+        /**
+         * @param database to restore into, created if it does not exist, {@code _system} by default
+         * @return self
+         */
+        public Builder withDatabase(String database) {
+            this.database = Objects.requireNonNull(database);
+            return this;
+        }
+
+        /**
+         * @param threads collections restored in parallel by {@code arangorestore}, 4 by default
+         * @return self
+         */
+        public Builder withThreads(int threads) {
+            if (threads < 1)
+                throw new IllegalArgumentException("Threads can not be less 1");
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * @param name  {@code arangorestore} option without leading dashes, such as
+         *                  {@code include-system-collections}
+         * @param value option value
+         * @return self
+         */
+        public Builder withArgument(String name, Object value) {
+            if (name.startsWith("-") || MANAGED_ARGUMENTS.contains(name) || name.startsWith("server."))
+                throw new IllegalArgumentException("Argument '" + name + "' is managed by restore or is not valid");
+            this.arguments.put(name, String.valueOf(value));
+            return this;
+        }
+
+        public ArangoDumpRestore build() {
+            return new ArangoDumpRestore(dumpDirectory, database, threads, arguments);
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoDumpRestore.class);
+
+    private static final String SYSTEM_DATABASE = "_system";
+    private static final List<String> MANAGED_ARGUMENTS = List.of("input-directory", "threads", "create-database");
+    private static final String CONTAINER_DIRECTORY = "/tmp/arangodump-";
+
+    private final Path dumpDirectory;
+    private final String database;
+    private final int threads;
+    private final Map<String, String> arguments;
+
+    private ArangoDumpRestore(Path dumpDirectory, String database, int threads, Map<String, String> arguments) {
+        this.dumpDirectory = dumpDirectory;
+        this.database = database;
+        this.threads = threads;
+        this.arguments = Map.copyOf(arguments);
+    }
+
+    /**
+     * @param dumpDirectory host directory produced by {@code arangodump --output-directory}
+     * @return builder
+     */
+    public static Builder builder(Path dumpDirectory) {
+        if (!Files.isDirectory(dumpDirectory))
+            throw new IllegalArgumentException("Dump directory " + dumpDirectory + " does not exist");
+        return new Builder(dumpDirectory);
+    }
+
+    /**
+     * @param container started container, local cluster is supported as well
+     * @return restore report
+     * @throws IllegalStateException when container requires authentication, but its password is not
+     *                                   known, such as with random password
+     */
+    public ArangoRestoreReport restore(ArangoContainer container) {
+        return restore(container, container.getUser(), ArangoHttpClient.requirePassword(container));
+    }
+
+    /**
+     * @param cluster started cluster, dump is restored via its first coordinator
+     * @return restore report
+     */
+    public ArangoRestoreReport restore(ArangoCluster cluster) {
+        return restore(cluster.getCoordinator(0), cluster.getUser(), ArangoHttpClient.requirePassword(cluster));
+    }
+
+    private ArangoRestoreReport restore(GenericContainer<?> container, String user, @Nullable String password) {
+        if (!container.isRunning())
+            throw new IllegalStateException("Container must be started before restore");
+
+        final long bytes = size(dumpDirectory);
+        final String directory = CONTAINER_DIRECTORY + UUID.randomUUID().toString().replace("-", "");
+
+        final long copyStarted = System.nanoTime();
+        container.copyFileToContainer(MountableFile.forHostPath(dumpDirectory), directory);
+        final Duration copy = Duration.ofNanos(System.nanoTime() - copyStarted);
+
+        final long restoreStarted = System.nanoTime();
+        try {
+            final Container.ExecResult result = container.execInContainer(command(directory, user, password));
+            if (result.getExitCode() != 0) {
+                throw new IllegalStateException("arangorestore of " + dumpDirectory + " failed with exit code "
+                        + result.getExitCode() + ", output: " + result.getStdout() + result.getStderr());
+            }
+
+            final ArangoRestoreReport report = new ArangoRestoreReport(database, bytes, copy,
+                    Duration.ofNanos(System.nanoTime() - restoreStarted), result.getStdout());
+            logger.info("{}", report);
+            return report;
+        } catch (IOException e) {
+            throw new UncheckedIOException("arangorestore of " + dumpDirectory + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("arangorestore of " + dumpDirectory + " interrupted", e);
+        } finally {
+            removeQuietly(container, directory);
+        }
+    }
+
+    /**
+     * @param password null only when authentication is disabled
+     */
+    private String[] command(String directory, String user, @Nullable String password) {
+        final List<String> command = new ArrayList<>();
+        command.add("arangorestore");
+        command.add("--server.endpoint=tcp://127.0.0.1:" + ArangoContainer.PORT);
+        if (password == null) {
+            command.add("--server.authentication=false");
+        } else {
+            command.add("--server.username=" + user);
+            command.add("--server.password=" + password);
+        }
+        command.add("--server.database=" + database);
+        if (!SYSTEM_DATABASE.equals(database)) {
+            command.add("--create-database=true");
+        }
+        command.add("--input-directory=" + directory);
+        command.add("--threads=" + threads);
+        arguments.forEach((name, value) -> command.add("--" + name + "=" + value));
+        return command.toArray(new String[0]);
+    }
+
+    private static void removeQuietly(GenericContainer<?> container, String directory) {
+        try {
+            container.execInContainer("rm", "-rf", directory);
+        } catch (IOException e) {
+            logger.debug("Can't remove restored dump {} from container", directory, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long size(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .mapToLong(file -> {
+                        try {
+                            return Files.size(file);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .sum();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read dump directory " + directory, e);
+        }
+    }
+}
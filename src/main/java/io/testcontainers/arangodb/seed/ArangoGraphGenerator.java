@@ -0,0 +1,199 @@
+package io.testcontainers.arangodb.seed;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Synthetic graph with power-law (Zipf) vertex popularity: few hub vertices have most of edges
+ * while most vertices have few, like social or web graphs that traversals are usually tuned for.
+ * <p>
+ * Vertices and edges are generated on demand while {@link ArangoSeeder} imports them, so graph of
+ * any size is seeded without being held in memory. Generation is deterministic, same seed and
+ * configuration always produce same graph. Vertex keys are sequence numbers from {@code 0} to
+ * {@code vertices - 1}, vertex with lower key is more popular.
+ *
+ * <pre>
+ * {@code
+ * ArangoSeeder.builder(cluster).build()
+ *         .seed(ArangoGraphGenerator.powerLaw("people", 1_000_000, "knows", 10_000_000).withSeed(42).toSeeds());
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoGraphGenerator {
+
+    private final String vertexCollection;
+    private final long vertices;
+    private final String edgeCollection;
+    private final long edges;
+    private final ArangoDocumentGenerator vertexGenerator;
+    private final ArangoDocumentGenerator edgeFields;
+    private long seed = 0;
+    private double skew = 1.0;
+
+    private ArangoGraphGenerator(String vertexCollection, long vertices, String edgeCollection, long edges) {
+        this.vertexCollection = vertexCollection;
+        this.vertices = vertices;
+        this.edgeCollection = edgeCollection;
+        this.edges = edges;
+        this.vertexGenerator = ArangoDocumentGenerator.of(vertexCollection, vertices);
+        this.edgeFields = ArangoDocumentGenerator.of(edgeCollection, edges);
+    }
+
+    /**
+     * @param vertexCollection document collection for vertices
+     * @param vertices         amount of vertices
+     * @param edgeCollection   edge collection
+     * @param edges            amount of edges
+     * @return generator
+     */
+    public static ArangoGraphGenerator powerLaw(String vertexCollection, long vertices, String edgeCollection, long edges) {
+        if (vertices < 1)
+            throw new IllegalArgumentException("Vertices can not be less 1");
+        if (edges < 0)
+            throw new IllegalArgumentException("Edges count can not be negative");
+        if (vertexCollection.equals(edgeCollection))
+            throw new IllegalArgumentException("Vertex and edge collections must be different");
+        return new ArangoGraphGenerator(Objects.requireNonNull(vertexCollection), vertices,
+                Objects.requireNonNull(edgeCollection), edges);
+    }
+
+    /**
+     * @param seed of random values, 0 by default
+     * @return self
+     */
+    public ArangoGraphGenerator withSeed(long seed) {
+        this.seed = seed;
+        this.vertexGenerator.withSeed(seed);
+        return this;
+    }
+
+    /**
+     * @param skew Zipf exponent of vertex popularity, 1.0 by default, higher values concentrate
+     *                 more edges on hubs, 0 makes graph uniform random
+     * @return self
+     */
+    public ArangoGraphGenerator withSkew(double skew) {
+        if (skew < 0 || Double.isNaN(skew) || Double.isInfinite(skew))
+            throw new IllegalArgumentException("Skew must be finite and not negative");
+        this.skew = skew;
+        return this;
+    }
+
+    /**
+     * @param name        of vertex string field
+     * @param cardinality amount of distinct values
+     * @return self
+     * @see ArangoDocumentGenerator#withField(String, int)
+     */
+    public ArangoGraphGenerator withVertexField(String name, int cardinality) {
+        vertexGenerator.withField(name, cardinality);
+        return this;
+    }
+
+    /**
+     * @param name        of vertex numeric field
+     * @param cardinality amount of distinct values
+     * @return self
+     * @see ArangoDocumentGenerator#withNumberField(String, int)
+     */
+    public ArangoGraphGenerator withVertexNumberField(String name, int cardinality) {
+        vertexGenerator.withNumberField(name, cardinality);
+        return this;
+    }
+
+    /**
+     * @param payload size of random vertex payload field
+     * @return self
+     * @see ArangoDocumentGenerator#withPayload(int)
+     */
+    public ArangoGraphGenerator withVertexPayload(int payload) {
+        vertexGenerator.withPayload(payload);
+        return this;
+    }
+
+    /**
+     * @param name        of edge string field
+     * @param cardinality amount of distinct values
+     * @return self
+     */
+    public ArangoGraphGenerator withEdgeField(String name, int cardinality) {
+        edgeFields.withField(name, cardinality);
+        return this;
+    }
+
+    /**
+     * @param name        of edge numeric field, such as {@code weight}
+     * @param cardinality amount of distinct values
+     * @return self
+     */
+    public ArangoGraphGenerator withEdgeNumberField(String name, int cardinality) {
+        edgeFields.withNumberField(name, cardinality);
+        return this;
+    }
+
+    /**
+     * @return vertex seed and edge seed, both generate data anew each time they are imported
+     */
+    public List<ArangoSeed> toSeeds() {
+        return List.of(vertexGenerator.copy().toSeed(), toEdgeSeed());
+    }
+
+    private ArangoSeed toEdgeSeed() {
+        final ArangoDocumentGenerator fields = edgeFields.copy();
+        final long edgeSeed = seed;
+        final double edgeSkew = skew;
+        return ArangoSeed.of(edgeCollection, ArangoSeed.Format.JSONL,
+                () -> new GeneratedInputStream(edges(fields, edgeSeed, edgeSkew)))
+                .asEdges();
+    }
+
+    private Supplier<String> edges(ArangoDocumentGenerator fields, long seed, double skew) {
+        // edges use own random sequence, so vertex fields do not change graph structure
+        final SplittableRandom random = new SplittableRandom(seed ^ 0x9E3779B97F4A7C15L);
+        final StringBuilder builder = new StringBuilder();
+        final String prefix = vertexCollection + "/";
+        return new Supplier<>() {
+
+            private long next = 0;
+
+            @Override
+            public String get() {
+                if (next >= edges) {
+                    return null;
+                }
+
+                final long from = sample(random, vertices, skew);
+                long to = sample(random, vertices, skew);
+                if (to == from && vertices > 1) {
+                    to = (to + 1) % vertices;
+                }
+
+                builder.setLength(0);
+                builder.append("{\"_key\":\"").append(next++)
+                        .append("\",\"_from\":\"").append(prefix).append(from)
+                        .append("\",\"_to\":\"").append(prefix).append(to).append('"');
+                fields.appendFields(builder, random);
+                return builder.append('}').toString();
+            }
+        };
+    }
+
+    /**
+     * Inverse transform of continuous Zipf distribution over ranks {@code [1, n + 1)}, constant time
+     * and memory per sample unlike table based samplers
+     *
+     * @return vertex from {@code 0} to {@code n - 1}, lower vertex is more likely
+     */
+    static long sample(SplittableRandom random, long n, double skew) {
+        final double u = random.nextDouble();
+        final double x = (Math.abs(skew - 1.0) < 1e-9)
+                ? Math.pow(n + 1.0, u)
+                : Math.pow((Math.pow(n + 1.0, 1.0 - skew) - 1.0) * u + 1.0, 1.0 / (1.0 - skew));
+        return Math.min(n - 1, Math.max(0, (long) x - 1));
+    }
+}
@@ -0,0 +1,77 @@
+package io.testcontainers.arangodb.seed;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Result of {@link ArangoDumpRestore}: dump size, time to copy dump into container and time of
+ * {@code arangorestore} itself.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoRestoreReport {
+
+    private final String database;
+    private final long bytes;
+    private final Duration copy;
+    private final Duration restore;
+    private final String output;
+
+    ArangoRestoreReport(String database, long bytes, Duration copy, Duration restore, String output) {
+        this.database = database;
+        this.bytes = bytes;
+        this.copy = copy;
+        this.restore = restore;
+        this.output = output;
+    }
+
+    public String database() {
+        return database;
+    }
+
+    /**
+     * @return size of dump directory on host, compressed size for compressed dumps
+     */
+    public long bytes() {
+        return bytes;
+    }
+
+    /**
+     * @return time to copy dump into container
+     */
+    public Duration copy() {
+        return copy;
+    }
+
+    /**
+     * @return time of {@code arangorestore} run
+     */
+    public Duration restore() {
+        return restore;
+    }
+
+    public Duration total() {
+        return copy.plus(restore);
+    }
+
+    /**
+     * @return dump megabytes restored per second, copy time excluded
+     */
+    public double megabytesPerSecond() {
+        return bytes * 1_000_000_000.0 / Math.max(1, restore.toNanos()) / (1024 * 1024);
+    }
+
+    /**
+     * @return {@code arangorestore} output
+     */
+    public String output() {
+        return output;
+    }
+
+    @Override
+    public String toString() {
+        return "Restored " + bytes + " bytes into database " + database + " in " + restore.toMillis() + " millis ("
+                + String.format(Locale.ROOT, "%.1f", megabytesPerSecond()) + " MB/s), copy took " + copy.toMillis() + " millis";
+    }
+}
@@ -0,0 +1,136 @@
+package io.testcontainers.arangodb.seed;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Source of documents for single collection, read lazily by {@link ArangoSeeder} so files of any
+ * size are streamed and never loaded in memory as whole.
+ * <p>
+ * Files with {@code .gz} extension are decompressed on the fly.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoSeed {
+
+    public enum Format {
+
+        /**
+         * One JSON document per line (also known as NDJSON)
+         */
+        JSONL,
+        /**
+         * Single JSON array of documents, may be pretty printed
+         */
+        JSON_ARRAY
+    }
+
+    @FunctionalInterface
+    public interface StreamSupplier {
+
+        InputStream open() throws IOException;
+    }
+
+    private final String collection;
+    private final Format format;
+    private final StreamSupplier supplier;
+    private final String description;
+    private final boolean edges;
+
+    private ArangoSeed(String collection, Format format, StreamSupplier supplier, String description, boolean edges) {
+        if (collection.isEmpty())
+            throw new IllegalArgumentException("Collection name can not be empty");
+        this.collection = collection;
+        this.format = format;
+        this.supplier = supplier;
+        this.description = description;
+        this.edges = edges;
+    }
+
+    public static ArangoSeed jsonl(String collection, Path file) {
+        return of(collection, Format.JSONL, file);
+    }
+
+    /**
+     * @param collection to import documents into
+     * @param stream     to read documents from, stream is closed after import
+     * @return seed that can be imported only once
+     */
+    public static ArangoSeed jsonl(String collection, InputStream stream) {
+        return of(collection, Format.JSONL, stream);
+    }
+
+    public static ArangoSeed jsonArray(String collection, Path file) {
+        return of(collection, Format.JSON_ARRAY, file);
+    }
+
+    /**
+     * @param collection to import documents into
+     * @param stream     to read documents from, stream is closed after import
+     * @return seed that can be imported only once
+     */
+    public static ArangoSeed jsonArray(String collection, InputStream stream) {
+        return of(collection, Format.JSON_ARRAY, stream);
+    }
+
+    public static ArangoSeed of(String collection, Format format, Path file) {
+        Objects.requireNonNull(file);
+        final StreamSupplier supplier = () -> {
+            final InputStream stream = new BufferedInputStream(Files.newInputStream(file));
+            return (file.getFileName().toString().endsWith(".gz"))
+                    ? new GZIPInputStream(stream)
+                    : stream;
+        };
+        return new ArangoSeed(collection, format, supplier, file.toString(), false);
+    }
+
+    public static ArangoSeed of(String collection, Format format, InputStream stream) {
+        Objects.requireNonNull(stream);
+        return new ArangoSeed(collection, format, () -> stream, "stream", false);
+    }
+
+    /**
+     * @param collection to import documents into
+     * @param format     of documents
+     * @param supplier   opens new stream for each import
+     * @return seed
+     */
+    public static ArangoSeed of(String collection, Format format, StreamSupplier supplier) {
+        return new ArangoSeed(collection, format, Objects.requireNonNull(supplier), "supplier", false);
+    }
+
+    /**
+     * @return seed that creates edge collection if it does not exist, documents must have
+     *             {@code _from} and {@code _to}
+     */
+    public ArangoSeed asEdges() {
+        return new ArangoSeed(collection, format, supplier, description, true);
+    }
+
+    public String collection() {
+        return collection;
+    }
+
+    public Format format() {
+        return format;
+    }
+
+    public boolean isEdges() {
+        return edges;
+    }
+
+    InputStream open() throws IOException {
+        return supplier.open();
+    }
+
+    @Override
+    public String toString() {
+        return "[collection=" + collection + ", format=" + format + ", source=" + description + ']';
+    }
+}
@@ -0,0 +1,151 @@
+package io.testcontainers.arangodb.seed;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Result of {@link ArangoSeeder#seed(List)}: imported documents, import errors and throughput per
+ * collection and in total.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoSeedReport {
+
+    public static final class Collection {
+
+        private final String name;
+        private final long documents;
+        private final long created;
+        private final long errors;
+        private final long batches;
+        private final long bytes;
+        private final Duration duration;
+
+        Collection(String name, long documents, long created, long errors, long batches, long bytes, Duration duration) {
+            this.name = name;
+            this.documents = documents;
+            this.created = created;
+            this.errors = errors;
+            this.batches = batches;
+            this.bytes = bytes;
+            this.duration = duration;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /**
+         * @return documents read from source
+         */
+        public long documents() {
+            return documents;
+        }
+
+        /**
+         * @return documents created by server
+         */
+        public long created() {
+            return created;
+        }
+
+        /**
+         * @return documents rejected by server, such as duplicate keys or invalid documents
+         */
+        public long errors() {
+            return errors;
+        }
+
+        public long batches() {
+            return batches;
+        }
+
+        /**
+         * @return bytes of documents sent to server
+         */
+        public long bytes() {
+            return bytes;
+        }
+
+        public Duration duration() {
+            return duration;
+        }
+
+        public double documentsPerSecond() {
+            return ArangoSeedReport.perSecond(documents, duration);
+        }
+
+        @Override
+        public String toString() {
+            return name + " [documents=" + documents + ", created=" + created + ", errors=" + errors + ", batches=" + batches
+                    + ", millis=" + duration.toMillis() + ", docs/s=" + Math.round(documentsPerSecond()) + ']';
+        }
+    }
+
+    private final List<Collection> collections;
+    private final Duration duration;
+
+    ArangoSeedReport(List<Collection> collections, Duration duration) {
+        this.collections = List.copyOf(collections);
+        this.duration = duration;
+    }
+
+    public List<Collection> collections() {
+        return collections;
+    }
+
+    public Optional<Collection> collection(String name) {
+        return collections.stream()
+                .filter(c -> c.name().equals(name))
+                .findFirst();
+    }
+
+    /**
+     * @return wall time of whole seeding including index preloading
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    public long documents() {
+        return collections.stream().mapToLong(Collection::documents).sum();
+    }
+
+    public long created() {
+        return collections.stream().mapToLong(Collection::created).sum();
+    }
+
+    public long errors() {
+        return collections.stream().mapToLong(Collection::errors).sum();
+    }
+
+    public long bytes() {
+        return collections.stream().mapToLong(Collection::bytes).sum();
+    }
+
+    public double documentsPerSecond() {
+        return perSecond(documents(), duration);
+    }
+
+    public double megabytesPerSecond() {
+        return perSecond(bytes(), duration) / (1024 * 1024);
+    }
+
+    private static double perSecond(long amount, Duration duration) {
+        final long nanos = Math.max(1, duration.toNanos());
+        return amount * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder()
+                .append("Seeded ").append(documents()).append(" documents (").append(errors()).append(" errors) in ")
+                .append(duration.toMillis()).append(" millis, ").append(Math.round(documentsPerSecond())).append(" docs/s, ")
+                .append(String.format(Locale.ROOT, "%.1f", megabytesPerSecond())).append(" MB/s");
+        collections.forEach(c -> builder.append("\n  ").append(c));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,377 @@
+package io.testcontainers.arangodb.seed;
+
+import io.testcontainers.arangodb.containers.ArangoDeployment;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import io.testcontainers.arangodb.util.ArangoExecutors;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bulk loads fixture data via <a href=
+ * "https://docs.arangodb.com/stable/develop/http-api/import/">{@code /_api/import}</a> instead of
+ * per document requests.
+ * <p>
+ * Each {@link ArangoSeed} is streamed in batches limited by document count and size, only
+ * configured amount of batches per collection is in flight at once, so memory is bounded
+ * regardless of source size. Collections are imported in parallel, batches are sent round-robin to
+ * all endpoints of client (all coordinators in case of cluster). Missing collections are created,
+ * indexes can be loaded into memory after import so first queries do not pay for cold caches.
+ *
+ * <pre>
+ * {@code
+ * ArangoSeedReport report = ArangoSeeder.builder(cluster)
+ *         .withIndexPreload()
+ *         .build()
+ *         .seed(ArangoSeed.jsonl("users", Path.of("users.jsonl.gz")),
+ *                 ArangoSeed.jsonArray("follows", Path.of("follows.json")).asEdges());
+ * }
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoSeeder {
+
+    public static final class Builder {
+
+        private final ArangoHttpClient client;
+        private String database;
+        private int batchSize = 5_000;
+        private int batchBytes = 4 * 1024 * 1024;
+        private int concurrency = 4;
+        private int parallelism = 4;
+        private Duration timeout = Duration.ofMinutes(2);
+        private boolean indexPreload = false;
+        private boolean ignoreErrors = false;
+
+        private Builder(ArangoHttpClient client) {
+            this.client = client;
+        }
+
+        /**
+         * @param database existing database to seed, {@code _system} by default
+         * @return self
+         */
+        public Builder withDatabase(String database) {
+            this.database = Objects.requireNonNull(database);
+            return this;
+        }
+
+        /**
+         * @param batchSize maximal documents per import request, 5000 by default
+         * @return self
+         */
+        public Builder withBatchSize(int batchSize) {
+            if (batchSize < 1)
+                throw new IllegalArgumentException("Batch size can not be less 1");
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param batchBytes approximate maximal import request size, 4MB by default, single document
+         *                       larger than it is sent as its own batch
+         * @return self
+         */
+        public Builder withBatchBytes(int batchBytes) {
+            if (batchBytes < 1024)
+                throw new IllegalArgumentException("Batch bytes can not be less 1024");
+            this.batchBytes = batchBytes;
+            return this;
+        }
+
+        /**
+         * @param concurrency import requests in flight per collection, 4 by default
+         * @return self
+         */
+        public Builder withConcurrency(int concurrency) {
+            if (concurrency < 1)
+                throw new IllegalArgumentException("Concurrency can not be less 1");
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * @param parallelism collections imported at once, 4 by default
+         * @return self
+         */
+        public Builder withParallelism(int parallelism) {
+            if (parallelism < 1)
+                throw new IllegalArgumentException("Parallelism can not be less 1");
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param timeout per import request timeout, 2 minutes by default
+         * @return self
+         */
+        public Builder withTimeout(Duration timeout) {
+            this.timeout = Objects.requireNonNull(timeout);
+            return this;
+        }
+
+        /**
+         * Loads indexes of seeded collections into memory after import
+         *
+         * @return self
+         */
+        public Builder withIndexPreload() {
+            this.indexPreload = true;
+            return this;
+        }
+
+        /**
+         * Documents rejected by server are only counted in report, by default seeding fails when any
+         * document is rejected
+         *
+         * @return self
+         */
+        public Builder withIgnoreErrors() {
+            this.ignoreErrors = true;
+            return this;
+        }
+
+        public ArangoSeeder build() {
+            final ArangoHttpClient seedClient = (database == null)
+                    ? client.withTimeout(timeout)
+                    : client.withDatabase(database).withTimeout(timeout);
+            return new ArangoSeeder(seedClient, batchSize, batchBytes, concurrency, parallelism, indexPreload, ignoreErrors);
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoSeeder.class);
+
+    private static final int READ_BUFFER = 64 * 1024;
+
+    private final ArangoHttpClient client;
+    private final int batchSize;
+    private final int batchBytes;
+    private final int concurrency;
+    private final int parallelism;
+    private final boolean indexPreload;
+    private final boolean ignoreErrors;
+
+    private ArangoSeeder(ArangoHttpClient client,
+                         int batchSize,
+                         int batchBytes,
+                         int concurrency,
+                         int parallelism,
+                         boolean indexPreload,
+                         boolean ignoreErrors) {
+        this.client = client;
+        this.batchSize = batchSize;
+        this.batchBytes = batchBytes;
+        this.concurrency = concurrency;
+        this.parallelism = parallelism;
+        this.indexPreload = indexPreload;
+        this.ignoreErrors = ignoreErrors;
+    }
+
+    public static Builder builder(ArangoDeployment deployment) {
+        return new Builder(ArangoHttpClient.of(deployment));
+    }
+
+    public static Builder builder(ArangoHttpClient client) {
+        return new Builder(client);
+    }
+
+    public ArangoSeedReport seed(ArangoSeed... seeds) {
+        return seed(Arrays.asList(seeds));
+    }
+
+    /**
+     * @param seeds to import, each collection must appear once
+     * @return import report
+     * @throws IllegalStateException when import request fails or server rejects documents (unless
+     *                                   errors are ignored)
+     * @throws UncheckedIOException  when source can not be read
+     */
+    public ArangoSeedReport seed(List<ArangoSeed> seeds) {
+        if (seeds.stream().map(ArangoSeed::collection).distinct().count() != seeds.size())
+            throw new IllegalArgumentException("Each collection can be seeded only once per seed call");
+
+        final long started = System.nanoTime();
+        final Semaphore collectionPermits = new Semaphore(parallelism);
+        final ExecutorService executor = ArangoExecutors.newThreadPerTaskExecutor("arangodb-seeder");
+        try {
+            final List<Future<ArangoSeedReport.Collection>> futures = new ArrayList<>();
+            for (ArangoSeed seed : seeds) {
+                futures.add(executor.submit(() -> {
+                    collectionPermits.acquire();
+                    try {
+                        return importCollection(seed, executor);
+                    } finally {
+                        collectionPermits.release();
+                    }
+                }));
+            }
+
+            final List<ArangoSeedReport.Collection> collections = new ArrayList<>();
+            for (Future<ArangoSeedReport.Collection> future : futures) {
+                collections.add(await(future));
+            }
+
+            if (indexPreload) {
+                final List<Future<?>> preloads = new ArrayList<>();
+                for (ArangoSeed seed : seeds) {
+                    preloads.add(executor.submit(() -> client.put("/_api/collection/" + ArangoHttpClient.encode(seed.collection())
+                            + "/loadIndexesIntoMemory", null)
+                            .requireSuccess("Collection '" + seed.collection() + "' index preload")));
+                }
+                for (Future<?> preload : preloads) {
+                    await(preload);
+                }
+            }
+
+            final ArangoSeedReport report = new ArangoSeedReport(collections, Duration.ofNanos(System.nanoTime() - started));
+            logger.info("{}", report);
+            if (!ignoreErrors && report.errors() > 0) {
+                throw new IllegalStateException("Server rejected documents during seeding: " + report);
+            }
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ArangoSeedReport.Collection importCollection(ArangoSeed seed, ExecutorService executor) throws InterruptedException {
+        createCollection(seed);
+
+        final long started = System.nanoTime();
+        final String path = "/_api/import?type=documents&collection=" + ArangoHttpClient.encode(seed.collection());
+        final Semaphore inFlight = new Semaphore(concurrency);
+        final AtomicLong created = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        long documents = 0;
+        long batches = 0;
+        long bytes = 0;
+        try (JsonDocumentReader reader = JsonDocumentReader.of(seed.format(),
+                new BufferedReader(new InputStreamReader(seed.open(), StandardCharsets.UTF_8), READ_BUFFER))) {
+            final StringBuilder batch = new StringBuilder();
+            int batchDocuments = 0;
+            String document;
+            while (failure.get() == null && (document = reader.next()) != null) {
+                if (batchDocuments > 0) {
+                    batch.append('\n');
+                }
+                batch.append(document);
+                batchDocuments++;
+                documents++;
+
+                if (batchDocuments >= batchSize || batch.length() >= batchBytes) {
+                    bytes += submitBatch(path, batch, inFlight, created, errors, failure, executor);
+                    batches++;
+                    batchDocuments = 0;
+                }
+            }
+
+            if (batchDocuments > 0 && failure.get() == null) {
+                bytes += submitBatch(path, batch, inFlight, created, errors, failure, executor);
+                batches++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read seed " + seed, e);
+        } finally {
+            // all permits are available again only when every batch in flight is completed
+            inFlight.acquire(concurrency);
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        final ArangoSeedReport.Collection result = new ArangoSeedReport.Collection(seed.collection(), documents, created.get(),
+                errors.get(), batches, bytes, Duration.ofNanos(System.nanoTime() - started));
+        logger.debug("Seeded collection {}", result);
+        return result;
+    }
+
+    /**
+     * Blocks until one of in flight batches completes when limit is reached, so reader never gets
+     * ahead of server by more than concurrency batches
+     */
+    private long submitBatch(String path,
+                             StringBuilder batch,
+                             Semaphore inFlight,
+                             AtomicLong created,
+                             AtomicLong errors,
+                             AtomicReference<RuntimeException> failure,
+                             ExecutorService executor)
+            throws InterruptedException {
+        final byte[] body = batch.toString().getBytes(StandardCharsets.UTF_8);
+        batch.setLength(0);
+
+        inFlight.acquire();
+        try {
+            executor.execute(() -> {
+                try {
+                    final Map<String, Object> result = client.send("POST", path, HttpRequest.BodyPublishers.ofByteArray(body))
+                            .requireSuccess("Import into " + path)
+                            .json();
+                    created.addAndGet(asLong(result.get("created")));
+                    errors.addAndGet(asLong(result.get("errors")));
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+        return body.length;
+    }
+
+    private void createCollection(ArangoSeed seed) {
+        final ArangoHttpClient.Response response = client.post("/_api/collection", Map.of(
+                "name", seed.collection(),
+                "type", (seed.isEdges()) ? 3 : 2));
+        if (!response.isSuccess() && response.status() != 409) {
+            response.requireSuccess("Collection '" + seed.collection() + "' creation");
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Seeding interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Seeding failed", e.getCause());
+        }
+    }
+
+    private static long asLong(@Nullable Object value) {
+        return (value instanceof Number number)
+                ? number.longValue()
+                : 0;
+    }
+
+}
@@ -0,0 +1,67 @@
+package io.testcontainers.arangodb.seed;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * JSONL stream that produces documents on demand, only current document is kept in memory.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+final class GeneratedInputStream extends InputStream {
+
+    private final Supplier<String> documents;
+    private byte[] current = new byte[0];
+    private int position = 0;
+    private boolean finished = false;
+
+    /**
+     * @param documents returns next document without line break or null when there are no more
+     */
+    GeneratedInputStream(Supplier<String> documents) {
+        this.documents = documents;
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return current[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+
+        int read = 0;
+        while (read < length && fill()) {
+            final int chunk = Math.min(length - read, current.length - position);
+            System.arraycopy(current, position, buffer, offset + read, chunk);
+            position += chunk;
+            read += chunk;
+        }
+        return (read == 0) ? -1 : read;
+    }
+
+    private boolean fill() {
+        while (position == current.length) {
+            if (finished) {
+                return false;
+            }
+
+            final String document = documents.get();
+            if (document == null) {
+                finished = true;
+                return false;
+            }
+            current = (document + "\n").getBytes(StandardCharsets.UTF_8);
+            position = 0;
+        }
+        return true;
+    }
+}
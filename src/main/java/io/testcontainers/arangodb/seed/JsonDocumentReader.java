@@ -0,0 +1,156 @@
+package io.testcontainers.arangodb.seed;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads documents one by one as raw JSON text without parsing them, each document is returned as
+ * single line so it can be sent as is to {@code /_api/import?type=documents}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+abstract class JsonDocumentReader implements Closeable {
+
+    private final BufferedReader reader;
+
+    private JsonDocumentReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static JsonDocumentReader of(ArangoSeed.Format format, BufferedReader reader) {
+        return switch (format) {
+            case JSONL -> new Lines(reader);
+            case JSON_ARRAY -> new Array(reader);
+        };
+    }
+
+    /**
+     * @return next document or null when there are no more documents
+     * @throws IOException on read failure or malformed input
+     */
+    abstract @Nullable String next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static final class Lines extends JsonDocumentReader {
+
+        private final BufferedReader reader;
+
+        private Lines(BufferedReader reader) {
+            super(reader);
+            this.reader = reader;
+        }
+
+        @Override
+        @Nullable
+        String next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String document = line.strip();
+                if (!document.isEmpty()) {
+                    return document;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Splits top level array into elements by tracking nesting and strings, raw line breaks can
+     * occur only outside of strings in valid JSON, so they are replaced with spaces
+     */
+    private static final class Array extends JsonDocumentReader {
+
+        private final BufferedReader reader;
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean started = false;
+        private boolean finished = false;
+        private int pending = -1;
+
+        private Array(BufferedReader reader) {
+            super(reader);
+            this.reader = reader;
+        }
+
+        @Override
+        @Nullable
+        String next() throws IOException {
+            if (finished) {
+                return null;
+            }
+
+            if (!started) {
+                started = true;
+                if (readNonWhitespace() != '[') {
+                    throw new IOException("Expected JSON array start");
+                }
+                pending = readNonWhitespace();
+                if (pending == ']') {
+                    finished = true;
+                    return null;
+                }
+            }
+
+            buffer.setLength(0);
+            int depth = 0;
+            boolean inString = false;
+            boolean escaped = false;
+            while (true) {
+                final int c = read();
+                if (c == -1) {
+                    throw new IOException("Unexpected end of JSON array");
+                }
+
+                if (inString) {
+                    buffer.append((char) c);
+                    if (escaped) {
+                        escaped = false;
+                    } else if (c == '\\') {
+                        escaped = true;
+                    } else if (c == '"') {
+                        inString = false;
+                    }
+                } else if (depth == 0 && (c == ',' || c == ']')) {
+                    finished = (c == ']');
+                    final String document = buffer.toString().strip();
+                    if (document.isEmpty()) {
+                        throw new IOException("Empty JSON array element");
+                    }
+                    return document;
+                } else {
+                    if (c == '"') {
+                        inString = true;
+                    } else if (c == '{' || c == '[') {
+                        depth++;
+                    } else if (c == '}' || c == ']') {
+                        depth--;
+                    }
+                    buffer.append((c == '\n' || c == '\r') ? ' ' : (char) c);
+                }
+            }
+        }
+
+        private int read() throws IOException {
+            if (pending != -1) {
+                final int c = pending;
+                pending = -1;
+                return c;
+            }
+            return reader.read();
+        }
+
+        private int readNonWhitespace() throws IOException {
+            int c;
+            do {
+                c = reader.read();
+            } while (c != -1 && Character.isWhitespace(c));
+            return c;
+        }
+    }
+}
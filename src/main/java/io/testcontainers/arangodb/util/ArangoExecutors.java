@@ -0,0 +1,112 @@
+package io.testcontainers.arangodb.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Executors for blocking container operations that must not occupy
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()} threads.
+ * <p>
+ * Module targets Java 17, so virtual threads are used when running on Java 21+ and daemon platform
+ * threads otherwise.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoExecutors {
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            // Thread.ofVirtual().name(prefix, 0).factory() is available since Java 21
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+            // virtual threads are preview feature in Java 19 & 20 and fail unless enabled
+            builderFactory.invoke(builderName.invoke(ofVirtual.invoke(null), "probe-", 0L));
+        } catch (Exception | LinkageError e) {
+            ofVirtual = null;
+        }
+
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private ArangoExecutors() {}
+
+    /**
+     * @return true when virtual threads are available in current JVM
+     */
+    public static boolean isVirtualThreadsAvailable() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * @param name prefix for thread names
+     * @return virtual thread factory when available or else daemon platform thread factory
+     */
+    public static ThreadFactory newThreadFactory(String name) {
+        final ThreadFactory virtualFactory = virtualFactory(name);
+        if (virtualFactory != null) {
+            return virtualFactory;
+        }
+
+        return platformFactory(name);
+    }
+
+    /**
+     * @param name prefix for thread names
+     * @return new executor that starts new virtual thread per task when available or else daemon
+     *             platform thread per task (idle platform threads are reused)
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String name) {
+        final ThreadFactory virtualFactory = virtualFactory(name);
+        if (virtualFactory != null) {
+            try {
+                return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, virtualFactory);
+            } catch (ReflectiveOperationException e) {
+                // fallback to platform threads
+            }
+        }
+
+        return Executors.newCachedThreadPool(platformFactory(name));
+    }
+
+    private static ThreadFactory platformFactory(String name) {
+        final AtomicLong counter = new AtomicLong();
+        return r -> {
+            final Thread thread = new Thread(r, name + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static @Nullable ThreadFactory virtualFactory(String name) {
+        if (OF_VIRTUAL == null) {
+            return null;
+        }
+
+        try {
+            return (ThreadFactory) BUILDER_FACTORY.invoke(BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), name + "-", 0L));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.testcontainers.arangodb.util;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Exclusive lock held across JVMs on same host via lock file, such as Gradle test forks with
+ * {@code maxParallelForks > 1}.
+ * <p>
+ * File lock is held by whole JVM, so threads of same JVM are serialized on JVM lock first.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoFileLock implements AutoCloseable {
+
+    /**
+     * Default directory for lock and registry files shared between JVMs
+     */
+    public static final Path DEFAULT_DIRECTORY = Path.of(System.getProperty("java.io.tmpdir"), "arangodb-testcontainers");
+
+    private static final Map<Path, ReentrantLock> LOCKS = new ConcurrentHashMap<>();
+
+    private final ReentrantLock jvmLock;
+    private final FileChannel channel;
+    private final FileLock fileLock;
+
+    private ArangoFileLock(ReentrantLock jvmLock, FileChannel channel, FileLock fileLock) {
+        this.jvmLock = jvmLock;
+        this.channel = channel;
+        this.fileLock = fileLock;
+    }
+
+    /**
+     * Blocks until lock is acquired, parent directories are created if missing
+     *
+     * @param lockFile to lock, created if missing and never deleted
+     * @return acquired lock
+     * @throws IOException when lock file can not be created or locked
+     */
+    public static ArangoFileLock lock(Path lockFile) throws IOException {
+        final Path file = lockFile.toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        final ReentrantLock jvmLock = LOCKS.computeIfAbsent(file, k -> new ReentrantLock());
+        jvmLock.lock();
+        try {
+            final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            try {
+                return new ArangoFileLock(jvmLock, channel, channel.lock());
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException | RuntimeException e) {
+            jvmLock.unlock();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            fileLock.release();
+            channel.close();
+        } finally {
+            jvmLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package io.testcontainers.arangodb.util;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.NotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+
+/**
+ * Captures directories of stopped container into locally cached image built on top of container
+ * base image.
+ * <p>
+ * ArangoDB images declare data directories as volumes, so {@code docker commit} does not capture
+ * them, instead directories are copied out as archives and added to new image, volumes are
+ * initialized from image content when container from such image is created.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+public final class ArangoSnapshotImages {
+
+    public static final String LABEL_HASH = "io.testcontainers.arangodb.snapshot.hash";
+
+    private static final Logger logger = LoggerFactory.getLogger(ArangoSnapshotImages.class);
+
+    private static final int STOP_TIMEOUT_SECONDS = 60;
+
+    private ArangoSnapshotImages() {}
+
+    /**
+     * Content hash builder, every part is length prefixed so different inputs can not collide by
+     * concatenation
+     */
+    public static final class Hasher {
+
+        private final MessageDigest digest;
+
+        private Hasher() {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public Hasher put(String value) {
+            return put(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public Hasher put(byte[] value) {
+            digest.update(Integer.toString(value.length).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ':');
+            digest.update(value);
+            return this;
+        }
+
+        /**
+         * @param path file or directory, directory files are hashed in sorted order with their
+         *                 relative paths
+         * @return self
+         */
+        public Hasher put(Path path) {
+            try {
+                if (Files.isDirectory(path)) {
+                    final List<Path> files;
+                    try (Stream<Path> walk = Files.walk(path)) {
+                        files = walk.filter(Files::isRegularFile)
+                                .sorted(Comparator.comparing(p -> path.relativize(p).toString()))
+                                .toList();
+                    }
+                    for (Path file : files) {
+                        put(path.relativize(file).toString().replace('\\', '/'));
+                        put(Files.readAllBytes(file));
+                    }
+                } else {
+                    put(path.getFileName().toString());
+                    put(Files.readAllBytes(path));
+                }
+                return this;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Can't hash seed path: " + path, e);
+            }
+        }
+
+        /**
+         * @return lower case hex hash, shortened to 16 characters to be used as image tag
+         */
+        public String hash() {
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+        }
+    }
+
+    public static Hasher hasher() {
+        return new Hasher();
+    }
+
+    /**
+     * @param image name with tag
+     * @return true if image is present in local docker image cache
+     */
+    public static boolean exists(String image) {
+        try {
+            DockerClientFactory.instance().client().inspectImageCmd(image).exec();
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Stops container process without removing container, so database flushes its data to disk and
+     * container directories still can be copied.
+     *
+     * @param container to stop, nothing happens if it is not running
+     */
+    public static void stopGracefully(GenericContainer<?> container) {
+        if (container.isRunning()) {
+            container.getDockerClient().stopContainerCmd(container.getContainerId())
+                    .withTimeout(STOP_TIMEOUT_SECONDS)
+                    .exec();
+        }
+    }
+
+    /**
+     * Gracefully stops container (if it is still running), copies specified directories and builds
+     * image from base image with these directories added.
+     *
+     * @param container   started or gracefully stopped container, it is removed afterwards
+     * @param baseImage   image to build snapshot on top of, usually container image
+     * @param image       snapshot image name with tag
+     * @param hash        content hash stored as {@link #LABEL_HASH} image label
+     * @param directories absolute directories to capture
+     * @return snapshot image name
+     */
+    public static String capture(GenericContainer<?> container,
+                                 String baseImage,
+                                 String image,
+                                 String hash,
+                                 List<String> directories) {
+        final long started = System.nanoTime();
+        final DockerClient client = container.getDockerClient();
+        final String containerId = container.getContainerId();
+
+        Path workDirectory = null;
+        try {
+            stopGracefully(container);
+
+            workDirectory = Files.createTempDirectory("arangodb-snapshot");
+            final Map<String, Path> archives = new LinkedHashMap<>();
+            for (String directory : directories) {
+                final Path archive = workDirectory.resolve("snapshot-" + archives.size() + ".tar");
+                try (InputStream stream = client.copyArchiveFromContainerCmd(containerId, directory).exec()) {
+                    Files.copy(stream, archive);
+                }
+                archives.put(directory, archive);
+            }
+
+            final ImageFromDockerfile dockerfile = new ImageFromDockerfile(image, false);
+            archives.forEach((directory, archive) -> dockerfile.withFileFromPath(archive.getFileName().toString(), archive));
+            dockerfile.withDockerfileFromBuilder(builder -> {
+                builder.from(baseImage);
+                // archive root is captured directory itself, so it is extracted into its parent
+                archives.forEach((directory, archive) -> builder.add(archive.getFileName().toString(), parent(directory)));
+                builder.label(LABEL_HASH, hash);
+            });
+            final String imageName = dockerfile.get();
+            logger.info("ArangoDB snapshot image {} captured in {} millis", image,
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+            return imageName;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't capture snapshot image " + image, e);
+        } finally {
+            container.stop();
+            if (workDirectory != null) {
+                deleteQuietly(workDirectory);
+            }
+        }
+    }
+
+    private static String parent(String directory) {
+        final int slash = directory.lastIndexOf('/', directory.length() - 2);
+        return (slash <= 0)
+                ? "/"
+                : directory.substring(0, slash + 1);
+    }
+
+    private static void deleteQuietly(Path directory) {
+        try (Stream<Path> walk = Files.walk(directory)) {
+            final List<Path> paths = new ArrayList<>(walk.toList());
+            paths.sort(Comparator.reverseOrder());
+            for (Path path : paths) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            logger.debug("Can't delete snapshot work directory {}", directory, e);
+        }
+    }
+}
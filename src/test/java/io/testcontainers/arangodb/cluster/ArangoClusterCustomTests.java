@@ -2,6 +2,7 @@
 
 import io.testcontainers.arangodb.ArangoRunner;
 import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
 import java.io.IOException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -78,4 +79,18 @@ void allCoordinatorsAreAccessible() throws IOException, InterruptedException {
             assertEquals(401, status);
         }
     }
+
+    @Test
+    void nodesAreAccessibleAsDeployments() {
+        for (ArangoClusterContainer node : CLUSTER.getContainers()) {
+            if (node.getType() == ArangoClusterContainer.NodeType.COORDINATOR) {
+                assertEquals("jjj", node.getPassword());
+                assertTrue(node.isAuthenticationEnabled());
+            } else {
+                assertNull(node.getPassword());
+                assertFalse(node.isAuthenticationEnabled());
+            }
+            assertEquals(200, ArangoHttpClient.of(node).get("/_api/version").status(), node.getAlias());
+        }
+    }
 }
@@ -2,6 +2,7 @@
 
 import io.testcontainers.arangodb.ArangoRunner;
 import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.containers.StartupReport;
 import java.io.IOException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -78,4 +79,15 @@ void allCoordinatorsAreAccessible() throws IOException, InterruptedException {
             assertEquals(200, status);
         }
     }
+
+    @Test
+    void startupReportContainsAllNodes() {
+        final StartupReport report = CLUSTER.getStartupReport();
+        assertNotNull(report);
+        assertEquals("CLUSTER", report.nodeType());
+        assertEquals(CLUSTER.getClusterId(), report.name());
+        assertEquals(7, report.nodes().size());
+        assertTrue(report.phases().containsKey(StartupReport.Phase.NODES_START));
+        assertTrue(report.phases().containsKey(StartupReport.Phase.CLUSTER_HEALTH));
+    }
 }
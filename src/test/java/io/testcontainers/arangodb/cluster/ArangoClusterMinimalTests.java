@@ -0,0 +1,44 @@
+package io.testcontainers.arangodb.cluster;
+
+import com.github.dockerjava.api.model.HostConfig;
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.ArangoMemoryProfile;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Smallest cluster topology with memory budget per node
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoClusterMinimalTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoCluster CLUSTER = ArangoCluster.builder(IMAGE_3_12)
+            .withAgentNodes(1)
+            .withDatabaseNodes(1)
+            .withCoordinatorNodes(1)
+            .withMemoryProfile(ArangoMemoryProfile.SMALL)
+            .withPassword("minimal")
+            .build();
+
+    @Test
+    void minimalClusterIsHealthyWithinBudget() {
+        assertEquals(3, CLUSTER.getContainers().size());
+        assertTrue(List.of(CLUSTER.getDatabase(0).getCommandParts())
+                .contains("--rocksdb.block-cache-size=" + (ArangoMemoryProfile.SMALL.memory() / 8)));
+
+        final HostConfig hostConfig = CLUSTER.getDatabase(0).getContainerInfo().getHostConfig();
+        assertEquals(Long.valueOf(ArangoMemoryProfile.SMALL.memory()), hostConfig.getMemory());
+        assertEquals(Long.valueOf(ArangoMemoryProfile.SMALL.memory()), hostConfig.getMemorySwap());
+
+        final ArangoHttpClient client = ArangoHttpClient.of(CLUSTER);
+        client.post("/_api/collection", Map.of("name", "minimal")).requireSuccess("Collection creation");
+    }
+}
@@ -0,0 +1,58 @@
+package io.testcontainers.arangodb.cluster;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+class ArangoClusterReuseTests extends ArangoRunner {
+
+    @Test
+    void reusableClusterIdentityIsDerivedFromTopology() {
+        final ArangoCluster first = ArangoCluster.builder(IMAGE_3_12).withPassword("reuse").withReuse().build();
+        final ArangoCluster second = ArangoCluster.builder(IMAGE_3_12).withPassword("reuse").withReuse().build();
+        final ArangoCluster otherPassword = ArangoCluster.builder(IMAGE_3_12).withPassword("other").withReuse().build();
+        final ArangoCluster otherTopology = ArangoCluster.builder(IMAGE_3_12).withPassword("reuse").withDatabaseNodes(3)
+                .withReuse().build();
+
+        assertTrue(first.isReusable());
+        assertEquals(first.getClusterId(), second.getClusterId());
+        assertEquals(first.getCoordinator(0).getServerOptions(), second.getCoordinator(0).getServerOptions());
+        assertNotEquals(first.getClusterId(), otherPassword.getClusterId());
+        assertNotEquals(first.getClusterId(), otherTopology.getClusterId());
+    }
+
+    @Test
+    void defaultClusterIdentityIsRandom() {
+        final ArangoCluster first = ArangoCluster.builder(IMAGE_3_12).build();
+        final ArangoCluster second = ArangoCluster.builder(IMAGE_3_12).build();
+
+        assertFalse(first.isReusable());
+        assertNotEquals(first.getClusterId(), second.getClusterId());
+    }
+
+    @Test
+    void reusableClusterStoppedWhenReuseNotEnabled() {
+        Assumptions.assumeFalse(TestcontainersConfiguration.getInstance().environmentSupportsReuse());
+
+        final ArangoCluster cluster = ArangoCluster.builder(IMAGE_3_12)
+                .withAgentNodes(1)
+                .withDatabaseNodes(1)
+                .withCoordinatorNodes(1)
+                .withoutAuth()
+                .withReuse()
+                .build();
+        try {
+            cluster.start();
+        } finally {
+            cluster.stop();
+        }
+
+        assertTrue(cluster.getContainers().stream().noneMatch(ArangoContainer::isRunning));
+    }
+}
@@ -0,0 +1,140 @@
+package io.testcontainers.arangodb.cluster;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+class ArangoClusterSchedulerTests extends ArangoRunner {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ArangoClusterScheduler<String> scheduler() {
+        final Map<String, List<String>> dependencies = new LinkedHashMap<>();
+        dependencies.put("leader", List.of());
+        dependencies.put("agent", List.of("leader"));
+        dependencies.put("dbserver", List.of("leader", "agent"));
+        dependencies.put("coordinator", List.of("leader", "agent"));
+        return new ArangoClusterScheduler<>(dependencies, Function.identity());
+    }
+
+    @Test
+    void startFollowsDependencies() throws Exception {
+        final List<String> started = new CopyOnWriteArrayList<>();
+        final Map<String, Duration> durations = scheduler().start(executor, Duration.ofSeconds(5), started::add);
+
+        assertEquals(4, durations.size());
+        assertEquals(4, started.size());
+        assertEquals("leader", started.get(0));
+        assertEquals("agent", started.get(1));
+    }
+
+    @Test
+    void failedStartStopsStartedNodes() {
+        final ArangoClusterScheduler<String> scheduler = scheduler();
+        final List<String> started = new CopyOnWriteArrayList<>();
+        final IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> scheduler.start(executor, Duration.ofSeconds(5), node -> {
+                    if (node.equals("dbserver")) {
+                        throw new IllegalStateException("boom " + node);
+                    }
+                    started.add(node);
+                }));
+        assertEquals("boom dbserver", e.getMessage());
+        assertTrue(started.containsAll(List.of("leader", "agent")), started.toString());
+
+        // same as ArangoCluster.start on failure, every node is stopped best-effort
+        final List<String> running = new CopyOnWriteArrayList<>(started);
+        assertDoesNotThrow(() -> scheduler.stop(executor, Duration.ofSeconds(5), running::remove));
+        assertTrue(running.isEmpty(), running.toString());
+    }
+
+    @Test
+    void stopInReverseOrder() throws Exception {
+        final List<String> stopped = new CopyOnWriteArrayList<>();
+        scheduler().stop(executor, Duration.ofSeconds(5), stopped::add);
+
+        assertEquals(4, stopped.size());
+        assertEquals("agent", stopped.get(2));
+        assertEquals("leader", stopped.get(3));
+    }
+
+    @Test
+    void stopContinuesAfterFailures() {
+        final List<String> stopped = new CopyOnWriteArrayList<>();
+        final IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> scheduler().stop(executor, Duration.ofSeconds(5), node -> {
+                    stopped.add(node);
+                    if (node.equals("dbserver") || node.equals("agent")) {
+                        throw new IllegalStateException("boom " + node);
+                    }
+                }));
+
+        assertEquals(4, stopped.size());
+        assertEquals("leader", stopped.get(3));
+        assertEquals(2, e.getSuppressed().length);
+    }
+
+    @Test
+    void stopTimeoutStopsRemainingNodes() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> stopped = new CopyOnWriteArrayList<>();
+        final IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> scheduler().stop(executor, Duration.ofMillis(300), node -> {
+                    if (node.equals("coordinator")) {
+                        try {
+                            release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException ie) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    stopped.add(node);
+                }));
+        release.countDown();
+
+        assertTrue(stopped.containsAll(List.of("dbserver", "agent", "leader")), stopped.toString());
+        assertTrue(Arrays.stream(e.getSuppressed()).anyMatch(TimeoutException.class::isInstance));
+    }
+
+    @Test
+    void startFailureSkipsDependents() {
+        final List<String> started = new CopyOnWriteArrayList<>();
+        assertThrows(IllegalStateException.class, () -> scheduler().start(executor, Duration.ofSeconds(5), node -> {
+            if (node.equals("agent")) {
+                throw new IllegalStateException("boom");
+            }
+            started.add(node);
+        }));
+
+        assertEquals(List.of("leader"), started);
+    }
+
+    @Test
+    void cycleRejected() {
+        final Map<String, List<String>> dependencies = new LinkedHashMap<>();
+        dependencies.put("a", List.of("b"));
+        dependencies.put("b", List.of("a"));
+        final ArangoClusterScheduler<String> scheduler = new ArangoClusterScheduler<>(dependencies, Function.identity());
+        assertThrows(IllegalArgumentException.class, () -> scheduler.start(executor, Duration.ofSeconds(1), node -> {}));
+    }
+}
@@ -0,0 +1,38 @@
+package io.testcontainers.arangodb.cluster;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+class ArangoClusterSnapshotTests extends ArangoRunner {
+
+    @Test
+    void clusterIsRestoredFromSnapshotWithSameAliases() {
+        final ArangoCluster first = ArangoCluster.builder(IMAGE_3_12)
+                .withPassword("snapshot")
+                .withSnapshot()
+                .build();
+        final ArangoCluster second = ArangoCluster.builder(IMAGE_3_12)
+                .withPassword("snapshot")
+                .withSnapshot()
+                .build();
+
+        assertEquals(first.getClusterId(), second.getClusterId());
+        assertEquals(first.getAgentLeader().getAlias(), second.getAgentLeader().getAlias());
+
+        try {
+            second.start();
+            final ArangoHttpClient client = ArangoHttpClient.of(second);
+            client.post("/_api/collection", Map.of("name", "restored", "numberOfShards", 2))
+                    .requireSuccess("Collection creation");
+            assertEquals(200, client.get("/_api/collection/restored").status());
+        } finally {
+            second.stop();
+        }
+    }
+}
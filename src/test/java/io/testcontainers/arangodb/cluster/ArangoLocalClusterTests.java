@@ -0,0 +1,39 @@
+package io.testcontainers.arangodb.cluster;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.ArangoDeployment;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoLocalClusterTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoLocalCluster CLUSTER = new ArangoLocalCluster(IMAGE_3_12).withPassword("local");
+
+    @Test
+    void allCoordinatorsAreAccessibleAndShardingWorks() {
+        assertEquals(3, CLUSTER.getHostsAndPorts().size());
+        for (ArangoDeployment.HostAndPort hostAndPort : CLUSTER.getHostsAndPorts()) {
+            final ArangoHttpClient client = ArangoHttpClient.of(hostAndPort.host(), hostAndPort.port(),
+                    CLUSTER.getUser(), CLUSTER.getPassword());
+            final ArangoHttpClient.Response role = client.get("/_admin/server/role");
+            assertEquals(200, role.status(), role.toString());
+            assertEquals("COORDINATOR", role.json().get("role"));
+        }
+
+        final ArangoHttpClient client = ArangoHttpClient.of(CLUSTER);
+        client.post("/_api/collection", Map.of("name", "sharded", "numberOfShards", 3))
+                .requireSuccess("Collection creation");
+        final ArangoHttpClient.Response properties = client.get("/_api/collection/sharded/properties");
+        assertEquals(3L, properties.json().get("numberOfShards"));
+        assertNotNull(CLUSTER.getStartupReport());
+    }
+}
@@ -0,0 +1,66 @@
+package io.testcontainers.arangodb.cluster;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.StartupReport;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+class ArangoSharedClusterTests extends ArangoRunner {
+
+    @TempDir
+    private Path registry;
+
+    @Test
+    void leasesShareClusterWithIsolatedDatabases() {
+        Assumptions.assumeTrue(TestcontainersConfiguration.getInstance().environmentSupportsReuse(),
+                "Testcontainers reuse is not enabled");
+
+        final ArangoSharedCluster shared = ArangoSharedCluster.builder(ArangoCluster.builder(IMAGE_3_12)
+                .withPassword("shared"))
+                .withRegistryDirectory(registry)
+                .build();
+
+        final ArangoCluster cluster;
+        try (ArangoSharedCluster.Lease first = shared.acquire()) {
+            cluster = first.getCluster();
+            final StartupReport startupReport = cluster.getStartupReport();
+            assertNotNull(startupReport);
+
+            try (ArangoSharedCluster.Lease second = shared.acquire()) {
+                assertSame(cluster, second.getCluster());
+                assertSame(startupReport, cluster.getStartupReport(), "Started cluster must not be started again");
+                assertNotEquals(first.getDatabase(), second.getDatabase());
+
+                first.getClient().post("/_api/collection", Map.of("name", "isolated")).requireSuccess("Collection creation");
+                assertEquals(200, first.getClient().get("/_api/collection/isolated").status());
+                assertEquals(404, second.getClient().get("/_api/collection/isolated").status());
+            }
+        }
+
+        assertFalse(cluster.getCoordinator(0).isRunning());
+    }
+
+    @Test
+    void callerBuilderIsNotModified() {
+        Assumptions.assumeTrue(TestcontainersConfiguration.getInstance().environmentSupportsReuse(),
+                "Testcontainers reuse is not enabled");
+
+        final ArangoClusterBuilder builder = ArangoCluster.builder(IMAGE_3_12).withPassword("shared");
+        final String clusterId = builder.build().getClusterId();
+        ArangoSharedCluster.builder(builder)
+                .withRegistryDirectory(registry)
+                .build();
+
+        final ArangoCluster cluster = builder.build();
+        assertFalse(cluster.isReusable());
+        assertNotEquals(clusterId, cluster.getClusterId());
+    }
+}
@@ -0,0 +1,36 @@
+package io.testcontainers.arangodb.containers;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoContainerFastStorageTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withPassword("fast")
+            .withFastStorage();
+
+    @Test
+    void documentsAreWrittenToTmpfs() throws Exception {
+        assertTrue(container.isRunning());
+        assertTrue(List.of(container.getCommandParts()).contains("--server.statistics=false"));
+
+        final ArangoHttpClient client = ArangoHttpClient.of(container);
+        client.post("/_api/collection", Map.of("name", "fast")).requireSuccess("Collection creation");
+        final ArangoHttpClient.Response insert = client.post("/_api/document/fast", Map.of("value", 1));
+        assertTrue(insert.isSuccess(), insert.toString());
+
+        final String mounts = container.execInContainer("cat", "/proc/mounts").getStdout();
+        assertTrue(mounts.contains("tmpfs " + ArangoContainer.DATA_DIRECTORY + " "), mounts);
+    }
+}
@@ -1,6 +1,7 @@
 package io.testcontainers.arangodb.containers;
 
 import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
@@ -38,4 +39,10 @@ void checkThatAuthorizationRequired() throws Exception {
         final int status = response.statusCode();
         assertEquals(401, status);
     }
+
+    @Test
+    void clientRequiresKnownPassword() {
+        assertNull(container.getPassword());
+        assertThrows(IllegalStateException.class, () -> ArangoHttpClient.of(container));
+    }
 }
@@ -38,4 +38,25 @@ void checkThatDatabaseIsRunning() throws Exception {
         final int status = response.statusCode();
         assertEquals(200, status);
     }
+
+    @Test
+    void startupReportContainsAllPhases() {
+        final StartupReport report = container.getStartupReport();
+        assertNotNull(report);
+        assertEquals("SINGLE", report.nodeType());
+        assertTrue(report.nodes().isEmpty());
+        for (StartupReport.Phase phase : new StartupReport.Phase[] { StartupReport.Phase.IMAGE_RESOLUTION,
+                StartupReport.Phase.CONTAINER_CREATION, StartupReport.Phase.PROCESS_BOOT, StartupReport.Phase.READINESS }) {
+            assertTrue(report.phases().containsKey(phase), "Missing phase " + phase);
+        }
+        assertTrue(report.total().compareTo(report.phase(StartupReport.Phase.READINESS)) >= 0);
+    }
+
+    @Test
+    void repeatedStartKeepsStartupReport() {
+        final StartupReport report = container.getStartupReport();
+        container.start();
+        container.getDockerImageName();
+        assertSame(report, container.getStartupReport());
+    }
 }
@@ -0,0 +1,57 @@
+package io.testcontainers.arangodb.containers;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.cluster.ArangoCluster;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoServerOptionsTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withoutAuth()
+            .withFastStorage()
+            .withServerOptions(ArangoServerOptions.minimal()
+                    .withQueryCacheMode(ArangoServerOptions.QueryCacheMode.ON))
+            .withServerOption("server.statistics", true);
+
+    @Test
+    void optionsAreValidatedAndMerged() {
+        assertThrows(IllegalArgumentException.class, () -> ArangoServerOptions.empty().with("--query.cache-mode", "on"));
+        assertThrows(IllegalArgumentException.class, () -> ArangoServerOptions.empty().with("query", "on"));
+        assertThrows(IllegalArgumentException.class, () -> ArangoServerOptions.empty().with("log.level", "a b"));
+        assertThrows(IllegalArgumentException.class, () -> ArangoServerOptions.empty().withSchedulerThreads(4, 2));
+
+        final ArangoServerOptions merged = ArangoServerOptions.minimal().merge(ArangoServerOptions.throughput());
+        assertEquals(ArangoServerOptions.throughput(), merged);
+        assertEquals(List.of("--query.cache-mode=demand"), ArangoServerOptions.empty()
+                .withQueryCacheMode(ArangoServerOptions.QueryCacheMode.ON)
+                .withQueryCacheMode(ArangoServerOptions.QueryCacheMode.DEMAND)
+                .toArguments());
+    }
+
+    @Test
+    void explicitOptionsReplacePresetsOnServer() {
+        final List<String> command = List.of(container.getCommandParts());
+        assertTrue(command.contains("--server.statistics=true"), command.toString());
+        assertFalse(command.contains("--server.statistics=false"), command.toString());
+        assertTrue(command.contains("--rocksdb.sync-interval=0"), command.toString());
+
+        final ArangoHttpClient.Response properties = ArangoHttpClient.of(container).get("/_api/query-cache/properties");
+        assertEquals(200, properties.status(), properties.toString());
+        assertEquals("on", properties.json().get("mode"));
+    }
+
+    @Test
+    void clusterRejectsManagedOptions() {
+        assertThrows(IllegalArgumentException.class, () -> ArangoCluster.builder(IMAGE_3_12).withServerOptions(ArangoServerOptions.empty().with("agency.size", 5)));
+    }
+}
@@ -0,0 +1,55 @@
+package io.testcontainers.arangodb.containers;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import com.github.dockerjava.api.exception.NotFoundException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+class ArangoSnapshotTests extends ArangoRunner {
+
+    private static final AtomicInteger seeded = new AtomicInteger();
+    private static final ArangoSnapshot snapshot = ArangoSnapshot.builder(IMAGE_3_12)
+            .withPassword("snapshot")
+            .withSeedKey("snapshot-tests-v1")
+            .withSeeder(container -> {
+                seeded.incrementAndGet();
+                final ArangoHttpClient client = ArangoHttpClient.of(container);
+                client.post("/_api/collection", Map.of("name", "seeded")).requireSuccess("Collection creation");
+                client.post("/_api/document/seeded", Map.of("_key", "one")).requireSuccess("Document creation");
+            })
+            .build();
+
+    @BeforeAll
+    @AfterAll
+    static void removeImage() {
+        try {
+            DockerClientFactory.instance().client().removeImageCmd(snapshot.getImageName()).withForce(true).exec();
+        } catch (NotFoundException e) {
+            // not cached
+        }
+    }
+
+    @Test
+    void seededDataIsRestoredFromCachedImage() {
+        assertFalse(snapshot.isCached());
+        for (int i = 0; i < 2; i++) {
+            try (ArangoContainer container = snapshot.createContainer()) {
+                container.start();
+                final ArangoHttpClient.Response document = ArangoHttpClient.of(container).get("/_api/document/seeded/one");
+                assertEquals(200, document.status(), document.toString());
+            }
+        }
+
+        assertTrue(snapshot.isCached());
+        assertEquals(1, seeded.get());
+    }
+}
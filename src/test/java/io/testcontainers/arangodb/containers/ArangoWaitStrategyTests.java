@@ -0,0 +1,32 @@
+package io.testcontainers.arangodb.containers;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoWaitStrategyTests extends ArangoRunner {
+
+    private static final ArangoWaitStrategy strategy = new ArangoWaitStrategy();
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withEnv("ARANGO_ROOT_PASSWORD", "envpass")
+            .waitingFor(strategy);
+
+    @Test
+    void readyDurationRecordedWithEnvPassword() {
+        assertEquals("envpass", container.getPassword());
+
+        final Duration readyDuration = strategy.getReadyDuration();
+        assertNotNull(readyDuration);
+        assertFalse(readyDuration.isNegative());
+        assertTrue(readyDuration.compareTo(Duration.ofSeconds(60)) < 0, readyDuration.toString());
+    }
+}
@@ -0,0 +1,25 @@
+package io.testcontainers.arangodb.http;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import java.net.URI;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+class ArangoHttpClientTests extends ArangoRunner {
+
+    @Test
+    void databaseNameEncoded() {
+        final ArangoHttpClient client = ArangoHttpClient.of("localhost", 8529, "root", null)
+                .withDatabase("my db/\u00e9");
+        assertEquals(List.of(URI.create("http://localhost:8529/_db/my%20db%2F%C3%A9")), client.getEndpoints());
+    }
+
+    @Test
+    void pathSegmentEncoded() {
+        assertEquals("my%20collection%2Bv2%2F%C3%A9", ArangoHttpClient.encode("my collection+v2/\u00e9"));
+    }
+}
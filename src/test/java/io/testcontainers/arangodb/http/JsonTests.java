@@ -0,0 +1,51 @@
+package io.testcontainers.arangodb.http;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+class JsonTests extends ArangoRunner {
+
+    @Test
+    void parseClusterHealth() {
+        final Map<String, Object> json = Json.parseObject("""
+                {"Health":{"PRMR-1":{"Role":"DBServer","Status":"GOOD","Version":"3.12.4"},
+                "AGNT-1":{"Role":"Agent","Status":"GOOD","Leading":true}},
+                "ClusterId":"c1","error":false,"code":200,"ratio":1.5,"names":["a\\"b","\\u0041"],"none":null}""");
+
+        assertEquals(200L, json.get("code"));
+        assertEquals(false, json.get("error"));
+        assertEquals(1.5, json.get("ratio"));
+        assertEquals(List.of("a\"b", "A"), json.get("names"));
+        assertTrue(json.containsKey("none"));
+        assertNull(json.get("none"));
+
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> health = (Map<String, Object>) json.get("Health");
+        assertEquals(2, health.size());
+    }
+
+    @Test
+    void writeAndParseBack() {
+        final Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "line\nbreak \"quoted\"");
+        value.put("count", 42L);
+        value.put("nested", List.of(true, Map.of("k", 1.25)));
+
+        final String json = Json.write(value);
+        assertEquals(value, Json.parse(json));
+    }
+
+    @Test
+    void invalidJsonRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Json.parse("{\"a\":}"));
+        assertThrows(IllegalArgumentException.class, () -> Json.parse("[1,2"));
+        assertThrows(IllegalArgumentException.class, () -> Json.parse("{} trailing"));
+    }
+}
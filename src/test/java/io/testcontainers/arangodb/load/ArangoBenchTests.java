@@ -0,0 +1,88 @@
+package io.testcontainers.arangodb.load;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.cluster.ArangoCluster;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoBenchTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withPassword("bench");
+
+    @Test
+    void outputParsed() {
+        final String output = """
+                INFO [a4e12] {bench} Total number of operations: 5000, keep alive: yes, async: no, concurrency: 4
+                INFO [b3f10] {bench} Operations per second rate: 4210.512
+                INFO [c1b22] {bench} Elapsed time since start: 1.187 s
+                INFO [d0e33] {bench} Percentiles: 50%: 0.85 ms, 99%: 2.4 ms, 99.9%: 5.1 ms
+                WARNING [e9f44] {bench} 3 arangobench request(s) failed!
+                """;
+
+        final ArangoBenchResult result = ArangoBenchResult.parse("document", output);
+        assertEquals(5000, result.operations());
+        assertEquals(4210.512, result.requestsPerSecond(), 0.001);
+        assertEquals(Duration.ofMillis(1187), result.elapsed());
+        assertEquals(3, result.failures());
+        assertEquals(Duration.ofNanos(850_000), result.percentile(50).orElseThrow());
+        assertEquals(Duration.ofNanos(5_100_000), result.percentile(99.9).orElseThrow());
+        assertThrows(IllegalArgumentException.class, () -> ArangoBenchResult.parse("document", "no results"));
+    }
+
+    @Test
+    void benchRunsInsideContainer() {
+        final ArangoBenchResult result = ArangoBench.builder("document")
+                .withRequests(2_000)
+                .withConcurrency(2)
+                .withPercentiles(50, 99, 99.9)
+                .build()
+                .run(container);
+
+        assertEquals(0, result.failures(), result.output());
+        assertTrue(result.requestsPerSecond() > 0, result.output());
+        assertTrue(result.percentile(99).isPresent(), result.output());
+    }
+
+    @Test
+    void benchRunsInSidecarAgainstCoordinator() {
+        final ArangoCluster cluster = ArangoCluster.builder(IMAGE_3_12)
+                .withAgentNodes(1)
+                .withDatabaseNodes(1)
+                .withCoordinatorNodes(2)
+                .withPassword("bench")
+                .build();
+        try {
+            cluster.start();
+            final ArangoBenchResult result = ArangoBench.builder("document")
+                    .withRequests(1_000)
+                    .withConcurrency(2)
+                    .withPercentiles(50, 99)
+                    .build()
+                    .run(cluster, 1);
+
+            assertEquals(0, result.failures(), result.output());
+            assertEquals(1_000, result.operations(), result.output());
+            assertTrue(result.percentile(99).isPresent(), result.output());
+        } finally {
+            cluster.stop();
+        }
+    }
+
+    @Test
+    void unknownPasswordFailsFast() {
+        final ArangoBench bench = ArangoBench.builder("version").build();
+        final ArangoContainer randomPassword = new ArangoContainer(IMAGE_3_12).withRandomPassword();
+
+        assertThrows(IllegalStateException.class, () -> bench.run(randomPassword));
+    }
+}
@@ -0,0 +1,76 @@
+package io.testcontainers.arangodb.load;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.seed.ArangoDocumentGenerator;
+import io.testcontainers.arangodb.seed.ArangoSeeder;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoLoadDriverTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withoutAuth()
+            .withFastStorage();
+
+    @BeforeAll
+    static void seed() {
+        ArangoSeeder.builder(container).build()
+                .seed(ArangoDocumentGenerator.of("users", 10_000).withNumberField("age", 100).toSeed());
+    }
+
+    @Test
+    void histogramPercentilesWithinPrecision() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1_000);
+        }
+
+        assertEquals(100_000, histogram.count());
+        assertEquals(50_000_000, histogram.p50().toNanos(), 50_000_000 * 0.032);
+        assertEquals(99_000_000, histogram.p99().toNanos(), 99_000_000 * 0.032);
+        assertEquals(100_000_000, histogram.max().toNanos());
+    }
+
+    @Test
+    void openLoopKeepsRate() {
+        final ArangoLoadReport report = ArangoLoadDriver.builder(container)
+                .withWorkload(ArangoWorkload.read("users", i -> String.valueOf(i % 10_000)))
+                .withOpenLoop(200)
+                .withWarmup(Duration.ofSeconds(1))
+                .withDuration(Duration.ofSeconds(3))
+                .build()
+                .run();
+
+        assertEquals(0, report.errors(), report.toString());
+        assertEquals(600, report.operations(), 10);
+        assertTrue(report.p50().compareTo(report.p99()) <= 0);
+        assertTrue(report.p99().compareTo(report.p999()) <= 0);
+        assertTrue(report.serviceTime().p50().compareTo(report.p50()) <= 0, report.toString());
+    }
+
+    @Test
+    void closedLoopRunsAql() {
+        final ArangoLoadReport report = ArangoLoadDriver.builder(container)
+                .withWorkload(ArangoWorkload.aql("FOR u IN users FILTER u.age == @age RETURN u", i -> Map.of("age", i % 100)))
+                .withClosedLoop(8)
+                .withDuration(Duration.ofSeconds(2))
+                .build()
+                .run();
+
+        assertEquals(0, report.errors(), report.toString());
+        assertTrue(report.operations() > 0);
+        assertTrue(report.throughput() > 0);
+        assertEquals(report.operations(), report.responseTime().count());
+    }
+}
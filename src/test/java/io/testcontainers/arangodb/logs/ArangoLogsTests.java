@@ -0,0 +1,132 @@
+package io.testcontainers.arangodb.logs;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+@ExtendWith(ArangoLogDumpExtension.class)
+class ArangoLogsTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withoutAuth()
+            .withFastStorage()
+            .withLogs(ArangoLogs.capture(500).withJsonFormat());
+
+    @Test
+    void textLineParsed() {
+        final ArangoLogLine line = ArangoLogLine.parse("single", Instant.EPOCH,
+                "2026-10-17T10:00:00Z [1] WARNING [e52b0] {memory} maximum number of memory mappings too low", false);
+        assertEquals(ArangoLogLevel.WARNING, line.level());
+        assertEquals("e52b0", line.id());
+        assertEquals("memory", line.topic());
+        assertEquals("maximum number of memory mappings too low", line.message());
+
+        final ArangoLogLine script = ArangoLogLine.parse("single", Instant.EPOCH, "Initializing database...Hang on...", false);
+        assertEquals(ArangoLogLevel.INFO, script.level());
+        assertNull(script.topic());
+    }
+
+    @Test
+    void jsonLineParsed() {
+        final ArangoLogLine line = ArangoLogLine.parse("single", Instant.EPOCH,
+                "{\"time\":\"2026-10-17T10:00:00Z\",\"pid\":1,\"level\":\"ERROR\",\"topic\":\"queries\",\"id\":\"8bcee\",\"message\":\"slow query\"}",
+                true);
+        assertEquals(ArangoLogLevel.ERROR, line.level());
+        assertEquals("queries", line.topic());
+        assertEquals("slow query", line.message());
+    }
+
+    @Test
+    void levelFilteredAndCapturedInRing() {
+        final ArangoLogPipeline pipeline = ArangoLogs.capture(2).withLevel(ArangoLogLevel.WARNING).pipeline("node");
+        assertNotNull(pipeline);
+        pipeline.accept(frame("2026-10-17T10:00:00Z [1] INFO [aaaaa] {general} ignored"));
+        pipeline.accept(frame("2026-10-17T10:00:00Z [1] WARNING [bbbbb] {general} first\n"
+                + "2026-10-17T10:00:00Z [1] ERROR [ccccc] {general} second"));
+        pipeline.accept(frame("2026-10-17T10:00:00Z [1] FATAL [ddddd] {general} third"));
+
+        final ArangoLogCapture capture = pipeline.getCapture();
+        assertNotNull(capture);
+        final List<ArangoLogLine> lines = capture.lines();
+        assertEquals(2, lines.size());
+        assertEquals("second", lines.get(0).message());
+        assertEquals("third", lines.get(1).message());
+        assertEquals(1, capture.overwritten());
+        assertNull(ArangoLogs.off().pipeline("node"));
+    }
+
+    @Test
+    void containerLogsCaptured() {
+        final ArangoLogCapture capture = container.getLogCapture();
+        assertNotNull(capture);
+        assertTrue(capture.size() > 0);
+        assertTrue(capture.lines().stream().anyMatch(line -> line.topic() != null), capture.dump());
+    }
+
+    @Test
+    void dumpLimitedToLinesSinceMark() {
+        final ArangoLogPipeline pipeline = ArangoLogs.capture(3).pipeline("node");
+        assertNotNull(pipeline);
+        final ArangoLogCapture capture = pipeline.getCapture();
+        assertNotNull(capture);
+
+        pipeline.accept(frame("2026-10-17T10:00:00Z [1] INFO [aaaaa] {general} previous test"));
+        capture.mark();
+        assertEquals("", capture.dumpSinceMark());
+
+        pipeline.accept(frame("2026-10-17T10:00:00Z [1] INFO [bbbbb] {general} first"));
+        assertEquals("2026-10-17T10:00:00Z [1] INFO [bbbbb] {general} first\n", capture.dumpSinceMark());
+
+        for (int i = 0; i < 3; i++) {
+            pipeline.accept(frame("2026-10-17T10:00:00Z [1] INFO [ccccc] {general} next " + i));
+        }
+        final String dump = capture.dumpSinceMark();
+        assertTrue(dump.startsWith("... 1 earlier lines overwritten\n"), dump);
+        assertFalse(dump.contains("previous test"), dump);
+        assertTrue(dump.endsWith("next 2\n"), dump);
+    }
+
+    @Test
+    void extensionScopedToTestClassContainers() {
+        final ArangoLogCapture capture = container.getLogCapture();
+        assertNotNull(capture);
+
+        assertEquals(Set.of(capture), ArangoLogDumpExtension.captures(context(ArangoLogsTests.class)));
+        assertTrue(ArangoLogDumpExtension.captures(context(WithoutContainers.class)).isEmpty());
+    }
+
+    static class WithoutContainers {}
+
+    private static ExtensionContext context(Class<?> testClass) {
+        return (ExtensionContext) Proxy.newProxyInstance(ArangoLogsTests.class.getClassLoader(),
+                new Class<?>[] { ExtensionContext.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getRequiredTestClass" -> testClass;
+                    case "getTestClass" -> Optional.of(testClass);
+                    case "getTestInstances" -> Optional.empty();
+                    case "getDisplayName" -> testClass.getSimpleName();
+                    default -> null;
+                });
+    }
+
+    private static OutputFrame frame(String text) {
+        return new OutputFrame(OutputFrame.OutputType.STDOUT, (text + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,279 @@
+package io.testcontainers.arangodb.metrics;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.StatsCmd;
+import com.github.dockerjava.api.model.BlkioStatEntry;
+import com.github.dockerjava.api.model.BlkioStatsConfig;
+import com.github.dockerjava.api.model.CpuStatsConfig;
+import com.github.dockerjava.api.model.CpuUsageConfig;
+import com.github.dockerjava.api.model.MemoryStatsConfig;
+import com.github.dockerjava.api.model.StatisticNetworksConfig;
+import com.github.dockerjava.api.model.Statistics;
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoDockerStatsTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withoutAuth()
+            .withFastStorage();
+
+    @Test
+    void summaryOverRetainedSamples() {
+        final ArangoDockerStats stats = ArangoDockerStats.builder(container)
+                .withRetention(3)
+                .build();
+
+        stats.record("dbserver1", new DockerStatsSample(1_000, 10, 100, 1_000, 0, 0, 0, 0));
+        stats.record("dbserver1", new DockerStatsSample(2_000, 50, 300, 1_000, 10, 20, 30, 40));
+        stats.record("dbserver1", new DockerStatsSample(3_000, 30, 200, 1_000, 20, 40, 60, 80));
+        stats.record("dbserver1", new DockerStatsSample(4_000, 90, 400, 1_000, 40, 80, 120, 160));
+        stats.record("agent1", new DockerStatsSample(1_000, 5, 50, 1_000, 0, 0, 0, 0));
+
+        final ArangoDockerStatsReport report = stats.report();
+        final ArangoDockerStatsReport.Node node = report.node("dbserver1").orElseThrow();
+        assertEquals(3, node.samples());
+        assertEquals(Duration.ofSeconds(2), node.duration());
+        assertEquals(170.0 / 3, node.cpuAverage(), 0.001);
+        assertEquals(90, node.cpuPeak());
+        assertEquals(300, node.memoryAverage());
+        assertEquals(400, node.memoryPeak());
+        assertEquals(30, node.blockRead());
+        assertEquals(60, node.blockWrite());
+        assertEquals(90, node.networkReceived());
+        assertEquals(120, node.networkTransmitted());
+        assertEquals("dbserver1", report.busiest().orElseThrow().name());
+    }
+
+    @Test
+    void stubDockerStream() {
+        final List<ResultCallback<Statistics>> callbacks = new ArrayList<>();
+        final List<ArangoDockerStatsReport> reports = new ArrayList<>();
+        final DockerClient client = stubDockerClient(callbacks,
+                statistics(1_000_000_000L, 500_000_000L, 20_000_000_000L, 10_000_000_000L, 100_000_000L, 1_000, 2_000, 100, 50),
+                statistics(2_000_000_000L, 1_000_000_000L, 30_000_000_000L, 20_000_000_000L, 300_000_000L, 5_000, 2_500, 500, 200),
+                new Statistics());
+
+        try (ArangoDockerStats stats = ArangoDockerStats.builder(container)
+                .withDockerClient(client)
+                .withReporter(reports::add)
+                .build()
+                .start()) {
+            assertEquals(1, callbacks.size());
+            final ArangoDockerStatsReport.Node node = stats.report().nodes().get(0);
+            assertEquals(2, node.samples());
+            assertEquals(15, node.cpuAverage(), 0.001);
+            assertEquals(20, node.cpuPeak(), 0.001);
+            assertEquals(200_000_000L, node.memoryAverage());
+            assertEquals(300_000_000L, node.memoryPeak());
+            assertEquals(1_000_000_000L, node.memoryLimit());
+            assertEquals(4_000, node.blockRead());
+            assertEquals(500, node.blockWrite());
+            assertEquals(400, node.networkReceived());
+            assertEquals(150, node.networkTransmitted());
+
+            assertFalse(stats.isReported());
+            callbacks.get(0).onComplete();
+            assertTrue(stats.isReported());
+            assertEquals(1, reports.size());
+            assertEquals(2, reports.get(0).nodes().get(0).samples());
+        }
+        assertEquals(1, reports.size());
+    }
+
+    @Test
+    void reportedOnContainerStop() throws Exception {
+        final ArangoContainer stopped = new ArangoContainer(IMAGE_3_12).withoutAuth().withFastStorage();
+        final CompletableFuture<ArangoDockerStatsReport> report = new CompletableFuture<>();
+        stopped.start();
+        try (ArangoDockerStats stats = ArangoDockerStats.builder(stopped)
+                .withReporter(report::complete)
+                .build()
+                .start()) {
+            final long deadline = System.currentTimeMillis() + 10_000;
+            while (stats.report().nodes().get(0).samples() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+
+            stopped.stop();
+            final ArangoDockerStatsReport.Node node = report.get(30, TimeUnit.SECONDS).nodes().get(0);
+            assertTrue(node.samples() >= 2, node.toString());
+            assertTrue(node.memoryPeak() > 0, node.toString());
+        } finally {
+            stopped.stop();
+        }
+    }
+
+    private static DockerClient stubDockerClient(List<ResultCallback<Statistics>> callbacks, Statistics... samples) {
+        final StatsCmd cmd = (StatsCmd) Proxy.newProxyInstance(ArangoDockerStatsTests.class.getClassLoader(),
+                new Class<?>[] { StatsCmd.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("exec")) {
+                        @SuppressWarnings("unchecked")
+                        final ResultCallback<Statistics> callback = (ResultCallback<Statistics>) args[0];
+                        callbacks.add(callback);
+                        for (Statistics sample : samples) {
+                            callback.onNext(sample);
+                        }
+                        return callback;
+                    }
+                    return proxy;
+                });
+        return (DockerClient) Proxy.newProxyInstance(ArangoDockerStatsTests.class.getClassLoader(),
+                new Class<?>[] { DockerClient.class },
+                (proxy, method, args) -> method.getName().equals("statsCmd") ? cmd : null);
+    }
+
+    /**
+     * Docker models have no setters, so sample is described with overridden getters, 2 online CPUs,
+     * 1 GB memory limit and two network interfaces that split traffic evenly
+     */
+    private static Statistics statistics(long cpuTotal,
+                                         long previousCpuTotal,
+                                         long systemTotal,
+                                         long previousSystemTotal,
+                                         long memoryUsage,
+                                         long blockRead,
+                                         long blockWrite,
+                                         long networkReceived,
+                                         long networkTransmitted) {
+        final CpuStatsConfig cpu = cpu(cpuTotal, systemTotal);
+        final CpuStatsConfig previousCpu = cpu(previousCpuTotal, previousSystemTotal);
+        final MemoryStatsConfig memory = new MemoryStatsConfig() {
+
+            @Override
+            public Long getUsage() {
+                return memoryUsage;
+            }
+
+            @Override
+            public Long getLimit() {
+                return 1_000_000_000L;
+            }
+        };
+        final BlkioStatsConfig blkio = new BlkioStatsConfig() {
+
+            @Override
+            public List<BlkioStatEntry> getIoServiceBytesRecursive() {
+                return List.of(blkio("Read", blockRead), blkio("Write", blockWrite), blkio("Total", blockRead + blockWrite));
+            }
+        };
+        final StatisticNetworksConfig network = new StatisticNetworksConfig() {
+
+            @Override
+            public Long getRxBytes() {
+                return networkReceived / 2;
+            }
+
+            @Override
+            public Long getTxBytes() {
+                return networkTransmitted / 2;
+            }
+        };
+
+        return new Statistics() {
+
+            @Override
+            public CpuStatsConfig getCpuStats() {
+                return cpu;
+            }
+
+            @Override
+            public CpuStatsConfig getPreCpuStats() {
+                return previousCpu;
+            }
+
+            @Override
+            public MemoryStatsConfig getMemoryStats() {
+                return memory;
+            }
+
+            @Override
+            public BlkioStatsConfig getBlkioStats() {
+                return blkio;
+            }
+
+            @Override
+            public Map<String, StatisticNetworksConfig> getNetworks() {
+                return Map.of("eth0", network, "eth1", network);
+            }
+        };
+    }
+
+    private static CpuStatsConfig cpu(long total, long system) {
+        final CpuUsageConfig usage = new CpuUsageConfig() {
+
+            @Override
+            public Long getTotalUsage() {
+                return total;
+            }
+        };
+        return new CpuStatsConfig() {
+
+            @Override
+            public CpuUsageConfig getCpuUsage() {
+                return usage;
+            }
+
+            @Override
+            public Long getSystemCpuUsage() {
+                return system;
+            }
+
+            @Override
+            public Long getOnlineCpus() {
+                return 2L;
+            }
+        };
+    }
+
+    private static BlkioStatEntry blkio(String op, long value) {
+        return new BlkioStatEntry() {
+
+            @Override
+            public String getOp() {
+                return op;
+            }
+
+            @Override
+            public Long getValue() {
+                return value;
+            }
+        };
+    }
+
+    @Test
+    void containerStatsStreamed() throws Exception {
+        try (ArangoDockerStats stats = ArangoDockerStats.builder(container).build().start()) {
+            final ArangoHttpClient client = ArangoHttpClient.of(container);
+            final long deadline = System.currentTimeMillis() + 10_000;
+            while (stats.report().nodes().get(0).samples() < 3 && System.currentTimeMillis() < deadline) {
+                client.get("/_api/version").requireSuccess("Version");
+                Thread.sleep(100);
+            }
+
+            final ArangoDockerStatsReport.Node node = stats.report().nodes().get(0);
+            assertTrue(node.samples() >= 3, node.toString());
+            assertTrue(node.memoryPeak() > 0, node.toString());
+            assertTrue(node.memoryLimit() >= node.memoryPeak(), node.toString());
+        }
+    }
+}
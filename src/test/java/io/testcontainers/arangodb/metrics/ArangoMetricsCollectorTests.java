@@ -0,0 +1,120 @@
+package io.testcontainers.arangodb.metrics;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.cluster.ArangoCluster;
+import io.testcontainers.arangodb.cluster.ArangoClusterContainer;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoMetricsCollectorTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withoutAuth()
+            .withFastStorage();
+
+    @Test
+    void exposition() throws Exception {
+        final String text = """
+                # HELP rocksdb_write_stalls Number of times RocksDB has entered a stalled state
+                # TYPE rocksdb_write_stalls counter
+                rocksdb_write_stalls 3
+                arangodb_scheduler_queue_length{role="DBServer",shortname="PRMR-1{}"} 12
+                arangodb_scheduler_queue_length{role="DBServer",shortname="PRMR-2"} 4
+                arangodb_request_body_size_bucket{le="+Inf"} +Inf
+                malformed_line_without_value
+                """;
+
+        final List<String> names = new ArrayList<>();
+        final int samples = PrometheusParser.parse(new BufferedReader(new StringReader(text)), name -> !name.startsWith("arangodb_request"), (name, labels, value) -> names.add(name));
+        assertEquals(3, samples);
+        assertEquals(List.of("rocksdb_write_stalls", "arangodb_scheduler_queue_length", "arangodb_scheduler_queue_length"), names);
+    }
+
+    @Test
+    void seriesRingBuffer() {
+        final MetricSeries series = new MetricSeries("rocksdb_write_stalls", "", 3);
+        assertTrue(Double.isNaN(series.last()));
+        for (int i = 1; i <= 5; i++) {
+            series.add(i, i * 10);
+        }
+
+        assertEquals(3, series.size());
+        assertEquals(30, series.value(0));
+        assertEquals(50, series.last());
+        assertEquals(20, series.delta());
+        assertEquals(50, series.max());
+    }
+
+    @Test
+    void containerScrapedWithDelta() throws Exception {
+        try (ArangoMetricsCollector collector = ArangoMetricsCollector.builder(container)
+                .withInterval(Duration.ofMillis(200))
+                .withMetrics("arangodb_http_request_statistics", "rocksdb_write", "arangodb_scheduler")
+                .build()
+                .start()) {
+            final ArangoMetricsSnapshot before = collector.scrape();
+            assertEquals(1, before.nodes().size());
+            final String node = before.nodes().iterator().next();
+            assertFalse(Double.isNaN(before.value(node, ArangoMetricsCollector.ROCKSDB_WRITE_STALLS)), before.toString());
+
+            final ArangoHttpClient client = ArangoHttpClient.of(container);
+            for (int i = 0; i < 20; i++) {
+                client.get("/_api/version").requireSuccess("Version");
+            }
+
+            Thread.sleep(500);
+            final ArangoMetricsSnapshot delta = collector.scrape().delta(before);
+            assertTrue(delta.value(node, "arangodb_http_request_statistics_total_requests_total") >= 20, delta.series(node).toString());
+            assertEquals(0, delta.sum(ArangoMetricsCollector.ROCKSDB_WRITE_STOPS));
+            assertTrue(collector.getScrapes() > 2);
+            assertEquals(0, collector.getScrapeErrors());
+            assertFalse(collector.series(node, ArangoMetricsCollector.ROCKSDB_WRITE_STALLS).isEmpty());
+        }
+    }
+
+    @Test
+    void everyClusterNodeScraped() {
+        final ArangoCluster cluster = ArangoCluster.builder(IMAGE_3_12)
+                .withAgentNodes(1)
+                .withDatabaseNodes(2)
+                .withCoordinatorNodes(1)
+                .withPassword("metrics")
+                .build();
+        try {
+            cluster.start();
+            try (ArangoMetricsCollector collector = ArangoMetricsCollector.builder(cluster)
+                    .withMetrics("arangodb_server_statistics_server_uptime", "rocksdb_write")
+                    .build()) {
+                final ArangoMetricsSnapshot snapshot = collector.scrape();
+                assertEquals(0, collector.getScrapeErrors(), snapshot.toString());
+                assertEquals(cluster.getContainers().stream().map(ArangoClusterContainer::getAlias).collect(Collectors.toSet()),
+                        snapshot.nodes());
+                for (ArangoClusterContainer node : cluster.getContainers()) {
+                    assertFalse(Double.isNaN(snapshot.value(node.getAlias(), "arangodb_server_statistics_server_uptime_total")),
+                            snapshot.toString());
+                }
+                for (ArangoClusterContainer node : cluster.getDatabases()) {
+                    assertFalse(Double.isNaN(snapshot.value(node.getAlias(), ArangoMetricsCollector.ROCKSDB_WRITE_STALLS)),
+                            snapshot.toString());
+                }
+            }
+        } finally {
+            cluster.stop();
+        }
+    }
+}
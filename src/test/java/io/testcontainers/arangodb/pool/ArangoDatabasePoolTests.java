@@ -0,0 +1,110 @@
+package io.testcontainers.arangodb.pool;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoDatabasePoolTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withoutAuth();
+
+    private static void awaitIdle(ArangoDatabasePool pool, int expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (pool.getIdleCount() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        // recycling above pool size must not grow idle databases afterwards
+        Thread.sleep(500);
+        assertEquals(expected, pool.getIdleCount());
+    }
+
+    private static List<?> collections(ArangoHttpClient client) {
+        return (List<?>) client.get("/_api/collection?excludeSystem=true").json().get("result");
+    }
+
+    @Test
+    void leasedDatabasesAreIsolated() throws InterruptedException {
+        try (ArangoDatabasePool pool = ArangoDatabasePool.builder(container).withSize(2).build()) {
+            final List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try (ArangoDatabaseLease lease = pool.lease()) {
+                        final ArangoHttpClient client = lease.getClient();
+                        assertTrue(collections(client).isEmpty());
+                        client.post("/_api/collection", Map.of("name", "users")).requireSuccess("Collection creation");
+                        client.post("/_api/document/users", Map.of("name", "bob")).requireSuccess("Document insert");
+                        final Object count = client.get("/_api/collection/users/count").json().get("count");
+                        assertEquals(1L, count);
+                        return lease.getDatabase();
+                    }
+                }));
+            }
+            futures.forEach(CompletableFuture::join);
+
+            awaitIdle(pool, 2);
+            try (ArangoDatabaseLease lease = pool.lease()) {
+                assertTrue(collections(lease.getClient()).isEmpty());
+            }
+        }
+    }
+
+    @Test
+    void clearLeavesEmptySchema() {
+        try (ArangoDatabasePool pool = ArangoDatabasePool.builder(container).withSize(0).build();
+                ArangoDatabaseLease lease = pool.lease()) {
+            final ArangoHttpClient client = lease.getClient();
+            client.post("/_api/collection", Map.of("name", "users")).requireSuccess("Collection creation");
+            client.post("/_api/collection", Map.of("name", "follows", "type", 3)).requireSuccess("Edge collection creation");
+            client.post("/_api/gharial", Map.of("name", "social", "edgeDefinitions", List.of(Map.of("collection", "follows",
+                    "from", List.of("users"), "to", List.of("users"))))).requireSuccess("Graph creation");
+            client.post("/_api/analyzer", Map.of("name", "csv", "type", "delimiter", "properties", Map.of("delimiter", ",")))
+                    .requireSuccess("Analyzer creation");
+            client.post("/_api/view", Map.of("name", "search", "type", "arangosearch", "links",
+                    Map.of("users", Map.of("analyzers", List.of("csv"), "includeAllFields", true)))).requireSuccess("View creation");
+            client.post("/_api/aqlfunction", Map.of("name", "TESTS::DOUBLE", "code", "function (x) { return x * 2; }"))
+                    .requireSuccess("AQL function creation");
+
+            pool.clear(lease.getDatabase());
+
+            assertTrue(collections(client).isEmpty());
+            assertEquals(List.of(), client.get("/_api/gharial").json().get("graphs"));
+            assertEquals(List.of(), client.get("/_api/view").json().get("result"));
+            assertEquals(List.of(), client.get("/_api/aqlfunction").json().get("result"));
+            final List<?> analyzers = (List<?>) client.get("/_api/analyzer").json().get("result");
+            assertTrue(analyzers.stream()
+                    .map(analyzer -> String.valueOf(((Map<?, ?>) analyzer).get("name")))
+                    .noneMatch(name -> name.startsWith(lease.getDatabase() + "::")), analyzers.toString());
+        }
+    }
+
+    @Test
+    void databasesDroppedOnClose() {
+        final String database;
+        try (ArangoDatabasePool pool = ArangoDatabasePool.builder(container)
+                .withRecycleStrategy(ArangoDatabasePool.RecycleStrategy.DROP)
+                .build()) {
+            try (ArangoDatabaseLease lease = pool.lease()) {
+                database = lease.getDatabase();
+                assertEquals(200, lease.getClient().get("/_api/database/current").status());
+            }
+        }
+
+        final ArangoHttpClient client = ArangoHttpClient.of(container);
+        assertEquals(404, client.withDatabase(database).get("/_api/database/current").status());
+    }
+}
@@ -0,0 +1,86 @@
+package io.testcontainers.arangodb.pool;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.lifecycle.Startable;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+class ArangoWarmPoolTests extends ArangoRunner {
+
+    @Test
+    void takenContainersAreStartedAndReplenished() {
+        try (ArangoWarmPool<ArangoContainer> pool = ArangoWarmPool.register("warm-pool-tests", 1,
+                () -> new ArangoContainer(IMAGE_3_12).withoutAuth())) {
+            assertSame(pool, ArangoWarmPool.get("warm-pool-tests").orElseThrow());
+
+            final ArangoContainer first = pool.take(Duration.ofMinutes(2));
+            try {
+                assertTrue(first.isRunning());
+            } finally {
+                first.stop();
+            }
+
+            final ArangoContainer second = pool.take(Duration.ofMinutes(2));
+            try {
+                assertTrue(second.isRunning());
+                assertNotSame(first, second);
+            } finally {
+                second.stop();
+            }
+        }
+
+        assertTrue(ArangoWarmPool.get("warm-pool-tests").isEmpty());
+    }
+
+    private static final class FakeInstance implements Startable {
+
+        private final boolean failing;
+        private volatile boolean running;
+
+        private FakeInstance(boolean failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public void start() {
+            if (failing) {
+                throw new IllegalStateException("Start failed");
+            }
+            running = true;
+        }
+
+        @Override
+        public void stop() {
+            running = false;
+        }
+    }
+
+    @Test
+    void failedInstancesAreDiscarded() throws InterruptedException {
+        final AtomicInteger created = new AtomicInteger();
+        try (ArangoWarmPool<FakeInstance> pool = ArangoWarmPool.register("warm-pool-failing-tests", 2,
+                () -> new FakeInstance(created.incrementAndGet() == 1))) {
+            while (pool.getReadyCount() < 1) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(100);
+
+            final FakeInstance taken = pool.take(Duration.ofSeconds(5));
+            assertTrue(taken.running);
+
+            // failed instance is replaced, so pool warms back to its size
+            final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (pool.getReadyCount() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(2, pool.getReadyCount());
+            assertEquals(4, created.get());
+        }
+    }
+}
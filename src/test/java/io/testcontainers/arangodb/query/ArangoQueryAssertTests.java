@@ -0,0 +1,73 @@
+package io.testcontainers.arangodb.query;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoQueryAssertTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withoutAuth()
+            .withFastStorage();
+
+    @Test
+    void contractsChecked() {
+        final ArangoHttpClient client = ArangoHttpClient.of(container);
+        client.post("/_api/collection", Map.of("name", "orders")).requireSuccess("Create collection");
+        client.post("/_api/index?collection=orders", Map.of("type", "persistent", "name", "idx_user", "fields", List.of("user")))
+                .requireSuccess("Create index");
+        client.post("/_api/cursor", Map.of("query", "FOR i IN 1..1000 INSERT { user: CONCAT('u', i % 100), total: i } INTO orders"))
+                .requireSuccess("Insert documents");
+
+        final String byUser = "FOR o IN orders FILTER o.user == @user RETURN o";
+        ArangoQueryAssert.that(container, byUser)
+                .withBindVars(Map.of("user", "u1"))
+                .hasNoFullScan()
+                .usesIndex("orders")
+                .usesIndex("orders", "idx_user")
+                .scansAtMost(10)
+                .usesAtMostMemory(16 * 1024 * 1024);
+
+        assertThrows(AssertionError.class, () -> ArangoQueryAssert.that(container, byUser)
+                .withBindVars(Map.of("user", "u1"))
+                .scansAtMost(5));
+
+        final ArangoQueryAssert byTotal = ArangoQueryAssert.that(container, "FOR o IN orders FILTER o.total > 990 RETURN o");
+        assertThrows(AssertionError.class, byTotal::hasNoFullScan);
+        assertThrows(AssertionError.class, () -> byTotal.usesIndex("orders"));
+        assertThrows(AssertionError.class, () -> byTotal.scansAtMost(100));
+
+        final ArangoQueryAssert sortedByUser = ArangoQueryAssert.that(container, "FOR o IN orders SORT o.user LIMIT 5 RETURN o");
+        assertThrows(AssertionError.class, sortedByUser::hasNoFullScan);
+        assertThrows(AssertionError.class, () -> sortedByUser.usesIndex("orders"));
+    }
+
+    @Test
+    void traversalUsesEdgeIndex() {
+        final ArangoHttpClient client = ArangoHttpClient.of(container);
+        client.post("/_api/collection", Map.of("name", "people")).requireSuccess("Create collection");
+        client.post("/_api/collection", Map.of("name", "edges", "type", 3)).requireSuccess("Create edge collection");
+        client.post("/_api/cursor", Map.of("query", "FOR i IN 1..100 INSERT { _key: TO_STRING(i) } INTO people"))
+                .requireSuccess("Insert vertices");
+        client.post("/_api/cursor", Map.of("query",
+                "FOR i IN 1..99 INSERT { _from: CONCAT('people/', i), _to: CONCAT('people/', i + 1) } INTO edges"))
+                .requireSuccess("Insert edges");
+
+        ArangoQueryAssert.that(container, "FOR v IN 1..3 OUTBOUND 'people/1' edges RETURN v._key")
+                .usesIndex("edges")
+                .usesIndex("edges", "edge");
+        ArangoQueryAssert.that(container, "FOR v IN OUTBOUND SHORTEST_PATH 'people/1' TO 'people/5' edges RETURN v._key")
+                .usesIndex("edges");
+    }
+}
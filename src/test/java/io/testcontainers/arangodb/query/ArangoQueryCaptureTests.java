@@ -0,0 +1,115 @@
+package io.testcontainers.arangodb.query;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import io.testcontainers.arangodb.http.Json;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoQueryCaptureTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withoutAuth()
+            .withFastStorage();
+
+    @Test
+    void planSummarized() {
+        final String plan = """
+                {"nodes":[
+                  {"type":"SingletonNode"},
+                  {"type":"EnumerateCollectionNode","collection":"users"},
+                  {"type":"IndexNode","collection":"orders","indexes":[{"name":"idx_user","type":"persistent"}],
+                   "condition":{"type":"n-ary or","subNodes":[]}},
+                  {"type":"UpdateNode","collection":"orders"}],
+                 "rules":["use-indexes"],
+                 "collections":[{"name":"users","type":"read"},{"name":"orders","type":"write"}],
+                 "isModificationQuery":true,
+                 "estimatedCost":1204.5}
+                """;
+
+        final QueryPlan summary = QueryPlan.of(Json.parseObject(plan));
+        assertEquals(List.of("users"), summary.fullScans);
+        assertEquals(List.of("orders.idx_user (persistent)"), summary.indexes);
+        assertEquals(List.of("use-indexes"), summary.rules);
+        assertEquals(1204.5, summary.estimatedCost);
+        assertTrue(summary.modifying);
+    }
+
+    @Test
+    void planIndexesOfJoinsGraphsAndSorts() {
+        final String plan = """
+                {"nodes":[
+                  {"type":"SingletonNode"},
+                  {"type":"IndexNode","collection":"users","indexes":[{"name":"idx_created","type":"persistent"}],"condition":{}},
+                  {"type":"JoinNode","indexInfos":[
+                    {"collection":"orders","index":{"name":"idx_user","type":"persistent"}},
+                    {"collection":"items","index":{"name":"primary","type":"primary"}}]},
+                  {"type":"TraversalNode","edgeCollections":["follows"],
+                   "indexes":{"base":[{"name":"edge","type":"edge"},{"name":"idx_follows_since","type":"persistent"}],"levels":{}}},
+                  {"type":"ShortestPathNode","edgeCollections":["roads"]}]}
+                """;
+
+        final QueryPlan summary = QueryPlan.of(Json.parseObject(plan));
+        assertEquals(List.of("users"), summary.fullScans);
+        assertFalse(summary.indexNames.containsKey("users"));
+        assertEquals(List.of("idx_user"), summary.indexNames.get("orders"));
+        assertEquals(List.of("primary"), summary.indexNames.get("items"));
+        assertEquals(List.of("edge", "idx_follows_since"), summary.indexNames.get("follows"));
+        assertEquals(List.of("edge"), summary.indexNames.get("roads"));
+        assertEquals("users.idx_created (persistent) sort only", summary.indexes.get(0));
+        assertFalse(summary.modifying);
+    }
+
+    @Test
+    void clusterSingleDocumentWriteIsModifying() {
+        final String plan = """
+                {"nodes":[
+                  {"type":"SingletonNode"},
+                  {"type":"SingleRemoteOperationNode","collection":"orders","mode":"RemoveNode","key":"1"}],
+                 "rules":["optimize-cluster-single-document-operations"],
+                 "collections":[{"name":"orders","type":"write"}]}
+                """;
+
+        final QueryPlan summary = QueryPlan.of(Json.parseObject(plan));
+        assertTrue(summary.modifying);
+        assertTrue(summary.fullScans.isEmpty());
+    }
+
+    @Test
+    void slowFullScanCaptured() {
+        final ArangoHttpClient client = ArangoHttpClient.of(container);
+        client.post("/_api/collection", Map.of("name", "profiled")).requireSuccess("Create collection");
+        client.post("/_api/cursor", Map.of("query", "FOR i IN 1..1000 INSERT { value: i } INTO profiled"))
+                .requireSuccess("Insert documents");
+
+        final ArangoQueryCapture capture = ArangoQueryCapture.builder(container)
+                .withThreshold(Duration.ofMillis(50))
+                .build();
+        capture.start();
+        client.post("/_api/cursor", Map.of(
+                "query", "FOR d IN profiled FILTER d.value == @value LET s = SLEEP(0.1) RETURN d",
+                "bindVars", Map.of("value", 42)))
+                .requireSuccess("Slow query");
+
+        final ArangoQueryProfile profile = capture.collect("full scan");
+        assertEquals(1, profile.queries().size(), profile.toString());
+        final ArangoSlowQuery query = profile.queries().get(0);
+        assertTrue(query.isFullScan(), query.toString());
+        assertEquals(List.of("profiled"), query.fullScans());
+        assertTrue(query.isProfiled(), query.toString());
+        assertEquals(1000, query.scannedFull());
+        assertTrue(query.runTime().toMillis() >= 100, query.toString());
+        assertEquals(profile, capture.lastProfile());
+    }
+}
@@ -0,0 +1,72 @@
+package io.testcontainers.arangodb.seed;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.Container.ExecResult;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoDumpRestoreTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withoutAuth()
+            .withFastStorage();
+
+    @TempDir
+    private Path dump;
+
+    @Test
+    void dumpRestoredIntoNewDatabase() throws Exception {
+        final String documents = IntStream.range(0, 10_000)
+                .mapToObj(i -> "{\"_key\":\"p" + i + "\",\"price\":" + i + "}")
+                .collect(Collectors.joining("\n"));
+        ArangoSeeder.builder(container).build()
+                .seed(ArangoSeed.jsonl("products", new ByteArrayInputStream(documents.getBytes(StandardCharsets.UTF_8))));
+
+        // dump is produced by arangodump inside container and copied to host as fixture directory
+        final ExecResult dumped = container.execInContainer("arangodump", "--server.authentication=false",
+                "--collection=products", "--output-directory=/tmp/fixture");
+        assertEquals(0, dumped.getExitCode(), dumped.getStderr());
+        final String files = container.execInContainer("ls", "/tmp/fixture").getStdout();
+        for (String file : files.split("\\s+")) {
+            if (!file.isBlank()) {
+                container.copyFileFromContainer("/tmp/fixture/" + file, dump.resolve(file).toString());
+            }
+        }
+
+        final ArangoRestoreReport report = ArangoDumpRestore.builder(dump)
+                .withDatabase("restored")
+                .withThreads(2)
+                .build()
+                .restore(container);
+
+        assertTrue(report.bytes() > 0);
+        assertTrue(report.megabytesPerSecond() > 0);
+        final ArangoHttpClient client = ArangoHttpClient.of(container).withDatabase("restored");
+        assertEquals(10_000L, client.get("/_api/collection/products/count").json().get("count"));
+        assertNotEquals(0, container.execInContainer("sh", "-c", "ls -d /tmp/arangodump-*").getExitCode());
+    }
+
+    @Test
+    void unknownPasswordFailsFast() {
+        final ArangoDumpRestore restore = ArangoDumpRestore.builder(dump).build();
+        final ArangoContainer randomPassword = new ArangoContainer(IMAGE_3_12).withRandomPassword();
+
+        final IllegalStateException e = assertThrows(IllegalStateException.class, () -> restore.restore(randomPassword));
+        assertTrue(e.getMessage().contains("password"), e.getMessage());
+    }
+}
@@ -0,0 +1,61 @@
+package io.testcontainers.arangodb.seed;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoGeneratorTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withoutAuth()
+            .withFastStorage();
+
+    @Test
+    void generationIsDeterministic() throws IOException {
+        final ArangoSeed first = ArangoDocumentGenerator.of("users", 1_000).withSeed(7).withField("country", 10).toSeed();
+        final ArangoSeed second = ArangoDocumentGenerator.of("users", 1_000).withSeed(7).withField("country", 10).toSeed();
+        final ArangoSeed other = ArangoDocumentGenerator.of("users", 1_000).withSeed(8).withField("country", 10).toSeed();
+        try (InputStream a = first.open(); InputStream b = second.open(); InputStream c = other.open()) {
+            final byte[] bytes = a.readAllBytes();
+            assertArrayEquals(bytes, b.readAllBytes());
+            assertFalse(Arrays.equals(bytes, c.readAllBytes()));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void powerLawGraphSeeded() {
+        final ArangoSeedReport report = ArangoSeeder.builder(container).build()
+                .seed(ArangoGraphGenerator.powerLaw("people", 10_000, "knows", 50_000)
+                        .withSeed(42)
+                        .withVertexField("city", 20)
+                        .withEdgeNumberField("weight", 10)
+                        .toSeeds());
+        assertEquals(60_000, report.created());
+
+        final ArangoHttpClient client = ArangoHttpClient.of(container);
+        final Map<String, Object> cities = client.post("/_api/cursor", Map.of(
+                "query", "RETURN COUNT_DISTINCT(FOR p IN people RETURN p.city)")).requireSuccess("Query").json();
+        assertEquals(List.of(20L), cities.get("result"));
+
+        // uniform graph would give ~5 edges per vertex, most popular vertex of power-law graph has thousands
+        final Map<String, Object> hub = client.post("/_api/cursor", Map.of(
+                "query", "FOR e IN knows COLLECT v = e._to WITH COUNT INTO c SORT c DESC LIMIT 1 RETURN c"))
+                .requireSuccess("Query").json();
+        assertTrue((Long) ((List<Object>) hub.get("result")).get(0) > 1_000, hub.toString());
+    }
+}
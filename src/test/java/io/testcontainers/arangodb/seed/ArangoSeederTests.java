@@ -0,0 +1,86 @@
+package io.testcontainers.arangodb.seed;
+
+import io.testcontainers.arangodb.ArangoRunner;
+import io.testcontainers.arangodb.containers.ArangoContainer;
+import io.testcontainers.arangodb.http.ArangoHttpClient;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 17.10.2026
+ */
+@Testcontainers
+class ArangoSeederTests extends ArangoRunner {
+
+    @Container
+    private static final ArangoContainer container = new ArangoContainer(IMAGE_3_12)
+            .withoutAuth()
+            .withFastStorage();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void collectionsSeededInBatches() throws IOException {
+        final Path users = directory.resolve("users.jsonl.gz");
+        try (OutputStream stream = new GZIPOutputStream(Files.newOutputStream(users));
+                Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 25_000; i++) {
+                writer.write("{\"_key\":\"u" + i + "\",\"name\":\"user " + i + "\"}\n");
+            }
+        }
+
+        final String follows = """
+                [
+                  {"_from": "users/u1", "_to": "users/u2", "note": "contains ] and , and \\" in string"},
+                  {"_from": "users/u2",
+                   "_to": "users/u3",
+                   "tags": [{"a": 1}, {"b": [2, 3]}]}
+                ]
+                """;
+
+        final ArangoSeedReport report = ArangoSeeder.builder(container)
+                .withBatchSize(1_000)
+                .withConcurrency(2)
+                .withIndexPreload()
+                .build()
+                .seed(ArangoSeed.jsonl("users", users),
+                        ArangoSeed.jsonArray("follows", new ByteArrayInputStream(follows.getBytes(StandardCharsets.UTF_8)))
+                                .asEdges());
+
+        assertEquals(25_002, report.documents());
+        assertEquals(25_002, report.created());
+        assertEquals(0, report.errors());
+        assertEquals(25, report.collection("users").orElseThrow().batches());
+
+        final ArangoHttpClient client = ArangoHttpClient.of(container);
+        assertEquals(25_000L, client.get("/_api/collection/users/count").json().get("count"));
+        assertEquals(3L, client.get("/_api/collection/follows").json().get("type"));
+        assertEquals(2L, client.get("/_api/collection/follows/count").json().get("count"));
+    }
+
+    @Test
+    void rejectedDocumentsFailSeedingUnlessIgnored() {
+        final String documents = "{\"_key\":\"same\"}\n{\"_key\":\"same\"}\n";
+
+        assertThrows(IllegalStateException.class, () -> ArangoSeeder.builder(container).build()
+                .seed(ArangoSeed.jsonl("duplicates", new ByteArrayInputStream(documents.getBytes(StandardCharsets.UTF_8)))));
+
+        final ArangoSeedReport report = ArangoSeeder.builder(container).withIgnoreErrors().build()
+                .seed(ArangoSeed.jsonl("duplicates_ignored", new ByteArrayInputStream(documents.getBytes(StandardCharsets.UTF_8))));
+        assertEquals(1, report.created());
+        assertEquals(1, report.errors());
+    }
+}